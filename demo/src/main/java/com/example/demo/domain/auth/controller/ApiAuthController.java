@@ -5,11 +5,13 @@ package com.example.demo.domain.auth.controller;
     - Demo UI에서 호출할 JWT 인증 관련  API ( logout / refresh )
     - POST /api/auth/logout
     - POST /api/auth/refresh
+    - GET /api/auth/sessions, DELETE /api/auth/sessions/{deviceId} (로그인 기기 관리)
     - 동작:
             1) logout: JWT HttpOnly 쿠키를 만료시켜 브라우저에서 삭제되도록 Set-Cookie 내려줌
             2) refresh: Refresh 쿠키 기반으로 Access/Refresh 쿠키 재발급(회전 포함)하여 Set-Cookie 내려줌
 */
 
+import com.example.demo.domain.auth.dto.AuthSessionResponseDto;
 import com.example.demo.domain.user.entity.User;
 import com.example.demo.domain.user.service.UserService;
 import com.example.demo.global.response.ApiResponse;
@@ -17,17 +19,23 @@ import com.example.demo.global.security.CustomUserDetails;
 import com.example.demo.global.security.jwt.properties.JwtProperties;
 import com.example.demo.global.security.jwt.service.JwtService;
 import com.example.demo.global.security.jwt.service.RefreshTokenService;
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RotationResult;
 import com.example.demo.global.security.jwt.service.TokenBlacklistService;
+import com.example.demo.global.security.jwt.service.TokenRevocationService;
+import com.example.demo.global.security.jwt.token.VerifiedToken;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Duration;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -37,7 +45,8 @@ public class ApiAuthController {
     private final JwtProperties jwtProperties; // 쿠키명/만료/옵션(jwt.*) 설정값 사용
     private final JwtService jwtService;
     private final RefreshTokenService refreshTokenService;
-    private final TokenBlacklistService tokenBlacklistService;
+    private final TokenBlacklistService tokenBlacklistService; // 로그아웃한 기기의 Access(jti) 차단
+    private final TokenRevocationService tokenRevocationService; // 사용자 단위 Access 무효화(epoch)
     private final UserService userService;
 
     @PostMapping("/logout") // POST /api/auth/logout
@@ -46,26 +55,24 @@ public class ApiAuthController {
         // 1) 서버 측 SecurityContext 정리 (STATELESS라도 현재 요청 컨텍스트는 비워두는 게 깔끔)
         SecurityContextHolder.clearContext();
 
-        // Refresh 쿠키에서 userId추출 (Redis Refresh 삭제용)
-        Long userId = null;
-        Cookie[] cookies = request.getCookies(); // 요청 쿠키 배열
-
-        if (cookies != null) { // 쿠키 존재하면 탐색
-            for (Cookie c : cookies) { // Refresh 쿠키 찾기
-                if (jwtProperties.getRefreshCookieName().equals(c.getName())) {
-                    String refreshToken = c.getValue(); // Refresh쿠기 값
-                    // Refresh가 유효한 경우에만 userId 추출(만료/위조면 userId 추출 시도하지 않음)
-                    if (refreshToken != null && !refreshToken.isBlank() && jwtService.validateToken(refreshToken)) {
-                        userId = jwtService.getUserId(refreshToken); // Refresh claim에서 userId 추출
-                    }
-                    break; // Refresh 쿠키 확인 후 종료
-                }
+        // Refresh / Access 쿠키 검증 (만료/위조면 null -> 해당 정리 생략)
+        VerifiedToken verifiedRefresh = jwtService.verify(findCookieValue(request, jwtProperties.getRefreshCookieName()));
+        VerifiedToken verifiedAccess = jwtService.verify(findCookieValue(request, jwtProperties.getCookieName()));
+
+        // 현재 기기의 Refresh 세션만 삭제 (다른 기기 로그인은 유지)
+        // did 없는 이전 방식 Refresh 는 사용자 세션 전체 삭제
+        if (verifiedRefresh != null && verifiedRefresh.getUserId() != null) {
+            Long userId = verifiedRefresh.getUserId();
+            if (verifiedRefresh.getDeviceId() != null) {
+                refreshTokenService.deleteRefreshToken(userId, verifiedRefresh.getDeviceId());
+            } else {
+                refreshTokenService.deleteAllRefreshTokens(userId);
             }
         }
 
-        // Redis에 저장된 Refresh 삭제 (단일 로그인: userId 당 Refresh 1개)
-        if  (userId != null) {
-            refreshTokenService.deleteRefreshToken(userId);
+        // 현재 기기의 Access 만 차단 (jti 1개, 남은 TTL 만큼), 사용자 전체 무효화(epoch)는 재사용 감지/탈퇴에서 사용
+        if (verifiedAccess != null) {
+            tokenBlacklistService.blacklistAccessToken(verifiedAccess.getJti(), verifiedAccess.getRemainingTtl());
         }
 
          /*2) Access + Refresh JWT 쿠키를 모두 만료시키는 Set-Cookie 생성
@@ -115,54 +122,46 @@ public class ApiAuthController {
             throw new IllegalArgumentException("Refresh 토큰이 없습니다.");
         }
 
-        // 3) Refresh 토큰 유효성 검증(서명/만료) validateToken(boolean) 결과를 반드시 반영
-        boolean refreshValid = jwtService.validateToken(refreshToken);
-        if (!refreshValid) {
+        // 3) Refresh 토큰 유효성 검증(서명/만료) + 클레임 조회 (1회 파싱)
+        VerifiedToken verifiedRefresh = jwtService.verify(refreshToken);
+        if (verifiedRefresh == null) {
             throw new IllegalArgumentException("Refresh 토큰이 유효하지 않습니다.");
         }
 
-        // 4) Refresh에서 userId 추출
-        Long userId = jwtService.getUserId(refreshToken);
+        // 4) Refresh에서 userId, 기기 식별자(did) 추출
+        Long userId = verifiedRefresh.getUserId();
+        String deviceId = verifiedRefresh.getDeviceId();
 
-        // 5) 새 Refresh 토큰 생성
-        String newRefreshToken = jwtService.generateRefreshToken(userId);
+        // 5) 새 Refresh 토큰 생성 (같은 기기 세션 유지)
+        String newRefreshToken = jwtService.generateRefreshToken(userId, deviceId);
 
-        // 6) Redis Refresh 회전 (단일 로그인)
+        // 6) Redis Refresh 회전 (기기 세션 단위)
         Duration refreshTtl = Duration.ofDays(jwtProperties.getRefreshTokenExpDays());
 
-        // rotateRefreshToken은 성공/실패(boolean) 반환
-        boolean rotated = refreshTokenService.rotateRefreshToken(
+        // rotateRefreshToken은 ROTATED / REUSE_DETECTED / MISSING 반환 (Redis 스크립트 1회, 원자적 CAS)
+        RotationResult rotation = refreshTokenService.rotateRefreshToken(
                 userId,
+                deviceId,
                 refreshToken,      // presentedRefreshToken
                 newRefreshToken,   // newRefreshToken
                 refreshTtl
         );
 
-        // 재사용 감지 사고 대응
-        if (!rotated) {
-            // 6-1) Redis에 저장된 Refresh 삭제
-            refreshTokenService.deleteRefreshToken(userId);
-            // 6-2) 요청에 포함된 Access 토큰 추출
-            String accessToken = null;
-            if (cookies != null) {
-                for (Cookie c : cookies) {
-                    if (jwtProperties.getCookieName().equals(c.getName())) {
-                        accessToken = c.getValue();
-                        break;
-                    }
-                }
+        // 회전 실패 : 이 기기의 Access + Refresh 쿠키 만료 후 401
+        if (rotation != RotationResult.ROTATED) {
+            String message = "로그인 세션이 만료되었습니다. 다시 로그인해주세요.";
+
+            // 재사용 감지(저장값과 불일치)만 침해로 간주
+            // 저장값 없음(MISSING)은 만료/기기 로그아웃/최대 기기 수 초과로 밀려난 세션 -> 이 기기만 정리, 다른 기기 로그인 유지
+            if (rotation == RotationResult.REUSE_DETECTED) {
+                // 6-1) Redis에 저장된 Refresh 삭제 (모든 기기, 탈취 범위를 알 수 없으므로)
+                refreshTokenService.deleteAllRefreshTokens(userId);
+                // 6-2) 해당 사용자의 Access 전체 무효화 (사용자 epoch 1회 기록, 탈취된 Access 포함)
+                tokenRevocationService.revokeAll(userId);
+                message = "비정상적인 토큰 재사용이 감지되어 로그아웃되었습니다.";
             }
 
-            // 6-3) Access jti 추출 & 블랙리스트 등록
-            if (accessToken != null && !accessToken.isBlank()) {
-                String jti = jwtService.getJti(accessToken);// Access 토큰에서 jti를 뽑아 차단 대상을 특정
-                Duration accessRemainingTtl = jwtService.getRemainingTtl(accessToken);
-                // Access 남은 만료 시간(Duration)을 계산, 블랙리스트TTL을 Access 남은 TTL과 맞춰 부담 최소화
-                tokenBlacklistService.blacklistAccessToken(jti, accessRemainingTtl);
-                // jti를 Redis 블랙리스트에 등록
-            }
-
-            // 6-4) Access + Refresh 쿠키 모두 만료 처리
+            // 6-3) Access + Refresh 쿠키 모두 만료 처리
             ResponseCookie expiredAccessCookie = ResponseCookie// jwt.cookie-name을 사용해 동일한 쿠키를 만료시키기
                     .from(jwtProperties.getCookieName(), "")
                     .httpOnly(true)
@@ -177,12 +176,12 @@ public class ApiAuthController {
                     .maxAge(0) // 즉시 만료
                     .build();
 
-            // 6-5) 401 실패 응답 반환
+            // 6-4) 401 실패 응답 반환
             return ResponseEntity.status(401)
                     .header(HttpHeaders.SET_COOKIE,
                             expiredAccessCookie.toString(),
                             expiredRefreshCookie.toString())
-                    .body(ApiResponse.fail("비정상적인 토큰 재사용이 감지되어 로그아웃되었습니다."));
+                    .body(ApiResponse.fail(message));
         }
 
 
@@ -222,4 +221,53 @@ public class ApiAuthController {
                 .body(ApiResponse.success(null, "토큰 재발급 성공"));
     }
 
+
+    /*
+        로그인 기기 세션 목록
+        - GET /api/auth/sessions
+        - 현재 요청 기기(Refresh 쿠키의 did)는 current=true
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<ApiResponse<List<AuthSessionResponseDto>>> getSessions(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            HttpServletRequest request
+    ) {
+        VerifiedToken verifiedRefresh = jwtService.verify(findCookieValue(request, jwtProperties.getRefreshCookieName()));
+        String currentDeviceId = (verifiedRefresh != null) ? verifiedRefresh.getDeviceId() : null;
+
+        List<AuthSessionResponseDto> sessions = refreshTokenService.getSessions(principal.getId()).stream()
+                .map(session -> AuthSessionResponseDto.from(session, currentDeviceId))
+                .toList();
+        return ResponseEntity.ok(ApiResponse.success(sessions, "로그인 기기 목록 조회 성공"));
+    }
+
+    /*
+        로그인 기기 세션 삭제 (다른 기기 로그아웃)
+        - DELETE /api/auth/sessions/{deviceId}
+        - 해당 기기의 Refresh 만 삭제 (HDEL 1회), 이미 발급된 Access 는 남은 만료 시간(최대 jwt.access-token-exp-minutes) 동안 유지
+     */
+    @DeleteMapping("/sessions/{deviceId}")
+    public ResponseEntity<ApiResponse<Void>> deleteSession(
+            @AuthenticationPrincipal CustomUserDetails principal,
+            @PathVariable String deviceId
+    ) {
+        if (!refreshTokenService.deleteRefreshToken(principal.getId(), deviceId)) {
+            throw new EntityNotFoundException("로그인 기기 세션을 찾을 수 없습니다. deviceId=" + deviceId);
+        }
+        return ResponseEntity.ok(ApiResponse.success("로그인 기기 세션 삭제 성공"));
+    }
+
+    // 요청 쿠키에서 이름이 같은 쿠키 값 반환, 없으면 null
+    private String findCookieValue(HttpServletRequest request, String cookieName) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null || cookieName == null) {
+            return null;
+        }
+        for (Cookie c : cookies) {
+            if (cookieName.equals(c.getName())) {
+                return c.getValue();
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.demo.domain.auth.dto;
+
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RefreshSession;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/*
+    AuthSessionResponseDto : 로그인 기기 세션 조회 응답 DTO
+        - GET /api/auth/sessions 목록의 항목 1개
+        - Refresh 토큰/해시는 노출하지 않고 기기 식별자와 시각 정보만 내려줌
+        - current : 요청을 보낸 기기(Refresh 쿠키의 did)와 같은 세션이면 true
+*/
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthSessionResponseDto {
+
+    private String deviceId;
+    private LocalDateTime createdAt;       // 최초 로그인 시각
+    private LocalDateTime lastRefreshedAt; // 마지막 토큰 갱신 시각
+    private LocalDateTime expiresAt;       // 세션 만료 시각
+    private boolean current;
+
+    @Builder
+    private AuthSessionResponseDto(
+            String deviceId,
+            LocalDateTime createdAt,
+            LocalDateTime lastRefreshedAt,
+            LocalDateTime expiresAt,
+            boolean current
+    ) {
+        this.deviceId = deviceId;
+        this.createdAt = createdAt;
+        this.lastRefreshedAt = lastRefreshedAt;
+        this.expiresAt = expiresAt;
+        this.current = current;
+    }
+
+    public static AuthSessionResponseDto from(RefreshSession session, String currentDeviceId) {
+        ZoneId zone = ZoneId.systemDefault();
+        return AuthSessionResponseDto.builder()
+                .deviceId(session.deviceId())
+                .createdAt(LocalDateTime.ofInstant(session.createdAt(), zone))
+                .lastRefreshedAt(LocalDateTime.ofInstant(session.lastRefreshedAt(), zone))
+                .expiresAt(LocalDateTime.ofInstant(session.expiresAt(), zone))
+                .current(session.deviceId().equals(currentDeviceId))
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.example.demo.domain.comment.entity.Comment;
 import com.example.demo.domain.comment.repository.CommentRepository;
 import com.example.demo.domain.post.entity.Post;
 import com.example.demo.domain.post.repository.PostRepository;
+import com.example.demo.domain.post.service.PostRedisCache;
 import com.example.demo.domain.user.entity.User;
 import com.example.demo.domain.user.repository.UserRepository;
 import com.example.demo.global.security.CustomUserDetails;
@@ -38,6 +39,7 @@ public class CommentService {
     private final CommentRepository commentRepository; //댓글 DB작업 담당 리포지토리
     private final PostRepository postRepository;  // 댓글이 달릴 게시글 찾는 리포지토리
     private final UserRepository userRepository; // 댓글 작성자 찾는 리포지토리
+    private final PostRedisCache postRedisCache; // 댓글 변경 시 게시글 상세 캐시 무효화
 
     /*
         댓글 생성 메서드
@@ -68,8 +70,10 @@ public class CommentService {
                 .author(author)
                 .content(content)
                 .build();
-        // 4) DB 저장 후, 저장된 엔티티 반환
-        return commentRepository.save(comment);
+        // 4) DB 저장 후, 저장된 엔티티 반환 (커밋 후 게시글 상세 캐시 무효화)
+        Comment saved = commentRepository.save(comment);
+        postRedisCache.evictPostAfterCommit(postId);
+        return saved;
     }
 
     /*
@@ -191,6 +195,7 @@ public class CommentService {
 
         // 3) 엔티티의 updateContent 메서드 호출 (내용 변경)
         comment.updateContent(newContent);
+        postRedisCache.evictPostAfterCommit(comment.getPost().getId()); // 커밋 후 게시글 상세 캐시 무효화
 
         // 4) @Transactional 상태라 save 필요 없음, 변경 감지로 자동 반영
         return comment;
@@ -230,5 +235,6 @@ public class CommentService {
             - 트랜잭션 종료 시 Dirty Checking 으로 UPDATE 반영
          */
         comment.delete();
+        postRedisCache.evictPostAfterCommit(comment.getPost().getId()); // 커밋 후 게시글 상세 캐시 무효화
     }
 }
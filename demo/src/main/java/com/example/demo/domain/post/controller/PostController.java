@@ -99,6 +99,23 @@ public class PostController {
         // ⭐ 페이징 결과를 ApiResponse로 감싸서 반환
     }
 
+    // 3-1. 전체 게시글 최신순 조회 (커서 기반)
+    //    [GET] /api/posts/cursor?size=10            (첫 페이지)
+    //    [GET] /api/posts/cursor?after={nextCursor}&size=10 (다음 페이지)
+    /*  - OFFSET 대신 마지막 id 기준으로 seek 하므로 깊은 페이지도 첫 페이지와 같은 속도
+        - 기존 Page 방식(/api/posts)은 호환을 위해 그대로 유지
+    */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<PostCursorResponseDto>> getPostsByCursor(
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        PostCursorResponseDto response = postService.getPostsByCursor(after, size);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(response, "게시글 목록 조회 성공"));
+    }
+
     // 4. 작성자 기준 게시글 조회 (페이징)
     //    [GET] /posts/author/{authorId}?page=0&size=10
     @GetMapping("/author/{authorId}")
@@ -238,6 +255,41 @@ public class PostController {
 
 
 
+    // 8-1. 게시글 LIKE 추가 (멱등)
+    /*  [PUT] /api/posts/{postId}/likes
+            - 이미 좋아요 상태여도 그대로 좋아요 상태 유지 (재시도/중복 클릭 안전)
+            - 응답 : 최종 상태(liked=true) + 현재 좋아요 수
+    */
+    @PutMapping("/{postId}/likes")
+    public ResponseEntity<ApiResponse<PostLikeToggleResponseDto>> likePost(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails principal){
+        Long userId = principal.getId();
+
+        // 동시 요청 충돌(UNIQUE 충돌/락 충돌)은 PostLikeService 안에서 처리
+        PostLikeToggleResponseDto responseDto = postLikeService.like(postId, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(responseDto, "게시글 좋아요 성공"));
+    }
+
+    // 8-2. 게시글 LIKE 취소 (멱등)
+    /*  [DELETE] /api/posts/{postId}/likes
+            - 좋아요가 없어도 그대로 취소 상태 유지
+            - 응답 : 최종 상태(liked=false) + 현재 좋아요 수
+    */
+    @DeleteMapping("/{postId}/likes")
+    public ResponseEntity<ApiResponse<PostLikeToggleResponseDto>> unlikePost(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails principal){
+        Long userId = principal.getId();
+
+        PostLikeToggleResponseDto responseDto = postLikeService.unlike(postId, userId);
+
+        return ResponseEntity.ok(
+                ApiResponse.success(responseDto, "게시글 좋아요 취소 성공"));
+    }
+
     // 9. 게시글 좋아요 개수 조회     [GET] /posts/{postId}/likes/count
     @GetMapping("/{postId}/likes/count")// HTTP GET /posts/{postId}/likes/count 요청시 처리 메서드
     public ResponseEntity<ApiResponse<PostLikeCountResponseDto>> getPostLikeCount(
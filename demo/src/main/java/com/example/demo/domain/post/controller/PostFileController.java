@@ -0,0 +1,193 @@
+package com.example.demo.domain.post.controller;
+
+import com.example.demo.global.file.ByteRange;
+import com.example.demo.global.file.FileStorageService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/*
+    업로드 이미지 원본/축소본 제공 ([GET|HEAD] /posts/{filename})
+    - 기존 : WebConfig 정적 리소스 핸들러 -> Cache-Control/검증자/Range 없이 상세 조회마다 사진 전체 재다운로드
+    - 변경
+        1) 파일명이 내용 해시/uuid(축소본은 원본명_w폭) 라 같은 주소의 내용은 바뀌지 않음
+           -> ETag = 파일명 기반 강한 검증자, Cache-Control: public, max-age=1년, immutable
+        2) If-None-Match 일치 -> 파일을 열지 않고 304
+        3) Range (단일 구간) -> 206 + Content-Range, If-Range 가 ETag 와 다르면 전체(200)
+        4) 본문 전송
+            - 로컬 저장 + Tomcat sendfile 지원 -> 요청 속성으로 파일 구간만 넘기고 커널이 바로 소켓으로 전송
+            - 그 외 로컬 저장 -> FileChannel.transferTo 로 힙 버퍼 복사 없이 출력 채널로 전송
+            - S3 저장 -> HeadObject 로 크기만 확인, 본문은 해당 구간만 ranged GetObject 스트림으로 받아 바로 전송
+              >> 객체 전체를 힙에 올리지 않음 (큰 원본 / Range 이어받기 요청에도 요청당 메모리 일정)
+    - 비로그인 허용 (SecurityConfig : /posts/**)
+*/
+@RestController
+@RequiredArgsConstructor
+public class PostFileController {
+
+    // 확장자는 선택 (업로드 파일명에 확장자가 없으면 posts/{sha256} 로 저장됨)
+    private static final Pattern FILENAME = Pattern.compile("[A-Za-z0-9_-]+(\\.[A-Za-z0-9]+)?");
+    private static final String CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals 와 같은 이름)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end"; // 끝 위치 미포함(exclusive)
+
+    private final FileStorageService fileStorageService;
+
+    @RequestMapping(value = "/posts/{filename}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(
+            @PathVariable String filename,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if (!FILENAME.matcher(filename).matches()) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        String etag = "\"" + filename + "\"";
+
+        // 1) 이미 가진 버전이면 파일을 열지 않고 304
+        if (matchesIfNoneMatch(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            writeCacheHeaders(response, etag);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        // 2) 원본 위치 확인 (없으면 404, 캐시 헤더를 붙이기 전에 확인)
+        String key = "posts/" + filename;
+        Path local = fileStorageService.localPath(key);
+        long length;
+        if (local != null) {
+            if (!Files.isRegularFile(local)) {
+                throw new EntityNotFoundException("파일을 찾을 수 없습니다.");
+            }
+            length = Files.size(local);
+        } else {
+            length = remoteLength(key);
+        }
+
+        writeCacheHeaders(response, etag);
+        // 확장자가 없거나 모르는 확장자면 octet-stream
+        response.setContentType(MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+
+        // 3) Range (If-Range 가 현재 ETag 와 다르면 무시하고 전체 전송)
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = (ifRange == null || ifRange.equals(etag))
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length)
+                : null;
+
+        if (range == ByteRange.UNSATISFIABLE) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.setContentLengthLong(0);
+            return;
+        }
+        if (range == null) {
+            range = new ByteRange(0, length - 1);
+            response.setStatus(HttpServletResponse.SC_OK);
+        } else {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + length);
+        }
+        response.setContentLengthLong(range.length());
+
+        if ("HEAD".equals(request.getMethod()) || range.length() <= 0) {
+            return;
+        }
+
+        // 4) 본문 전송
+        if (local == null) {
+            try (InputStream in = fileStorageService.openRemoteRange(key, range.start(), range.end())) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, local.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+        transfer(local, range, response);
+    }
+
+    private static void transfer(Path file, ByteRange range, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break; // 전송 중 파일이 줄어든 경우
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    // S3 객체 크기 (HEAD 404 는 본문이 없어 NoSuchKeyException 이 아닌 S3Exception 으로 올 수 있음)
+    private long remoteLength(String key) {
+        try {
+            return fileStorageService.remoteLength(key);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new EntityNotFoundException("파일을 찾을 수 없습니다.");
+            }
+            throw e;
+        }
+    }
+
+    private static void writeCacheHeaders(HttpServletResponse response, String etag) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    }
+
+    // If-None-Match : "*" 또는 쉼표 목록 중 하나라도 일치 (약한 비교, W/ 접두어 무시)
+    private static boolean matchesIfNoneMatch(String header, String etag) {
+        if (header == null || header.isBlank()) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.domain.post.controller;
+
+import com.example.demo.global.file.ImageResizeService;
+import com.example.demo.global.file.ImageResizeService.Rendition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/*
+    게시글 이미지 요청 시점 리사이즈
+    - [GET] /img/posts/{filename}?w=&h=&q=
+        - w / h : 최대 폭/높이 (둘 중 하나 이상), 비율 유지, 확대하지 않음
+        - q     : jpg 품질 (1 ~ 100, 생략 시 기본값)
+    - 파일명이 uuid 라 같은 주소의 내용은 바뀌지 않음 -> 브라우저/CDN 장기 캐시 허용
+    - 비로그인 허용 (SecurityConfig : /img/**)
+*/
+@RestController
+@RequiredArgsConstructor
+public class PostImageController {
+
+    private static final Duration MAX_AGE = Duration.ofDays(30);
+
+    private final ImageResizeService imageResizeService;
+
+    @GetMapping("/img/posts/{filename}")
+    public ResponseEntity<byte[]> resize(
+            @PathVariable String filename,
+            @RequestParam(name = "w", required = false) Integer width,
+            @RequestParam(name = "h", required = false) Integer height,
+            @RequestParam(name = "q", required = false) Integer quality
+    ) {
+        Rendition rendition = imageResizeService.resize(filename, width, height, quality);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(rendition.contentType()))
+                .cacheControl(CacheControl.maxAge(MAX_AGE).cachePublic())
+                .body(rendition.bytes());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.domain.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/*
+    PostCursorResponseDto : 커서(keyset) 기반 목록 조회 응답 DTO
+        - posts      : 이번 요청으로 내려가는 게시글 목록 (id 내림차순)
+        - nextCursor : 다음 요청 시 after 파라미터로 그대로 넘길 불투명(opaque) 커서 (마지막 페이지면 null)
+        - hasNext    : 다음 페이지 존재 여부
+*/
+@Getter
+@Builder
+public class PostCursorResponseDto {
+
+    private final List<PostListResponseDto> posts;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final int size;
+}
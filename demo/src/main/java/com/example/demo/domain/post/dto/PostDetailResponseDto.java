@@ -3,6 +3,8 @@ package com.example.demo.domain.post.dto;
 
 import com.example.demo.domain.comment.dto.CommentResponseDto;
 import com.example.demo.domain.post.entity.Post;
+import com.example.demo.global.file.ImageVariants;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -23,6 +25,7 @@ public class PostDetailResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String imagePath;
+    private String imageVariants; // 폭별 축소본 key 목록 (ImageVariants 형식, 생성 전이면 null)
 
     // 서비스 계층에서 최신 10개만 추려서 댓글목록을 담는 필드로 설계
     private List<CommentResponseDto> latestComments;
@@ -50,7 +53,8 @@ public class PostDetailResponseDto {
             long totalCommentsCount,
             int latestCommentsSize,
             long likeCount,
-            String imagePath
+            String imagePath,
+            String imageVariants
     ) {
         this.id = id;
         this.title = title;
@@ -65,6 +69,38 @@ public class PostDetailResponseDto {
         this.latestCommentsSize = latestCommentsSize;
         this.likeCount = likeCount;
         this.imagePath = imagePath;
+        this.imageVariants = imageVariants;
+    }
+
+    // 상세 화면 기본 이미지 : 800px 이상 중 가장 작은 축소본 (srcset 미지원 브라우저용)
+    @JsonIgnore
+    public String getDisplayImagePath() {
+        return ImageVariants.pick(imagePath, imageVariants, 800);
+    }
+
+    // 상세 화면 <img srcset> 값 (축소본이 없으면 null -> 속성 생략)
+    @JsonIgnore
+    public String getImageSrcset() {
+        return ImageVariants.srcset(imageVariants);
+    }
+    // 조회수만 바꾼 사본 (공유 캐시의 상세는 캐싱 시점 조회수로 고정되어 있으므로 응답 직전에 최신 값으로 교체)
+    public PostDetailResponseDto withViews(int views) {
+        return PostDetailResponseDto.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .views(views)
+                .authorId(authorId)
+                .authorName(authorName)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .latestComments(latestComments)
+                .totalCommentsCount(totalCommentsCount)
+                .latestCommentsSize(latestCommentsSize)
+                .likeCount(likeCount)
+                .imagePath(imagePath)
+                .imageVariants(imageVariants)
+                .build();
     }
 
 
@@ -94,6 +130,20 @@ public class PostDetailResponseDto {
             long totalCommentsCount, //전체 댓글 개수
             int latestCommentsSize, // 응답에 포함된 최신 댓글 개수
             long likeCount // 게시글 좋아요 개수
+    ){
+        return from(post, latestComments, totalCommentsCount, latestCommentsSize, likeCount, post.getViews());
+    }
+
+    /*      정적 팩토리 메서드 (조회수 지정 버전)
+        - 조회수가 메모리 버퍼에 쌓여 아직 DB에 반영되지 않은 경우, 합산한 조회수를 전달받아 사용
+    */
+    public static PostDetailResponseDto from(
+            Post post,
+            List<CommentResponseDto> latestComments, //최신 댓글 목록 (최대 10)
+            long totalCommentsCount, //전체 댓글 개수
+            int latestCommentsSize, // 응답에 포함된 최신 댓글 개수
+            long likeCount, // 게시글 좋아요 개수
+            int views // 조회수 (DB + 미반영분)
     ){
         // null 방어: latestComments 가 null 인 상황을 대비하여 빈 리스트로 처리할 수도 있음
         // (현재는 서비스 계층에서 알아서 List를 넘겨준다고 가정하고 그대로 사용)
@@ -101,7 +151,7 @@ public class PostDetailResponseDto {
                 .id(post.getId()) // Post 엔티티의 id값을 DTO id필드에 설정
                 .title(post.getTitle())// Post의title > DTO의 title필드에 설정
                 .content(post.getContent())
-                .views(post.getViews())
+                .views(views)
                 .authorId(post.getAuthor().getId())
                 .authorName(post.getAuthor().getNickname())
                 .createdAt(post.getCreatedAt())
@@ -111,6 +161,7 @@ public class PostDetailResponseDto {
                 .latestCommentsSize(latestCommentsSize)   // 이번 응답에 포함된 댓글 개수 설정
                 .likeCount(likeCount)                    // 게시글 좋아요 개수 설정
                 .imagePath(post.getImagePath())
+                .imageVariants(post.getImageVariants())
                 .build();
         // 빌더에 채워진 값들을 사용해서 최종 PostDetailResponseDto 객체를 생성하여 반환
     }
@@ -0,0 +1,78 @@
+package com.example.demo.domain.post.dto;
+
+import java.util.Arrays;
+import java.util.List;
+
+/*
+    PostLikeCounts : 여러 게시글의 좋아요 수 묶음 (postId -> likeCount)
+        - PostLikeRepository.countGroupByPostIds(...) 결과(GROUP BY 1회)를 감싸는 읽기 전용 객체
+        - Map<Long, Long> 대신 정렬된 long[] 두 개로 보관 (박싱 없이 이진 탐색 조회)
+        - 결과에 없는 게시글(좋아요 0개)은 0 반환
+*/
+public final class PostLikeCounts {
+
+    private static final PostLikeCounts EMPTY = new PostLikeCounts(new long[0], new long[0]);
+
+    private final long[] postIds; // 오름차순 정렬
+    private final long[] counts;  // postIds 와 같은 인덱스
+
+    private PostLikeCounts(long[] postIds, long[] counts) {
+        this.postIds = postIds;
+        this.counts = counts;
+    }
+
+    public static PostLikeCounts empty() {
+        return EMPTY;
+    }
+
+    // [postId, count] 행 목록 -> PostLikeCounts (쿼리에서 정렬되지 않았어도 동작하도록 정렬 여부 확인)
+    public static PostLikeCounts of(List<Object[]> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return EMPTY;
+        }
+        int size = rows.size();
+        long[] ids = new long[size];
+        long[] values = new long[size];
+        boolean sorted = true;
+
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = ((Number) row[0]).longValue();
+            values[i] = ((Number) row[1]).longValue();
+            if (i > 0 && ids[i - 1] > ids[i]) {
+                sorted = false;
+            }
+        }
+
+        if (!sorted) {
+            sortByPostId(ids, values);
+        }
+        return new PostLikeCounts(ids, values);
+    }
+
+    // 해당 게시글의 좋아요 수 (없으면 0)
+    public long get(long postId) {
+        int index = Arrays.binarySearch(postIds, postId);
+        return index >= 0 ? counts[index] : 0L;
+    }
+
+    public int size() {
+        return postIds.length;
+    }
+
+    // 정렬이 필요한 경우에만 사용 (한 페이지 분량이라 단순 삽입 정렬로 충분)
+    private static void sortByPostId(long[] ids, long[] values) {
+        for (int i = 1; i < ids.length; i++) {
+            long id = ids[i];
+            long value = values[i];
+            int j = i - 1;
+            while (j >= 0 && ids[j] > id) {
+                ids[j + 1] = ids[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            ids[j + 1] = id;
+            values[j + 1] = value;
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.demo.domain.post.dto;
 
 
+import com.example.demo.global.file.ImageVariants;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -8,6 +12,7 @@ import java.time.LocalDateTime;
 /*
     PostListResponseDto : 목록 조회 전용 DTO
         목록 조회 1쿼리로 게시글 + 작성자 정보 + 좋아요 수 까지 한번에 내려주기 위해 생성
+        @JsonCreator : Redis 목록 캐시(JSON)에서 다시 읽어올 때 사용하는 생성자 지정
 */
 @Getter
 public class PostListResponseDto {
@@ -21,17 +26,22 @@ public class PostListResponseDto {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private final Long likeCount;
+    private final String imagePath; // 원본 이미지 경로
+    private final String imageVariants; // 폭별 축소본 key 목록 (목록 썸네일 선택용)
 
+    @JsonCreator
     public PostListResponseDto(
-            Long id,
-            Long displayNumber,
-            String title,
-            String content,
-            int views,
-            String authorName,
-            LocalDateTime createdAt,
-            LocalDateTime updatedAt,
-            Long likeCount
+            @JsonProperty("id") Long id,
+            @JsonProperty("displayNumber") Long displayNumber,
+            @JsonProperty("title") String title,
+            @JsonProperty("content") String content,
+            @JsonProperty("views") int views,
+            @JsonProperty("authorName") String authorName,
+            @JsonProperty("createdAt") LocalDateTime createdAt,
+            @JsonProperty("updatedAt") LocalDateTime updatedAt,
+            @JsonProperty("likeCount") Long likeCount,
+            @JsonProperty("imagePath") String imagePath,
+            @JsonProperty("imageVariants") String imageVariants
     ){
         this.id = id;
         this.displayNumber = displayNumber;
@@ -42,5 +52,16 @@ public class PostListResponseDto {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.likeCount = likeCount;
+        this.imagePath = imagePath;
+        this.imageVariants = imageVariants;
+    }
+
+    // 목록 썸네일 (64px, 고해상도 화면 2배 기준 128px 이상 중 가장 작은 축소본, 이미지 없으면 null)
+    @JsonIgnore
+    public String getThumbnailPath() {
+        if (imagePath == null || imagePath.isBlank()) {
+            return null;
+        }
+        return ImageVariants.pick(imagePath, imageVariants, 128);
     }
 }
@@ -58,12 +58,17 @@ public class PostResponseDto {
     }
 
     public static PostResponseDto from(Post post, long likeCount){
+        return from(post, likeCount, post.getViews());
+    }
+
+    // 조회수를 별도로 지정하는 버전 (DB 미반영 조회수 증가분 포함 시 사용)
+    public static PostResponseDto from(Post post, long likeCount, int views){
         return PostResponseDto.builder()
                 .id(post.getId())
                 .displayNumber(post.getDisplayNumber())
                 .title(post.getTitle())
                 .content(post.getContent())
-                .views(post.getViews())
+                .views(views)
                 .authorName(post.getAuthor().getNickname()) //User엔티티에서 작성자명 추출(화면은 닉네임 노출)
                 .createdAt(post.getCreatedAt())  // BaseTimeEntity에서 상속된 작성시각
                 .updatedAt(post.getUpdatedAt())  // BaseTimeEntity에서 상속된 수정시각
@@ -1,11 +1,13 @@
 package com.example.demo.domain.post.entity;
 
+import com.example.demo.domain.post.search.PostSearchIndexListener;
 import com.example.demo.domain.user.entity.User;
 import com.example.demo.global.base.BaseTimeEntity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Where;
 
 @Entity
@@ -19,9 +21,12 @@ import org.hibernate.annotations.Where;
         name = "posts", // 실제 테이블명 지정 (post는 예약어이므로 복수형 사용)
         indexes = {
                 @Index(name = "idx_posts_user_id", columnList = "user_id"), // 작성자 기준 조회 인덱스
-                @Index(name = "idx_posts_title", columnList = "title") // 제목 기준 검색 인덱스
+                @Index(name = "idx_posts_title", columnList = "title"), // 제목 기준 검색 인덱스
+                @Index(name = "idx_posts_is_deleted_id", columnList = "is_deleted, id"), // 커서(keyset) 목록 조회 인덱스
+                @Index(name = "idx_posts_updated_at_id", columnList = "updated_at, id") // 검색 인덱스 catch-up (변경분 keyset) 조회 인덱스
         }
 )
+@EntityListeners(PostSearchIndexListener.class) // 저장/수정/삭제 시 검색 인덱스 증분 반영
 @Where(clause = "is_deleted = false")// 조회할 때 항상 WHERE is_deleted=false 조건을 자동으로 붙이기
 /* 항상 is_deleted=false인 데이터만 조회되도록 필터링
     >> 조회할 때 삭제되지 않은(is_deleted = false)데이터만 보여줘라!
@@ -73,6 +78,15 @@ public class Post extends BaseTimeEntity { //BaseTimeEntity를 상속하여 시
     @Column(nullable = false)
     private int views; //조회수의 처음값 0
 
+    /* 좋아요 수 (비정규화 컬럼)
+        - PostLikeService 가 post_likes INSERT/DELETE 와 같은 트랜잭션에서 원자적으로 +1/-1
+        - 목록/상세/검색 조회는 post_likes 집계(JOIN + GROUP BY, COUNT) 없이 이 컬럼만 읽음
+        - 값 보정(backfill/reconcile)은 PostLikeCountReconciler 담당
+    */
+    @ColumnDefault("0") // 기존 행에 컬럼이 추가될 때 기본값 0
+    @Column(name = "like_count", nullable = false)
+    private long likeCount;
+
     //논리 삭제 여부(false - 정상, true = 삭제)
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted;
@@ -80,6 +94,13 @@ public class Post extends BaseTimeEntity { //BaseTimeEntity를 상속하여 시
     // 게시글 이미지 경로(URL 또는 파일 경로)
     @Column(name = "image_path")
     private String imagePath;
+
+    /* 게시글 이미지 폭별 저장 key 목록 (PostImageVariantService 가 업로드 후 비동기로 기록)
+        - 형식 : "320=posts/uuid_w320.jpg,800=posts/uuid_w800.jpg,1200=posts/uuid.jpg" (원본 포함)
+        - null 이면 아직 생성 전/생성 불가 -> 원본 사용
+    */
+    @Column(name = "image_variants", length = 500)
+    private String imageVariants;
     /*
                         비지니스 메서드 영역
      */
@@ -116,6 +137,7 @@ public class Post extends BaseTimeEntity { //BaseTimeEntity를 상속하여 시
     // 게시글 이미지 변경 메서드
     public void changeImage(String imagePath) {
         this.imagePath = imagePath;
+        this.imageVariants = null; // 새 이미지의 축소본은 커밋 후 다시 생성
     }
 
     // 필요한 생성자에만 @Builder 적용
@@ -132,6 +154,7 @@ public class Post extends BaseTimeEntity { //BaseTimeEntity를 상속하여 시
         this.displayNumber = displayNumber;
         this.imagePath = imagePath;
         this.views = 0;
+        this.likeCount = 0L;
         this.isDeleted = false;
     }
 }
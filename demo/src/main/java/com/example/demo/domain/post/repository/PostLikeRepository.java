@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /*
@@ -35,6 +37,18 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
      */
     long countByPostId(Long postId);
 
+    /*
+        countGroupByPostIds
+        - 여러 게시글(postIds)의 좋아요 개수를 GROUP BY 1회로 조회
+        - 목록 화면에서 게시글마다 countByPostId 를 호출하는 N+1 대신 사용
+        - 반환 : [postId(Long), count(Long)] 배열 목록, postId 오름차순 (좋아요 0개인 게시글은 행 없음)
+        - 호출부는 PostLikeCounts.of(...) 로 감싸서 사용
+     */
+    @Query("select pl.post.id, count(pl.id) from PostLike pl " +
+            "where pl.post.id in :postIds " +
+            "group by pl.post.id " +
+            "order by pl.post.id")
+    List<Object[]> countGroupByPostIds(@Param("postIds") Collection<Long> postIds);
 
     /*
         deleteByPostIdAndUserId
@@ -4,10 +4,12 @@ import com.example.demo.domain.post.dto.PostListResponseDto;
 import com.example.demo.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,7 +26,8 @@ import java.util.Optional;
 */
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    // 1) displayNumber 채번용 (SoftDelete 사용으로 삭제글 생길 시 자동 제외)
+    // 1) displayNumber 시작값 계산용 (SoftDelete 사용으로 삭제글 생길 시 자동 제외)
+    //    DisplayNumberAllocator 가 카운터 행을 처음 만들 때 1회만 사용 (게시글 생성마다 호출 X)
     @Query("select coalesce(max(p.displayNumber),0) from Post p")
     /* coalesce(...,0) : 여러 인수를 순서대로 검사, null이 아닌 첫 번째 인수를 반환
           (1)max(p.displayNumber)의 결과를 확인
@@ -36,16 +39,28 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Long findMaxDisplayNumber();
 
     // 2) 작성자 기준 조회(페이징)
+    //    작성자(author)를 함께 fetch join -> 목록 DTO 변환 시 작성자 닉네임 조회 N+1 제거
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByAuthorId(Long authorId, Pageable pageable);
     //                         FK:user_id     페이지 정렬정보
 
 
 
     // 3) 제목+내용 키워드 검색 (대소문자 무시, 페이징)
+    //    작성자(author)를 함께 fetch join -> 작성자 닉네임 조회 N+1 제거
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
             String titlekeyword, String contentkeyword, Pageable pageable
     );
 
+    // 3-1) id 목록으로 게시글 조회 (검색 인덱스 결과 hydrate 용, 작성자 함께 조회)
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    // 3-2) id 목록 중 논리 삭제된 게시글 id (@Where 를 거치지 않는 네이티브 쿼리, 검색 인덱스 정리용)
+    @Query(value = "select id from posts where id in (:ids) and is_deleted = true", nativeQuery = true)
+    List<Long> findDeletedIdsIn(@Param("ids") Collection<Long> ids);
+
     // 4) 최신순 전체 목록 (페이징)
     Page<Post> findByOrderByIdDesc(Pageable pageable);
 
@@ -54,11 +69,17 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("update Post p set p.views = p.views + 1 where p.id = :id")
     int increaseViews(@Param("id") Long id);
 
+    // 5-1) 조회수만 조회 (상세 캐시 적중 시 최신 조회수 덮어쓰기용, 삭제된 글은 @Where 로 제외)
+    @Query("select p.views from Post p where p.id = :id")
+    Optional<Integer> findViewsById(@Param("id") Long id);
+
     // 6) 삭제여부 무시하고 단건조회(관리자용, @Where 우회)
     @Query(value = "select * from posts where id = :id", nativeQuery = true)
     Optional<Post> findRawById(@Param("id") Long id);
 
-    // 7) [case1] 목록 조회 전용 DTO ( N+1  제거 목적 )
+    /* 7) [case1] 목록 조회 전용 DTO ( N+1  제거 목적 )
+        - like_count 비정규화 컬럼을 그대로 select (post_likes JOIN + GROUP BY 집계 제거)
+    */
     @Query(
             value =
                     "select new com.example.demo.domain.post.dto.PostListResponseDto(" +
@@ -70,14 +91,12 @@ public interface PostRepository extends JpaRepository<Post, Long> {
                             " a.nickname, " +
                             " p.createdAt, " +
                             " p.updatedAt, " +
-                            " coalesce(count(pl.id), 0L) " +
+                            " p.likeCount, " +
+                            " p.imagePath, " +
+                            " p.imageVariants " +
                             ") "+
                     "from Post p " +
                     "join p.author a " +
-                    "left join com.example.demo.domain.post.entity.PostLike pl on pl.post = p " +
-                    "group by " +
-                            " p.id, p.displayNumber, p.title, p.content, p.views, " +
-                            "a.nickname, p.createdAt, p.updatedAt " +
                     "order by p.id desc",
             countQuery =
                     "select count(p.id) " +
@@ -85,4 +104,80 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     )
     Page<PostListResponseDto> findPostListWithLikeCount(Pageable pageable);
 
+    /* 7-1) 목록 조회 (COUNT 쿼리 없음)
+        - 7)과 같은 조회지만 Page 대신 List 반환 -> Spring Data가 countQuery를 실행하지 않음
+        - 총 개수는 PostCountProvider(메모리 보관값)로 PageImpl 구성
+    */
+    @Query(
+            "select new com.example.demo.domain.post.dto.PostListResponseDto(" +
+                    " p.id, p.displayNumber, p.title, p.content, p.views, " +
+                    " a.nickname, p.createdAt, p.updatedAt, p.likeCount, " +
+                    " p.imagePath, p.imageVariants " +
+                    ") " +
+            "from Post p " +
+            "join p.author a " +
+            "order by p.id desc"
+    )
+    List<PostListResponseDto> findPostList(Pageable pageable);
+
+    /* 8) [keyset] 커서 기반 목록 조회 (OFFSET 없이 id 기준 seek)
+        - @Where(is_deleted=false) + "p.id < :cursorId order by p.id desc"
+          >> (is_deleted, id) 인덱스를 타고 커서 위치부터 바로 읽기 시작
+        - 깊은 페이지여도 앞 페이지를 건너뛰며 읽지 않으므로 1페이지와 동일한 비용
+        - Pageable은 limit(size+1) 용도로만 사용 (page 번호는 항상 0)
+    */
+    @Query(
+            "select new com.example.demo.domain.post.dto.PostListResponseDto(" +
+                    " p.id, p.displayNumber, p.title, p.content, p.views, " +
+                    " a.nickname, p.createdAt, p.updatedAt, p.likeCount, " +
+                    " p.imagePath, p.imageVariants " +
+                    ") " +
+            "from Post p " +
+            "join p.author a " +
+            "order by p.id desc"
+    )
+    List<PostListResponseDto> findFirstPostListByCursor(Pageable limit);
+
+    @Query(
+            "select new com.example.demo.domain.post.dto.PostListResponseDto(" +
+                    " p.id, p.displayNumber, p.title, p.content, p.views, " +
+                    " a.nickname, p.createdAt, p.updatedAt, p.likeCount, " +
+                    " p.imagePath, p.imageVariants " +
+                    ") " +
+            "from Post p " +
+            "join p.author a " +
+            "where p.id < :cursorId " +
+            "order by p.id desc"
+    )
+    List<PostListResponseDto> findPostListByCursor(@Param("cursorId") Long cursorId, Pageable limit);
+
+    /* 9) 좋아요 수(like_count) 증감 (벌크 업데이트)
+        - PostLikeService 에서 post_likes INSERT/DELETE 가 실제로 반영된 경우에만 같은 트랜잭션에서 호출
+        - DB에서 직접 +1/-1 하므로 동시 요청에도 갱신 유실(lost update) 없음
+        - 감소는 0 아래로 내려가지 않도록 조건 추가
+    */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Post p set p.likeCount = p.likeCount + 1 where p.id = :id")
+    int increaseLikeCount(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Post p set p.likeCount = p.likeCount - 1 where p.id = :id and p.likeCount > 0")
+    int decreaseLikeCount(@Param("id") Long id);
+
+    // 10) 좋아요 수 단건 조회 (엔티티 로딩 없이 컬럼만)
+    @Query("select p.likeCount from Post p where p.id = :id")
+    Optional<Long> findLikeCountById(@Param("id") Long id);
+
+    /* 11) 좋아요 수 보정 (backfill / reconcile)
+        - post_likes 실제 개수와 다른 행만 골라 like_count 재계산
+        - 네이티브 쿼리 : 삭제글(is_deleted=true)도 포함하여 전체 보정
+    */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value =
+            "update posts p " +
+            "set like_count = (select count(*) from post_likes pl where pl.post_id = p.id) " +
+            "where p.like_count <> (select count(*) from post_likes pl where pl.post_id = p.id)",
+            nativeQuery = true)
+    int reconcileAllLikeCounts();
+
 }
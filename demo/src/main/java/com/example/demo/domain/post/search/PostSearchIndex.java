@@ -0,0 +1,308 @@
+package com.example.demo.domain.post.search;
+
+import com.example.demo.domain.post.dto.PostListResponseDto;
+import com.example.demo.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    PostSearchIndex : 게시글 검색용 메모리 역색인(inverted index)
+    - 기존 검색 : title/content LIKE '%keyword%' -> TEXT 컬럼 전체 스캔
+    - 변경 검색
+        1) 토큰(n-gram) -> 게시글 id 목록(PostingList) 으로 색인
+        2) 검색어 토큰들의 PostingList 교집합 = 후보 id (최신순)
+        3) PostService 는 후보 중 현재 페이지 분량만 DB에서 조회(hydrate)하고,
+           읽어 온 제목/내용에 검색어가 실제로 포함된 게시글만 결과로 사용 (matches)
+    - 원문(제목/내용)은 메모리에 두지 않음 (토큰 -> id 목록만 보관)
+        >> 수정 전 토큰은 재구축 전까지 남음 -> 후보가 조금 늘 뿐, 결과는 3) 의 DB 재확인으로 정확
+        >> 삭제는 토큰을 지우지 않고 removed 에 기록 -> 후보에서 제외
+    - 구축 : 애플리케이션 기동 완료 후 별도 스레드에서 id 기준 keyset 스캔으로 전체 색인
+        - 주기 재구축(rebuild-interval-ms) : 새 색인을 락 밖에서 만든 뒤 교체 (남은 수정 전 토큰/삭제 기록 정리)
+    - 갱신
+        - 이 노드의 변경 : PostSearchIndexListener 가 저장/수정/삭제 트랜잭션 커밋 후 즉시 반영
+        - 다른 노드의 변경 : catchUp() 이 주기적으로 updated_at 워터마크 이후 변경된 게시글(삭제 포함)을 다시 색인
+            >> updated_at 은 커밋 전에 정해지고 노드 시계도 조금씩 다름 -> 워터마크보다 catch-up-overlap-ms 앞에서부터 다시 읽음 (재색인은 멱등)
+    - 구축 완료 전(isReady=false)에는 PostService 가 기존 LIKE 검색으로 대체
+    - 동시성
+        - ReentrantReadWriteLock : 검색은 동시에, 색인 변경은 단독
+        - maintenance : 구축과 catch-up 은 한 번에 하나만 (구축 중 catch-up 은 건너뜀)
+        - 구축은 항상 전용 스레드에서 실행 (스케줄러 스레드 1개를 다른 주기 작업과 공유하므로 오래 잡지 않음)
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int BUILD_BATCH_SIZE = 500; // 색인 구축 / catch-up 1회 조회 개수
+    private static final long[] EMPTY = new long[0];
+    private static final LocalDateTime NO_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0); // 게시글이 없을 때 시작점
+
+    // (updated_at, id) keyset 으로 워터마크 이후 변경분 조회 (삭제된 게시글 포함 -> @Where 를 거치지 않는 SQL)
+    private static final String CHANGED_SINCE =
+            "select id, title, content, is_deleted, updated_at from posts " +
+            "where updated_at > ? or (updated_at = ? and id > ?) " +
+            "order by updated_at, id limit " + BUILD_BATCH_SIZE;
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.post.search.catch-up-overlap-ms:60000}")
+    private long catchUpOverlapMs;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock maintenance = new ReentrantLock();
+    private Map<String, PostingList> postings = new HashMap<>(); // 토큰 -> 게시글 id 목록 (재구축 시 교체)
+    private Set<Long> removed = new HashSet<>(); // 색인 이후 삭제된 게시글 id (재구축 시 초기화)
+
+    private LocalDateTime watermark; // catchUp 이 반영한 마지막 updated_at (maintenance 보유 상태에서만 접근)
+
+    private volatile boolean ready = false;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 기동 완료 후 비동기 색인 구축 (요청 처리를 막지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        startRebuild();
+    }
+
+    // 주기 재구축 (수정 전 토큰 / 삭제 기록 정리, 기동 시 구축이 실패했으면 재시도)
+    @Scheduled(
+            fixedDelayString = "${app.post.search.rebuild-interval-ms:21600000}",
+            initialDelayString = "${app.post.search.rebuild-interval-ms:21600000}"
+    )
+    public void scheduledRebuild() {
+        startRebuild();
+    }
+
+    private void startRebuild() {
+        Thread builder = new Thread(this::rebuild, "post-search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /*
+        전체 재구축 : keyset(id 내림차순) 스캔으로 BUILD_BATCH_SIZE 씩 새 색인을 만든 뒤 교체
+        - 스캔 전에 DB 의 max(updated_at) 을 워터마크로 잡음
+            >> 스캔 중 커밋된 변경(이 노드 포함)은 교체 후 다음 catchUp 이 다시 반영
+        - 만드는 동안 검색은 기존 색인 사용
+    */
+    public void rebuild() {
+        if (!maintenance.tryLock()) {
+            return; // 이미 구축 중
+        }
+        long started = System.currentTimeMillis();
+        try {
+            LocalDateTime startWatermark = toLocalDateTime(jdbcTemplate.queryForObject(
+                    "select max(updated_at) from posts", Timestamp.class));
+
+            Map<String, PostingList> built = new HashMap<>();
+            Pageable batch = PageRequest.of(0, BUILD_BATCH_SIZE);
+            List<PostListResponseDto> rows = postRepository.findFirstPostListByCursor(batch);
+            int indexed = 0;
+            while (!rows.isEmpty()) {
+                for (PostListResponseDto row : rows) {
+                    addTokens(built, row.getId(), row.getTitle(), row.getContent());
+                }
+                indexed += rows.size();
+                Long lastId = rows.get(rows.size() - 1).getId();
+                rows = postRepository.findPostListByCursor(lastId, batch);
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings = built;
+                removed = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            watermark = startWatermark != null ? startWatermark : NO_WATERMARK;
+            ready = true;
+            log.info("[SEARCH] post index built. posts={}, tokens={}, elapsedMs={}",
+                    indexed, built.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.warn("[SEARCH] post index build failed{}. reason={}",
+                    ready ? ", keep previous index" : ", fallback to LIKE search", e.getMessage());
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    /*
+        다른 노드의 변경 반영 : 워터마크(- overlap) 이후 updated_at 이 바뀐 게시글을 다시 색인
+        - 삭제된 게시글 -> 후보에서 제외, 그 외 -> 현재 제목/내용으로 토큰 추가
+        - 실패하면 워터마크를 그대로 두고 다음 주기에 다시 시도
+    */
+    @Scheduled(
+            fixedDelayString = "${app.post.search.catch-up-interval-ms:5000}",
+            initialDelayString = "${app.post.search.catch-up-interval-ms:5000}"
+    )
+    public void catchUp() {
+        if (!ready || !maintenance.tryLock()) {
+            return; // 구축 전/구축 중 -> 구축이 끝나면 구축 시점 워터마크부터 시작
+        }
+        try {
+            LocalDateTime cursorTime = watermark.minus(Duration.ofMillis(catchUpOverlapMs));
+            long cursorId = 0L;
+            LocalDateTime latest = watermark;
+            int changed = 0;
+            while (true) {
+                List<ChangedPost> rows = jdbcTemplate.query(CHANGED_SINCE, (rs, i) -> new ChangedPost(
+                                rs.getLong("id"),
+                                rs.getString("title"),
+                                rs.getString("content"),
+                                rs.getBoolean("is_deleted"),
+                                toLocalDateTime(rs.getTimestamp("updated_at"))),
+                        Timestamp.valueOf(cursorTime), Timestamp.valueOf(cursorTime), cursorId);
+                for (ChangedPost row : rows) {
+                    if (row.deleted()) {
+                        remove(row.id());
+                    } else {
+                        index(row.id(), row.title(), row.content());
+                    }
+                    if (row.updatedAt() != null && row.updatedAt().isAfter(latest)) {
+                        latest = row.updatedAt();
+                    }
+                }
+                changed += rows.size();
+                if (rows.size() < BUILD_BATCH_SIZE) {
+                    break;
+                }
+                ChangedPost last = rows.get(rows.size() - 1);
+                cursorTime = last.updatedAt();
+                cursorId = last.id();
+            }
+            watermark = latest;
+            if (changed > 0) {
+                log.debug("[SEARCH] post index catch-up. reindexed={}, watermark={}", changed, latest);
+            }
+        } catch (Exception e) {
+            log.warn("[SEARCH] post index catch-up failed, retry next interval. reason={}", e.getMessage());
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    // 게시글 색인 (이미 색인된 게시글이면 현재 제목/내용의 토큰을 추가, 삭제 기록 해제)
+    public void index(Long postId, String title, String content) {
+        Set<String> tokens = PostSearchTokenizer.indexTokens(title, content);
+        lock.writeLock().lock();
+        try {
+            removed.remove(postId);
+            for (String token : tokens) {
+                postings.computeIfAbsent(token, t -> new PostingList()).add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 게시글을 후보에서 제외 (삭제된 게시글, DB에서 찾을 수 없는 게시글)
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removed.add(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeAll(Collection<Long> postIds) {
+        lock.writeLock().lock();
+        try {
+            removed.addAll(postIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /*
+        검색 : 제목 또는 내용에 검색어 토큰이 모두 있는 후보 게시글 id (id 내림차순 = 최신순)
+        1) 토큰별 PostingList 조회 (하나라도 없으면 결과 없음)
+        2) 가장 짧은 목록을 기준으로 나머지 목록에 모두 존재하는 id만 후보 (삭제 기록된 id 제외)
+        - 검색어 포함 여부는 호출 측이 DB 에서 읽은 제목/내용으로 확인 (matches)
+    */
+    public long[] search(String keyword) {
+        Set<String> tokens = PostSearchTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return EMPTY;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                PostingList list = postings.get(token);
+                if (list == null || list.isEmpty()) {
+                    return EMPTY;
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(PostingList::size));
+
+            PostingList smallest = lists.get(0);
+            long[] result = new long[smallest.size()];
+            int count = 0;
+            // 최신순 결과를 위해 뒤(큰 id)에서부터 확인
+            for (int i = smallest.size() - 1; i >= 0; i--) {
+                long id = smallest.get(i);
+                boolean matched = !removed.contains(id);
+                for (int j = 1; j < lists.size() && matched; j++) {
+                    matched = lists.get(j).contains(id);
+                }
+                if (matched) {
+                    result[count++] = id;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // DB 에서 읽은 제목/내용이 검색어를 포함하는지 (색인과 같은 정규화, hydrate 결과 재확인용)
+    public boolean matches(String keyword, String title, String content) {
+        String normalizedKeyword = PostSearchTokenizer.normalize(keyword);
+        return PostSearchTokenizer.normalize(title).contains(normalizedKeyword)
+                || PostSearchTokenizer.normalize(content).contains(normalizedKeyword);
+    }
+
+    private static void addTokens(Map<String, PostingList> target, Long postId, String title, String content) {
+        for (String token : PostSearchTokenizer.indexTokens(title, content)) {
+            target.computeIfAbsent(token, t -> new PostingList()).add(postId);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    // catch-up 조회 행 (삭제 여부 포함)
+    private record ChangedPost(long id, String title, String content, boolean deleted, LocalDateTime updatedAt) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.domain.post.search;
+
+import com.example.demo.domain.post.entity.Post;
+import com.example.demo.global.transaction.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/*
+    PostSearchIndexListener : Post 엔티티 변경 -> 검색 인덱스 증분 반영
+    - @PostPersist : 게시글 생성 -> 색인
+    - @PostUpdate  : 제목/내용 수정 -> 재색인, Soft Delete(is_deleted=true) -> 색인 제거
+    - PostService 생성/수정/삭제 흐름은 모두 엔티티 저장/변경 감지를 거치므로 여기서 한 번에 처리
+    - 색인 반영은 트랜잭션 커밋 후 (AfterCommit)
+        >> flush 시점에 바로 반영하면 롤백된 수정/삭제가 색인에 그대로 남고,
+           아직 커밋되지 않은 새 게시글이 다른 요청의 검색 결과 후보로 먼저 보임
+        >> 값은 flush 시점에 복사해 두고 커밋 후 그 값으로 반영 (커밋 후 엔티티 상태에 의존하지 않음)
+    - ObjectProvider : 엔티티 매니저 생성 시점에 PostSearchIndex(-> PostRepository) 를 바로 만들지 않도록 지연 조회
+*/
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexListener {
+
+    private final ObjectProvider<PostSearchIndex> postSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Post post) {
+        Long postId = post.getId();
+        boolean deleted = post.isDeleted();
+        String title = post.getTitle();
+        String content = post.getContent();
+
+        AfterCommit.run(() -> {
+            PostSearchIndex index = postSearchIndex.getIfAvailable();
+            if (index == null) {
+                return;
+            }
+            if (deleted) {
+                index.remove(postId);
+                return;
+            }
+            index.index(postId, title, content);
+        });
+    }
+}
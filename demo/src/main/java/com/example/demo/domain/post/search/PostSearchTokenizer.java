@@ -0,0 +1,89 @@
+package com.example.demo.domain.post.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/*
+    PostSearchTokenizer : 검색 인덱스용 n-gram 토크나이저
+        1) NFKC 정규화 + 소문자화 (전각/반각, 호환 문자 통일, 대소문자 무시)
+        2) 글자/숫자가 연속된 구간(run)으로 분리 (공백, 문장부호는 구분자)
+        3) 각 구간을 글자 단위 uni-gram + bi-gram 으로 분해
+            - 한글은 띄어쓰기/조사 때문에 단어 단위 분리가 어려우므로 음절 n-gram 사용
+            - 예) "스프링부트" -> 스,프,링,부,트 + 스프,프링,링부,부트
+    - 색인(indexTokens) : uni-gram + bi-gram 모두
+    - 검색(queryTokens) : 1글자 구간은 uni-gram, 2글자 이상 구간은 bi-gram
+        >> 검색어의 모든 토큰을 포함한 게시글 = 후보 (AND)
+        >> 토큰이 서로 떨어져 있어도 후보가 되므로 ("스프" ... "프링" 도 "스프링" 후보) 최종 결과는 원문 포함 여부로 다시 확인
+*/
+final class PostSearchTokenizer {
+
+    private PostSearchTokenizer() {
+    }
+
+    static Set<String> indexTokens(String... texts) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String text : texts) {
+            forEachRun(text, run -> {
+                for (int i = 0; i < run.length; i++) {
+                    tokens.add(new String(run, i, 1));
+                    if (i + 1 < run.length) {
+                        tokens.add(new String(run, i, 2));
+                    }
+                }
+            });
+        }
+        return tokens;
+    }
+
+    static Set<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        forEachRun(keyword, run -> {
+            if (run.length == 1) {
+                tokens.add(new String(run, 0, 1));
+                return;
+            }
+            for (int i = 0; i + 1 < run.length; i++) {
+                tokens.add(new String(run, i, 2));
+            }
+        });
+        return tokens;
+    }
+
+    // NFKC 정규화 + 소문자화 (색인 토큰, 후보 검증용 원문 비교에 같은 규칙 사용)
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화된 텍스트에서 글자/숫자 연속 구간(code point 배열)마다 consumer 실행
+    private static void forEachRun(String text, RunConsumer consumer) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        int[] codePoints = normalize(text)
+                .codePoints()
+                .toArray();
+
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean letter = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                int[] run = new int[i - start];
+                System.arraycopy(codePoints, start, run, 0, run.length);
+                consumer.accept(run);
+                start = -1;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RunConsumer {
+        void accept(int[] run);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.domain.post.search;
+
+import java.util.Arrays;
+
+/*
+    PostingList : 토큰 1개에 해당하는 게시글 id 목록
+        - 오름차순 정렬된 long[] (박싱 없음, 이진 탐색)
+        - 새 게시글은 id가 가장 크므로 대부분 끝에 추가(append)
+*/
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    void add(long id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return; // 이미 존재
+        }
+        int insertAt = -index - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.repository.PostRepository;
+import com.example.demo.global.sequence.SequenceBlockReserver;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+    DisplayNumberAllocator
+    - 게시글 번호(displayNumber) 발급기 (hi/lo 블록 방식)
+    - 기존 방식 : 게시글 생성마다 MAX(display_number) + 1
+        >> 매번 MAX 조회 + 동시 생성 시 같은 번호 중복 발급
+    - 변경 방식
+        1) sequence_counters 행에서 blockSize 만큼 번호 구간을 예약 (노드 간 행 락으로 중복 없음)
+        2) 예약된 구간 안에서는 메모리(AtomicLong)로 번호 발급 -> DB 조회 없음
+        3) 남은 번호가 prefetch-remaining 개가 되는 순간 다음 구간 예약을 전용 스레드에 등록 (미리 예약)
+        4) 구간을 다 쓰면 미리 예약된 구간으로 교체
+    - 예약을 호출 스레드가 아닌 전용 스레드에서 하는 이유
+        - next() 는 게시글 생성 트랜잭션 안에서 호출 -> 호출 스레드는 이미 커넥션 1개를 잡고 있음
+        - 호출 스레드에서 REQUIRES_NEW 예약을 하면 커넥션이 1개 더 필요
+          >> 구간 경계에서 풀의 커넥션을 모두 잡은 생성 요청들이 예약을 기다리면 예약용 커넥션을 못 얻고 타임아웃
+        - 전용 스레드는 트랜잭션이 없으므로 커넥션 1개만 사용하고, 남은 번호를 쓰는 동안(생성 요청이 커넥션을 반납하는 동안) 먼저 예약을 끝냄
+    - 카운터 행이 처음 만들어질 때만 기존 게시글 MAX(display_number) + 1 로 시작값 결정
+    - 노드 재시작/다중 노드 사용 시 번호에 빈 구간이 생길 수 있음 (중복은 없음)
+*/
+@Component
+public class DisplayNumberAllocator implements DisposableBean {
+
+    static final String SEQUENCE_NAME = "post.display-number";
+
+    private final SequenceBlockReserver sequenceBlockReserver;
+    private final PostRepository postRepository;
+
+    private final int blockSize;
+    private final int prefetchRemaining;
+    private final long reserveTimeoutMs;
+
+    private final ThreadPoolExecutor executor;
+
+    // 현재 사용 중인 구간 (교체는 synchronized 안에서만)
+    private volatile Block block = Block.EXHAUSTED;
+
+    // 미리 예약 중이거나 예약이 끝난 다음 구간의 시작 번호 (없으면 null)
+    private final AtomicReference<CompletableFuture<Long>> prefetched = new AtomicReference<>();
+
+    public DisplayNumberAllocator(
+            SequenceBlockReserver sequenceBlockReserver,
+            PostRepository postRepository,
+            @Value("${app.post.display-number.block-size:50}") int blockSize,
+            @Value("${app.post.display-number.prefetch-remaining:10}") int prefetchRemaining,
+            @Value("${app.post.display-number.reserve-timeout-ms:3000}") long reserveTimeoutMs
+    ) {
+        this.sequenceBlockReserver = sequenceBlockReserver;
+        this.postRepository = postRepository;
+        this.blockSize = Math.max(1, blockSize);
+        this.prefetchRemaining = Math.max(0, Math.min(prefetchRemaining, this.blockSize - 1));
+        this.reserveTimeoutMs = reserveTimeoutMs;
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), // 예약 등록은 구간당 1번뿐이라 대기열이 쌓이지 않음
+                runnable -> {
+                    Thread thread = new Thread(runnable, "display-number-reserve");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
+    // 기동 완료 시 첫 구간을 미리 예약 (첫 게시글 생성 요청이 예약을 기다리지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void prefetchOnStartup() {
+        prefetch();
+    }
+
+    // 다음 게시글 번호 발급
+    public long next() {
+        while (true) {
+            Block current = block;
+            long value = current.next.getAndIncrement();
+            if (value < current.end) {
+                if (current.end - value - 1 == prefetchRemaining) {
+                    prefetch(); // 구간마다 정확히 1개 스레드만 이 값을 받음
+                }
+                return value; // 대부분의 호출은 여기서 끝 (락 없음)
+            }
+            advance(current);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /*
+        구간 소진 시 미리 예약된 구간으로 교체 (동시에 소진한 스레드 중 1개만 교체, 나머지는 새 구간 사용)
+        - 예약이 아직 진행 중이면 reserve-timeout-ms 까지 대기 (호출 스레드는 커넥션을 더 요구하지 않음)
+        - 예약 실패/시간 초과 -> 예외 (다음 호출이 예약을 다시 등록)
+     */
+    private synchronized void advance(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+        CompletableFuture<Long> reservation = prefetch();
+        long start;
+        try {
+            start = reservation.get(reserveTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 번호 구간 예약 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            prefetched.compareAndSet(reservation, null);
+            throw new IllegalStateException("게시글 번호 구간 예약에 실패했습니다.", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("게시글 번호 구간 예약이 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        prefetched.compareAndSet(reservation, null);
+        block = new Block(start, start + blockSize);
+    }
+
+    // 다음 구간 예약을 전용 스레드에 등록 (이미 등록되어 있으면 그 예약을 반환)
+    private CompletableFuture<Long> prefetch() {
+        while (true) {
+            CompletableFuture<Long> existing = prefetched.get();
+            if (existing != null) {
+                return existing;
+            }
+            CompletableFuture<Long> created = new CompletableFuture<>();
+            if (!prefetched.compareAndSet(null, created)) {
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        created.complete(reserveBlock());
+                    } catch (RuntimeException e) {
+                        created.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                created.completeExceptionally(e); // 종료 중
+            }
+            return created;
+        }
+    }
+
+    private long reserveBlock() {
+        try {
+            return sequenceBlockReserver.reserve(SEQUENCE_NAME, blockSize, this::initialValue);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 카운터 행을 먼저 만든 경우 -> 만들어진 행으로 재시도
+            return sequenceBlockReserver.reserve(SEQUENCE_NAME, blockSize, this::initialValue);
+        }
+    }
+
+    private long initialValue() {
+        return postRepository.findMaxDisplayNumber() + 1;
+    }
+
+    // 예약된 번호 구간 [next, end)
+    private static final class Block {
+        private static final Block EXHAUSTED = new Block(0, 0);
+
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
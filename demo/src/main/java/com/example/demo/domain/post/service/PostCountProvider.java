@@ -0,0 +1,64 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.repository.PostRepository;
+import com.example.demo.global.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    PostCountProvider
+    - 삭제되지 않은 게시글 총 개수를 메모리에 보관하는 컴포넌트
+    - 목록 조회(Page)마다 실행되던 COUNT 쿼리를 대체
+        1) 최초 요청 시 DB COUNT 1회로 초기화
+        2) 게시글 생성/삭제 시 커밋 이후 +1/-1 (롤백된 변경은 반영 X)
+        3) 주기적으로 DB COUNT 로 재동기화 (직접 SQL 수정 등으로 어긋난 값 보정)
+    - 재동기화 사이에는 근사값일 수 있음 (페이지 번호/총 페이지 표시용으로 충분)
+*/
+@Component
+@RequiredArgsConstructor
+public class PostCountProvider {
+
+    private static final long UNINITIALIZED = -1L;
+
+    private final PostRepository postRepository;
+
+    private final AtomicLong total = new AtomicLong(UNINITIALIZED);
+
+    // 현재 게시글 총 개수 (미초기화 상태면 DB에서 1회 조회)
+    public long getTotal() {
+        long current = total.get();
+        if (current >= 0) {
+            return current;
+        }
+        long counted = postRepository.count();
+        total.compareAndSet(UNINITIALIZED, counted);
+        return total.get();
+    }
+
+    // 게시글 생성 커밋 후 +1
+    public void increaseAfterCommit() {
+        AfterCommit.run(() -> adjust(1));
+    }
+
+    // 게시글 삭제 커밋 후 -1
+    public void decreaseAfterCommit() {
+        AfterCommit.run(() -> adjust(-1));
+    }
+
+    // 주기적 재동기화 (기본 60초)
+    @Scheduled(
+            fixedDelayString = "${app.post.count.resync-interval-ms:60000}",
+            initialDelayString = "${app.post.count.resync-interval-ms:60000}"
+    )
+    public void resync() {
+        total.set(postRepository.count());
+    }
+
+    private void adjust(long delta) {
+        // 아직 초기화 전이면 건드리지 않음 (다음 getTotal 에서 DB 값으로 초기화)
+        total.getAndUpdate(v -> v < 0 ? v : Math.max(0, v + delta));
+    }
+}
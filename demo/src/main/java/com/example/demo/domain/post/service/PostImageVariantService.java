@@ -0,0 +1,240 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.global.exception.ImageTooLargeException;
+import com.example.demo.global.file.FileStorageService;
+import com.example.demo.global.file.ImageScaler;
+import com.example.demo.global.file.ImageVariants;
+import com.example.demo.global.file.ImageVariants.Variant;
+import com.example.demo.global.transaction.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    PostImageVariantService
+    - 업로드된 게시글 이미지의 폭별 축소본(기본 320 / 800 / 1600)을 비동기로 생성
+    - 기존 : 원본(수 MB)만 저장 -> 목록/상세 모든 조회자가 원본 해상도를 내려받음
+    - 변경
+        1) 게시글 저장 트랜잭션 커밋 후 전용 풀(app.image.variants.threads + 제한된 대기열)에 생성 작업 등록
+           >> 업로드 요청은 축소 작업을 기다리지 않음, 대기열이 가득 차면 건너뜀(원본으로 표시)
+        2) 원본보다 작은 폭만 생성, 원본과 같은 저장소(로컬/S3)에 posts/{원본 이름}_w{폭}.ext 로 저장
+           - 같은 사진(내용 주소 key)을 쓰는 다른 게시글에 축소본이 있으면 생성 없이 그 목록을 기록
+        3) UPDATE posts SET image_variants = ? WHERE id = ? AND image_path = ? AND is_deleted = false
+           - 그 사이 이미지가 바뀌었거나 게시글이 삭제되었으면 0건 -> 원본을 아무도 참조하지 않으면 만든 축소본 삭제
+        4) 게시글 캐시(Redis/목록) 무효화 -> 다음 조회부터 축소본 사용
+    - 지원 형식 : jpg / png (gif 는 애니메이션이 사라지므로 제외, 그 외 형식도 원본만 사용)
+    - 폭 x 높이가 app.image.max-pixels 를 넘는 원본은 디코딩하지 않고 건너뜀 (원본으로 표시)
+        >> 업로드 용량 제한 안의 작은 파일이라도 해상도가 크면 디코딩 버퍼가 힙을 모두 차지할 수 있음
+    - 지표 (Prometheus)
+        - image.variants.generate{result=success|reused|skipped|failed} : 이미지 1장당 처리 시간
+        - image.variants.rejected                                 : 대기열 포화로 건너뛴 수
+*/
+@Slf4j
+@Service
+public class PostImageVariantService implements DisposableBean {
+
+    private static final int JPEG_QUALITY = 85;
+
+    private static final String UPDATE_SQL = "update posts set image_variants = ? where id = ? and image_path = ? and is_deleted = false";
+    private static final String SHARED_SQL = "select image_variants from posts where image_path = ? and image_variants is not null and is_deleted = false limit 1";
+
+    private final FileStorageService fileStorageService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostRedisCache postRedisCache;
+    private final PostListCache postListCache;
+    private final MeterRegistry meterRegistry;
+
+    private final List<Integer> widths;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public PostImageVariantService(
+            FileStorageService fileStorageService,
+            JdbcTemplate jdbcTemplate,
+            PostRedisCache postRedisCache,
+            PostListCache postListCache,
+            MeterRegistry meterRegistry,
+            @Value("${app.image.variants.widths:320,800,1600}") int[] widths,
+            @Value("${app.image.variants.threads:2}") int threads,
+            @Value("${app.image.variants.queue-capacity:100}") int queueCapacity,
+            @Value("${app.image.max-pixels:40000000}") long maxPixels
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.postRedisCache = postRedisCache;
+        this.postListCache = postListCache;
+        this.meterRegistry = meterRegistry;
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).sorted().boxed().toList();
+        this.maxPixels = maxPixels;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy() // 대기열 포화 시 RejectedExecutionException
+        );
+        this.rejectedCounter = Counter.builder("image.variants.rejected")
+                .description("대기열 포화로 축소본 생성을 건너뛴 이미지 수")
+                .register(meterRegistry);
+    }
+
+    /*
+        커밋 후 축소본 생성 등록
+        - 롤백되면 등록하지 않음 (DB에 없는 게시글의 파일을 만들지 않음)
+     */
+    public void generateAfterCommit(Long postId, String imagePath) {
+        if (postId == null || imagePath == null || imagePath.isBlank() || widths.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> submit(postId, imagePath));
+    }
+
+    /*
+        축소본 key 목록 (원본 파일을 반납할 때 함께 지울 파생 파일)
+        - 원본 key 는 제외
+        - 기록이 아직 없을 수 있으므로(생성 중) 설정된 폭 기준 key 도 포함
+     */
+    public List<String> variantKeys(String imagePath, String variants) {
+        if (imagePath == null || imagePath.isBlank()) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>();
+        ImageVariants.parse(variants).forEach(variant -> keys.add(variant.key()));
+        widths.forEach(width -> keys.add(ImageVariants.keyOf(imagePath, width)));
+
+        return keys.stream()
+                .distinct()
+                .filter(key -> !key.equals(imagePath))
+                .toList();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void submit(Long postId, String imagePath) {
+        try {
+            executor.execute(() -> generate(postId, imagePath));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("[IMAGE] variant queue full, original only. postId={}, path={}", postId, imagePath);
+        }
+    }
+
+    private void generate(Long postId, String imagePath) {
+        long start = System.nanoTime();
+        String result = "failed";
+        List<Variant> created = new ArrayList<>();
+        try {
+            // 같은 사진(내용 주소)을 쓰는 다른 게시글에 이미 축소본이 있으면 그대로 사용
+            String existing = jdbcTemplate.query(SHARED_SQL, (rs, rowNum) -> rs.getString(1), imagePath)
+                    .stream()
+                    .findFirst()
+                    .orElse(null);
+            if (existing != null) {
+                result = apply(postId, imagePath, existing) ? "reused" : "skipped";
+                return;
+            }
+
+            String format = ImageScaler.formatOf(imagePath);
+            BufferedImage original = (format != null)
+                    ? ImageScaler.decode(fileStorageService.read(imagePath), maxPixels)
+                    : null;
+            if (original == null) {
+                result = "skipped"; // 읽을 수 없는 형식
+                return;
+            }
+
+            for (int width : widths) {
+                if (width >= original.getWidth()) {
+                    break; // 원본보다 크거나 같은 축소본은 의미 없음
+                }
+                String key = ImageVariants.keyOf(imagePath, width);
+                BufferedImage scaled = ImageScaler.scaleToWidth(original, width, format);
+                fileStorageService.save(key, ImageScaler.encode(scaled, format, JPEG_QUALITY), ImageScaler.contentTypeOf(format));
+                created.add(new Variant(width, key));
+            }
+
+            List<Variant> all = new ArrayList<>(created);
+            all.add(new Variant(original.getWidth(), imagePath));
+
+            if (!apply(postId, imagePath, ImageVariants.format(all))) {
+                // 생성 중 이미지가 교체되었거나 게시글이 삭제됨
+                discard(imagePath, created);
+                result = "skipped";
+                return;
+            }
+            result = "success";
+        } catch (ImageTooLargeException e) {
+            result = "skipped"; // 픽셀 상한 초과 -> 원본만 사용
+            log.warn("[IMAGE] variant skipped, image too large. postId={}, path={}, reason={}", postId, imagePath, e.getMessage());
+        } catch (Exception e) {
+            discard(imagePath, created);
+            log.warn("[IMAGE] variant generation failed. postId={}, path={}, reason={}", postId, imagePath, e.getMessage());
+        } finally {
+            Timer.builder("image.variants.generate")
+                    .tag("result", result)
+                    .description("게시글 이미지 축소본 생성 시간 (이미지 1장 기준)")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 축소본 목록 기록 + 게시글 캐시 무효화 (0건이면 false)
+    private boolean apply(Long postId, String imagePath, String variants) {
+        int updated = jdbcTemplate.update(UPDATE_SQL, variants, postId, imagePath);
+        if (updated == 0) {
+            return false;
+        }
+        postRedisCache.evictPostAfterCommit(postId);
+        postRedisCache.evictListsAfterCommit();
+        postListCache.invalidateAfterCommit();
+        return true;
+    }
+
+    /*
+        기록하지 못한 축소본 정리
+        - 원본을 아직 다른 게시글이 참조하면 유지 (같은 key 의 축소본을 함께 쓰고 있을 수 있음, 원본 반납 시 함께 삭제)
+     */
+    private void discard(String imagePath, List<Variant> created) {
+        if (created.isEmpty() || fileStorageService.isReferenced(imagePath)) {
+            return;
+        }
+        created.forEach(variant -> deleteQuietly(variant.key()));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            fileStorageService.delete(key);
+        } catch (Exception e) {
+            log.warn("[IMAGE] variant delete failed. key={}, reason={}", key, e.getMessage());
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
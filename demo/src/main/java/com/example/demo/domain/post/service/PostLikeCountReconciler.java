@@ -0,0 +1,47 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+    PostLikeCountReconciler
+    - posts.like_count(비정규화 컬럼)를 post_likes 실제 개수 기준으로 보정하는 컴포넌트
+    - 사용 시점
+        1) like_count 컬럼 최초 도입 시 기존 게시글 backfill (컬럼 기본값 0 -> 실제 개수)
+        2) 수동 데이터 수정/장애 등으로 값이 어긋났을 때 재계산 (전체)
+    - 기동 시 실행은 기본 꺼짐 (app.post.like-count.reconcile-on-startup=true 일 때만)
+        >> 전체 게시글 대상 상관 서브쿼리 UPDATE -> 모든 노드의 매 기동마다 돌리면 posts 전체를 잠그고 훑음
+        >> 컬럼 최초 도입(backfill) 때 한 노드에서만 켜고 실행, 이후에는 reconcileAll() 을 필요할 때 직접 호출
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCountReconciler {
+
+    private final PostRepository postRepository;
+
+    @Value("${app.post.like-count.reconcile-on-startup:false}")
+    private boolean reconcileOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional // 내부 reconcileAll() 호출은 프록시를 거치지 않으므로 여기서 트랜잭션 시작
+    public void reconcileOnStartup() {
+        if (!reconcileOnStartup) {
+            return;
+        }
+        int updated = reconcileAll();
+        log.info("[LIKE_COUNT] reconcile on startup. updatedRows={}", updated);
+    }
+
+    // 전체 게시글 보정 (실제 개수와 다른 행만 UPDATE), 보정된 행 수 반환
+    @Transactional
+    public int reconcileAll() {
+        return postRepository.reconcileAllLikeCounts();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.demo.domain.post.service;
 
+import com.example.demo.domain.post.dto.PostLikeCounts;
+import com.example.demo.domain.post.dto.PostLikeToggleResponseDto;
 import com.example.demo.domain.post.entity.Post;
 import com.example.demo.domain.post.entity.PostLike;
 import com.example.demo.domain.post.repository.PostLikeRepository;
@@ -8,17 +10,26 @@ import com.example.demo.domain.user.entity.User;
 import com.example.demo.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException; // UNIQUE 충돌 예외 흡수
+import org.springframework.dao.PessimisticLockingFailureException; // 데드락/락 대기 초과
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.orm.ObjectOptimisticLockingFailureException; // 동시 삭제/갱신 충돌 예외
 
+import java.util.Collection;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
 /*
     PostLikeService
     - 게시글 좋아요 관련 비즈니스 로직을 담당하는 서비스 클래스
     - 주요 기능
-        1) 좋아요 토글 (누르면 추가, 다시 누르면 취소)
-        2) 특정 게시글의 좋아요 개수 조회
+        1) 좋아요 토글 (누르면 추가, 다시 누르면 취소) / 멱등 추가(like)·취소(unlike)
+        2) 특정 게시글의 좋아요 개수 조회 (단건 / 여러 게시글 일괄)
         3) 특정 유저가 특정 게시글에 좋아요를 눌렀는지 여부 확인
+    - 좋아요 추가/취소 시 posts.like_count 도 같은 트랜잭션에서 +1/-1
  */
 @Service
 @RequiredArgsConstructor // final 필드를 매개변수로 받는 생성자를 롬복이 자동 생성
@@ -28,6 +39,10 @@ public class PostLikeService {
     private final PostRepository postRepository; // 게시글 존재 여부, 엔티티 조회용
     private final UserRepository userRepository; // 사용자 존재 여부, 엔티티 조회용
     private final PostLikeRepository postLikeRepository; // 좋아요 엔티티 저장/조회/삭제용
+    private final PostListCache postListCache; // 좋아요 변경 시 목록 캐시 무효화
+    private final PostRedisCache postRedisCache; // 좋아요 변경 시 Redis 목록/상세 캐시 무효화
+    private final PostLikeWriter postLikeWriter; // like/unlike 의 좋아요 행 추가 + like_count 갱신
+    private final TransactionTemplate transactionTemplate; // like/unlike 재시도 단위 (시도마다 새 트랜잭션)
 
     /*
         좋아요 토글 메서드
@@ -35,7 +50,8 @@ public class PostLikeService {
         - 아직 누르지 않았다면 -> 좋아요 추가(생성)
         - 동시 요청(Concurrency) 상황에서,
             insert 중복(UNIQUE충돌) 또는 delete경합 같은 예외가 발생할 수 있으므로
-            메서드는 예외를 "실패"로 두지 않고 흡수 후 DB 최종 상태(exists)를 재조회하여 liked값 결정
+            메서드는 insert/delete 충돌 예외만 흡수 후 DB 최종 상태(exists)를 재조회하여 liked값 결정
+            (like_count 갱신 실패는 그대로 던져 토글 전체를 롤백)
 
         - 반환값(boolean) 의미:
             true  : 현재 호출 결과, "좋아요가 눌려진 상태"가 됨
@@ -56,13 +72,18 @@ public class PostLikeService {
 
         if (exists) {
             // 좋아요가 이미 있으면 -> 쿼리 삭제로 취소
+            int deleted = 0;
             try {
-                postLikeRepository.deleteByPostIdAndUserId(postId, userId);
+                deleted = postLikeRepository.deleteByPostIdAndUserId(postId, userId);
             } catch (ObjectOptimisticLockingFailureException e) {
                 // 동시성 상황: 다른 트랜잭션이 먼저 삭제했을 수 있음
                 // 이미 취소된 것으로 간주하고 계속 진행
-            } catch (Exception e) {
-                // 예상 밖 예외도 동시성 케이스에서는 "취소 시도" 단계에서 흡수
+            }
+            // 실제로 삭제된 경우에만 like_count -1 (같은 트랜잭션 -> 삭제와 원자적으로 반영)
+            // >> 실패는 흡수하지 않음 : 예외로 토글 전체를 롤백해야 post_likes 와 like_count 가 어긋나지 않음
+            if (deleted > 0) {
+                postRepository.decreaseLikeCount(postId);
+                onLikeChanged(postId); // 목록/상세 캐시의 좋아요 수 변경
             }
             // 최종 상태를 DB 기준으로 확정해서 반환
             return postLikeRepository.existsByPostIdAndUserId(postId, userId);
@@ -73,25 +94,128 @@ public class PostLikeService {
                 .user(user)
                 .build();
 
+        boolean inserted = false;
         try {
-            postLikeRepository.save(newLike);
+            postLikeRepository.save(newLike); // IDENTITY 전략 -> save 시점에 INSERT 실행
+            inserted = true;
         } catch (DataIntegrityViolationException e) {
             // 동시성 상황: 다른 트랜잭션이 먼저 insert 했을 수 있음
             // 이미 좋아요 된 것으로 간주하고 계속 진행
-        } catch (Exception e) {
-            // 하이버네이트 세션/엔티티 상태 꼬임을 포함한 예상 밖 예외도 흡수
+        }
+        // INSERT 성공한 경우에만 like_count +1 (같은 트랜잭션 -> 추가와 원자적으로 반영, 실패 시 토글 전체 롤백)
+        if (inserted) {
+            postRepository.increaseLikeCount(postId);
+            onLikeChanged(postId); // 목록/상세 캐시의 좋아요 수 변경
         }
         // 최종 상태를 DB 기준으로 확정해서 반환
         return postLikeRepository.existsByPostIdAndUserId(postId, userId);
     }
 
+    /*
+        like (멱등 좋아요 추가)  - PUT /api/posts/{postId}/likes
+        1) 이미 좋아요 상태면 쓰기 없이 현재 개수 반환 (재호출/중복 클릭 대부분이 여기서 끝)
+        2) like_count +1 로 게시글 행 락을 먼저 잡음 (게시글 없음/삭제됨 -> 예외)
+            >> 같은 글의 좋아요 쓰기는 모두 이 행 락 순서로 줄을 섬 (post_likes FK 확인의 공유 락과 교착 X)
+        3) 좋아요 행 INSERT, UNIQUE 충돌(동시 요청이 먼저 추가)이면 2) 의 +1 을 되돌림
+        - 몇 번을 호출해도 결과는 "좋아요 상태" (토글과 달리 재시도 안전)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션은 retryOnLockFailure 가 시도마다 시작
+    public PostLikeToggleResponseDto like(Long postId, Long userId) {
+        return retryOnLockFailure(() -> {
+            if (postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
+                return likeState(postId, userId, true, OptionalLong.empty());
+            }
+            OptionalLong likeCount = postLikeWriter.increase(postId);
+            if (likeCount.isEmpty()) {
+                throw new IllegalArgumentException("게시글을 찾을 수 없습니다. id=" + postId);
+            }
+            if (postLikeWriter.insertLike(postId, userId)) {
+                onLikeChanged(postId);
+            } else {
+                likeCount = postLikeWriter.decrease(postId);
+            }
+            return likeState(postId, userId, true, likeCount);
+        });
+    }
+
+    /*
+        unlike (멱등 좋아요 취소)  - DELETE /api/posts/{postId}/likes
+        1) 조건부 DELETE 1문장
+        2) 실제로 삭제된 경우 like_count -1, 갱신된 개수를 같은 트랜잭션에서 다시 읽음
+        3) 변경이 없으면 like_count 조회로 현재 개수 확인 (게시글 없으면 예외)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PostLikeToggleResponseDto unlike(Long postId, Long userId) {
+        return retryOnLockFailure(() -> {
+            int deleted = postLikeRepository.deleteByPostIdAndUserId(postId, userId);
+            OptionalLong likeCount = OptionalLong.empty();
+            if (deleted > 0) {
+                likeCount = postLikeWriter.decrease(postId);
+                onLikeChanged(postId);
+            }
+            return likeState(postId, userId, false, likeCount);
+        });
+    }
+
+    /*
+        락 충돌(데드락/락 대기 초과) 시 트랜잭션을 새로 시작해 1회 재시도
+        - 멱등 like/unlike 는 처음부터 다시 실행해도 결과가 같으므로 재시도 안전
+        - 호출한 쪽 트랜잭션에 참여한 경우는 재시도하지 않음 (그 트랜잭션은 이미 롤백 대상)
+     */
+    private <T> T retryOnLockFailure(Supplier<T> work) {
+        boolean joined = TransactionSynchronizationManager.isActualTransactionActive();
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } catch (PessimisticLockingFailureException e) {
+            if (joined) {
+                throw e;
+            }
+            return transactionTemplate.execute(status -> work.get());
+        }
+    }
+
+    // 좋아요가 실제로 추가/취소된 경우 커밋 후 캐시 무효화 (메모리 목록 캐시 + Redis 목록/상세)
+    private void onLikeChanged(Long postId) {
+        postListCache.invalidateAfterCommit();
+        postRedisCache.evictListsAfterCommit();
+        postRedisCache.evictPostAfterCommit(postId);
+    }
+
+    // updated : UPDATE 직후 읽은 개수 (없으면 like_count 조회)
+    private PostLikeToggleResponseDto likeState(Long postId, Long userId, boolean liked, OptionalLong updated) {
+        long likeCount = updated.isPresent()
+                ? updated.getAsLong()
+                : postRepository.findLikeCountById(postId)
+                        .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. id=" + postId));
+
+        return PostLikeToggleResponseDto.builder()
+                .postId(postId)
+                .userId(userId)
+                .liked(liked)
+                .likeCount(likeCount)
+                .build();
+    }
+
     /*
         getLikeCount
         - 특정 게시글에 달린 좋아요 개수 조회
-        - 단순히 Repository의 countByPostId를 감싸는 래퍼 메서드
+        - post_likes COUNT 대신 posts.like_count 비정규화 컬럼을 바로 읽음
+        - 게시글이 없으면 0
      */
     public long getLikeCount(Long postId) {
-        return postLikeRepository.countByPostId(postId); // postId 기준으로 좋아요 개수 카운트
+        return postRepository.findLikeCountById(postId).orElse(0L);
+    }
+
+    /*
+        getLikeCounts
+        - 여러 게시글의 좋아요 수를 post_likes 기준 GROUP BY 1회로 조회
+        - 목록 API 에서 게시글마다 개수를 세는 N+1 대신 사용 (재사용 목적)
+     */
+    public PostLikeCounts getLikeCounts(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return PostLikeCounts.empty();
+        }
+        return PostLikeCounts.of(postLikeRepository.countGroupByPostIds(postIds));
     }
 
     /*
@@ -0,0 +1,69 @@
+package com.example.demo.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/*
+    PostLikeWriter
+    - 멱등 like/unlike 의 쓰기 전용 SQL (JdbcTemplate, 호출한 트랜잭션의 커넥션을 그대로 사용)
+    - 모든 DB 에서 같은 SQL 1벌 (DB 종류 분기 없음 -> 테스트(H2)도 운영(MySQL)과 같은 경로 실행)
+    - like_count 갱신
+        - UPDATE 1문장 후 같은 트랜잭션에서 like_count 를 다시 읽음
+            >> UPDATE 로 잡은 행 락을 커밋까지 유지하므로 그 사이 다른 요청의 변경이 섞이지 않음
+    - 좋아요 행 추가
+        - 중복 여부는 UNIQUE(uk_post_likes_post_user) 로만 판단 (NOT EXISTS 조회 없음)
+            >> INSERT ... SELECT ... WHERE NOT EXISTS 는 MySQL RR 에서 next-key/gap lock -> 같은 글 동시 좋아요 교착
+        - 리포지토리(@Modifying) 대신 JdbcTemplate 사용
+            >> 리포지토리 프록시를 지나는 예외는 바깥 트랜잭션을 rollback-only 로 표시 -> 중복 충돌을 흡수할 수 없음
+*/
+@Component
+@RequiredArgsConstructor
+public class PostLikeWriter {
+
+    private static final String INCREASE =
+            "update posts set like_count = like_count + 1 where id = ? and is_deleted = false";
+
+    private static final String DECREASE =
+            "update posts set like_count = like_count - 1 where id = ? and like_count > 0";
+
+    private static final String SELECT_COUNT =
+            "select like_count from posts where id = ?";
+
+    private static final String INSERT_LIKE =
+            "insert into post_likes (post_id, user_id, created_at, updated_at) " +
+            "values (?, ?, current_timestamp, current_timestamp)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // like_count +1 후 갱신 값 반환 (삭제됐거나 없는 게시글이면 empty)
+    public OptionalLong increase(Long postId) {
+        return update(INCREASE, postId);
+    }
+
+    // like_count -1 후 갱신 값 반환 (게시글이 없거나 이미 0 이면 empty)
+    public OptionalLong decrease(Long postId) {
+        return update(DECREASE, postId);
+    }
+
+    // 좋아요 행 추가, 이미 있으면(UNIQUE 충돌) false
+    public boolean insertLike(Long postId, Long userId) {
+        try {
+            return jdbcTemplate.update(INSERT_LIKE, postId, userId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false; // 문장 단위 실패 -> 트랜잭션은 계속 사용 가능 (MySQL/H2 공통)
+        }
+    }
+
+    private OptionalLong update(String sql, Long postId) {
+        if (jdbcTemplate.update(sql, postId) == 0) {
+            return OptionalLong.empty();
+        }
+        List<Long> rows = jdbcTemplate.queryForList(SELECT_COUNT, Long.class, postId);
+        return rows.isEmpty() ? OptionalLong.empty() : OptionalLong.of(rows.get(0));
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.dto.PostListResponseDto;
+import com.example.demo.global.transaction.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+    PostListCache : 게시글 목록 앞쪽 페이지 메모리 캐시
+    - 목록 트래픽 대부분이 0번 페이지(size 10/20)에 몰리므로 앞쪽 N 페이지만 캐시
+    - 캐시 대상 : page < maxPages, size <= maxPageSize, 정렬 없음 또는 id 내림차순(기본 정렬)
+                  + 읽기 전용 트랜잭션(또는 트랜잭션 없음)에서의 조회
+    - 무효화
+        1) 게시글 생성/수정/삭제, 좋아요 변경 시 커밋 이후 invalidate (버전 증가 + 전체 비움)
+        2) 짧은 TTL (조회수처럼 무효화 대상이 아닌 값의 오래된 정도 제한)
+    - 버전(version) : DB 조회 시작 시점의 버전과 저장 시점 버전이 다르면 저장하지 않음
+        >> 조회 도중 다른 요청이 무효화한 경우, 변경 전 데이터가 캐시에 남지 않음
+    - 지표 : post.list.cache{result=hit|miss} 카운터, post.list.cache.size 게이지 (Prometheus 노출)
+*/
+@Component
+public class PostListCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Value("${app.post.list-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.post.list-cache.max-pages:3}")
+    private int maxPages;
+
+    @Value("${app.post.list-cache.max-page-size:50}")
+    private int maxPageSize;
+
+    @Value("${app.post.list-cache.ttl-ms:5000}")
+    private long ttlMillis;
+
+    public PostListCache(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder("post.list.cache")
+                .tag("result", "hit")
+                .description("게시글 목록 캐시 적중 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("post.list.cache")
+                .tag("result", "miss")
+                .description("게시글 목록 캐시 미적중 횟수")
+                .register(meterRegistry);
+        Gauge.builder("post.list.cache.size", entries, ConcurrentHashMap::size)
+                .description("캐시된 게시글 목록 페이지 수")
+                .register(meterRegistry);
+    }
+
+    /*
+        캐시 조회 (없으면 loader 로 DB 조회 후 저장)
+        - 캐시 대상이 아닌 요청은 loader 결과를 그대로 반환 (지표 집계 X)
+    */
+    public List<PostListResponseDto> get(Pageable pageable, Supplier<List<PostListResponseDto>> loader) {
+        if (!isCacheable(pageable)) {
+            return loader.get();
+        }
+
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize();
+        long now = System.currentTimeMillis();
+        long currentVersion = version.get();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.version == currentVersion && cached.expiresAt > now) {
+            hitCounter.increment();
+            return cached.content;
+        }
+
+        missCounter.increment();
+        List<PostListResponseDto> loaded = List.copyOf(loader.get());
+        if (version.get() == currentVersion) {
+            entries.put(key, new Entry(loaded, currentVersion, now + ttlMillis));
+        }
+        return loaded;
+    }
+
+    // 즉시 무효화
+    public void invalidate() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    // 현재 트랜잭션 커밋 후 무효화 (롤백되면 무효화 X)
+    public void invalidateAfterCommit() {
+        AfterCommit.run(this::invalidate);
+    }
+
+    private boolean isCacheable(Pageable pageable) {
+        if (!enabled || pageable.isUnpaged()) {
+            return false;
+        }
+        // 쓰기 트랜잭션 안의 조회는 커밋 전 변경이 섞일 수 있으므로 캐시 사용 X
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        if (pageable.getPageNumber() >= maxPages || pageable.getPageSize() > maxPageSize) {
+            return false;
+        }
+        Sort sort = pageable.getSort();
+        return sort.isUnsorted() || sort.equals(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    private record Entry(List<PostListResponseDto> content, long version, long expiresAt) {
+    }
+}
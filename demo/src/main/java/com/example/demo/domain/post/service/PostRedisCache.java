@@ -0,0 +1,206 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.dto.PostDetailResponseDto;
+import com.example.demo.domain.post.dto.PostListResponseDto;
+import com.example.demo.global.transaction.AfterCommit;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/*
+    PostRedisCache : 여러 앱 노드가 공유하는 Redis 캐시 (게시글 상세 / 목록 앞쪽 페이지)
+    - 값 : 응답 DTO 를 JSON 문자열로 미리 직렬화해서 저장 + TTL
+    - 키 버전(versioned key)으로 무효화
+        * 버전 키   : cache:post:ver:{postId}, cache:post:list:ver  (INCR 로 증가)
+        * 상세 키   : cache:post:detail:{postId}:v{버전}
+        * 목록 키   : cache:post:list:v{버전}:{page}:{size}
+        >> 쓰기 발생 시 버전만 올리면 모든 노드가 새 키를 보게 됨 (이전 키는 TTL 로 자연 만료)
+    - 무효화 시점 : 커밋 이후 (PostService, CommentService, PostLikeService)
+    - app.cache.redis.enabled=false(기본) 이면 항상 loader 로 DB 조회
+    - Redis 장애/직렬화 오류는 로그만 남기고 DB 조회로 대체 (캐시 때문에 요청이 실패하지 않음)
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRedisCache {
+
+    private static final String POST_VERSION_KEY_PREFIX = "cache:post:ver:";
+    private static final String LIST_VERSION_KEY = "cache:post:list:ver";
+    private static final String DETAIL_KEY_PREFIX = "cache:post:detail:";
+    private static final String LIST_KEY_PREFIX = "cache:post:list:v";
+
+    private static final TypeReference<List<PostListResponseDto>> LIST_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.cache.redis.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cache.redis.detail-ttl-seconds:30}")
+    private long detailTtlSeconds;
+
+    @Value("${app.cache.redis.list-ttl-seconds:10}")
+    private long listTtlSeconds;
+
+    @Value("${app.cache.redis.list-max-pages:3}")
+    private int listMaxPages;
+
+    // 게시글 상세 캐시 조회 (없으면 loader 실행 후 저장)
+    public PostDetailResponseDto getDetail(Long postId, Supplier<PostDetailResponseDto> loader) {
+        if (!usable()) {
+            return loader.get();
+        }
+        String key = detailKey(postId);
+        if (key == null) {
+            return loader.get();
+        }
+        PostDetailResponseDto cached = read(key, PostDetailResponseDto.class);
+        if (cached != null) {
+            return cached;
+        }
+        PostDetailResponseDto loaded = loader.get();
+        write(key, loaded, detailTtlSeconds);
+        return loaded;
+    }
+
+    // 캐시된 상세만 조회 (없으면 null)
+    public PostDetailResponseDto findDetail(Long postId) {
+        if (!usable()) {
+            return null;
+        }
+        String key = detailKey(postId);
+        return (key != null) ? read(key, PostDetailResponseDto.class) : null;
+    }
+
+    // 게시글 상세 캐시 저장
+    public void putDetail(Long postId, PostDetailResponseDto detail) {
+        if (!usable()) {
+            return;
+        }
+        String key = detailKey(postId);
+        if (key != null) {
+            write(key, detail, detailTtlSeconds);
+        }
+    }
+
+    // 게시글 목록 캐시 조회 (앞쪽 페이지 + 기본 정렬만, 없으면 loader 실행 후 저장)
+    public List<PostListResponseDto> getList(Pageable pageable, Supplier<List<PostListResponseDto>> loader) {
+        if (!usable() || !isCacheablePage(pageable)) {
+            return loader.get();
+        }
+        String key = listKey(pageable);
+        if (key == null) {
+            return loader.get();
+        }
+        List<PostListResponseDto> cached = read(key, LIST_TYPE);
+        if (cached != null) {
+            return cached;
+        }
+        List<PostListResponseDto> loaded = loader.get();
+        write(key, loaded, listTtlSeconds);
+        return loaded;
+    }
+
+    // 커밋 후 게시글 상세 캐시 무효화 (게시글 수정/삭제, 댓글 변경, 좋아요 변경)
+    public void evictPostAfterCommit(Long postId) {
+        if (enabled) {
+            AfterCommit.run(() -> increment(POST_VERSION_KEY_PREFIX + postId));
+        }
+    }
+
+    // 커밋 후 목록 캐시 무효화 (게시글 생성/수정/삭제, 좋아요 변경)
+    public void evictListsAfterCommit() {
+        if (enabled) {
+            AfterCommit.run(() -> increment(LIST_VERSION_KEY));
+        }
+    }
+
+    // 쓰기 트랜잭션 안의 조회는 커밋 전 변경이 섞일 수 있으므로 캐시 사용 X
+    private boolean usable() {
+        if (!enabled) {
+            return false;
+        }
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private boolean isCacheablePage(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getPageNumber() >= listMaxPages) {
+            return false;
+        }
+        Sort sort = pageable.getSort();
+        return sort.isUnsorted() || sort.equals(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    private String detailKey(Long postId) {
+        String version = version(POST_VERSION_KEY_PREFIX + postId);
+        return (version != null) ? DETAIL_KEY_PREFIX + postId + ":v" + version : null;
+    }
+
+    private String listKey(Pageable pageable) {
+        String version = version(LIST_VERSION_KEY);
+        return (version != null)
+                ? LIST_KEY_PREFIX + version + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize()
+                : null;
+    }
+
+    // 버전 조회 실패(Redis 장애) 시 예외를 던지지 않고 null -> 호출부는 캐시 없이 DB 조회
+    private String version(String versionKey) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey);
+            return (version != null) ? version : "0";
+        } catch (Exception e) {
+            log.warn("[CACHE] version read failed. key={}, reason={}", versionKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void increment(String versionKey) {
+        try {
+            redisTemplate.opsForValue().increment(versionKey);
+        } catch (Exception e) {
+            log.warn("[CACHE] version increment failed. key={}, reason={}", versionKey, e.getMessage());
+        }
+    }
+
+    private <T> T read(String key, Class<T> type) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return (json != null) ? objectMapper.readValue(json, type) : null;
+        } catch (Exception e) {
+            log.warn("[CACHE] read failed. key={}, reason={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private <T> T read(String key, TypeReference<T> type) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return (json != null) ? objectMapper.readValue(json, type) : null;
+        } catch (Exception e) {
+            log.warn("[CACHE] read failed. key={}, reason={}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void write(String key, Object value, long ttlSeconds) {
+        try {
+            redisTemplate.opsForValue()
+                    .set(key, objectMapper.writeValueAsString(value), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("[CACHE] write failed. key={}, reason={}", key, e.getMessage());
+        }
+    }
+}
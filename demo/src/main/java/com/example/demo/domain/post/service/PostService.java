@@ -3,16 +3,19 @@ package com.example.demo.domain.post.service;
 import com.example.demo.domain.comment.dto.CommentResponseDto;
 import com.example.demo.domain.comment.entity.Comment;
 import com.example.demo.domain.comment.repository.CommentRepository;
+import com.example.demo.domain.post.dto.PostCursorResponseDto;
 import com.example.demo.domain.post.dto.PostDetailResponseDto;
+import com.example.demo.domain.post.dto.PostLikeCounts;
 import com.example.demo.domain.post.dto.PostListResponseDto;
 import com.example.demo.domain.post.dto.PostResponseDto;
 import com.example.demo.domain.post.entity.Post;
-import com.example.demo.domain.post.repository.PostLikeRepository;
 import com.example.demo.domain.post.repository.PostRepository;
+import com.example.demo.domain.post.search.PostSearchIndex;
 import com.example.demo.domain.user.entity.User;
 import com.example.demo.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -22,7 +25,12 @@ import com.example.demo.global.file.FileStorageService;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor // final 필드를 매개변수로 받는 생성자 자동생성
@@ -33,6 +41,7 @@ import java.util.List;
         2 단건 조회 + 조회수 증가 메서드
         3 게시글 상세 조회 (UI 상세 진입 전용)
         4 전체 조회 (페이징)
+        4-1 전체 조회 (커서/keyset 페이징)
         5 작성자 기준 조회
         6 검색 (제목 + 내용)
         7 게시글 수정 (Update)
@@ -45,10 +54,26 @@ public class PostService {
     // 작성자 조회하기 위한 리포지토리
     private final CommentRepository commentRepository;
     // 댓글 조회를 위한 리포지토리 ( 게시글 상세 조회 시, 해당 게시글의 댓글 목록 가져오기 위해)
-    private final PostLikeRepository postLikeRepository;
-    // 게시글 좋아요 정보를 조회하기 위한 리포지토리
     private final FileStorageService fileStorageService;
     // 이미지 저장/삭제 담당 서비스
+    private final PostImageVariantService postImageVariantService;
+    // 이미지 폭별 축소본 생성 (커밋 후 비동기)
+    private final PostCountProvider postCountProvider;
+    // 게시글 총 개수(메모리 보관) 제공, 목록 COUNT 쿼리 대체
+    private final PostViewCountBuffer postViewCountBuffer;
+    // 조회수 증가분 버퍼(write-behind), 주기적으로 배치 UPDATE
+    private final DisplayNumberAllocator displayNumberAllocator;
+    // 게시글 번호(displayNumber) 발급기 (hi/lo 블록 예약)
+    private final PostSearchIndex postSearchIndex;
+    // 게시글 검색용 메모리 역색인
+    private final PostListCache postListCache;
+    // 게시글 목록 앞쪽 페이지 캐시 (쓰기 커밋 후 무효화)
+    private final PostRedisCache postRedisCache;
+    // 노드 공유 Redis 캐시 (상세/목록, 버전 키 무효화)
+    private final PostLikeService postLikeService;
+    // 목록(작성자/검색) 페이지의 좋아요 수 일괄 조회 (GROUP BY 1회)
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100; // 커서 목록 1회 최대 조회 개수
 
     // 1. 게시글 생성
     @Transactional // 글생성은 데이터 변경, readOnly=false 트랜잭션 실행
@@ -59,11 +84,8 @@ public class PostService {
                         ()->new IllegalArgumentException("작성자를 찾을 수 없습니다. id=" + authorId));
                 // authorId로 DB검색, 없으면 예외 던지기
 
-        // displayNumber 가장 큰 수 DB에서 찾기, softDelete 자동 제외
-        Long maxNumber = postRepository.findMaxDisplayNumber();
-
-        // 추가될 게시글 번호 계산,생성
-        Long nextNumber = maxNumber+1;
+        // 추가될 게시글 번호 발급 (예약된 번호 구간에서 메모리 발급, MAX 조회 X)
+        Long nextNumber = displayNumberAllocator.next();
 
         // Builder사용 게시글 생성
         Post post = Post.builder()
@@ -75,6 +97,9 @@ public class PostService {
 
         // DB에 저장 -> 저장된 엔티티 반환
         Post saved = postRepository.save(post);
+        postCountProvider.increaseAfterCommit(); // 커밋 후 총 개수 +1
+        postListCache.invalidateAfterCommit(); // 커밋 후 목록 캐시 무효화
+        postRedisCache.evictListsAfterCommit();
 
         // 엔티티를 DTO로 변환 , Controller에 반환
         return PostResponseDto.from(saved, 0L); //새로만든 글은 좋아요 없다고 보고 likeCount 0으로 세팅
@@ -87,16 +112,13 @@ public class PostService {
         User author = userRepository.findById(authorId)
                 .orElseThrow(() -> new IllegalArgumentException("작성자를 찾을 수 없습니다. id=" + authorId));
 
-        //displayNumber 가장 큰 수 DB에서 찾기, softDelete 자동 제외
-        Long maxNumber = postRepository.findMaxDisplayNumber();
-
-        // 추가될 게시글 번호 계산, 생성
-        Long nextNumber = maxNumber +1;
+        // 추가될 게시글 번호 발급 (예약된 번호 구간에서 메모리 발급, MAX 조회 X)
+        Long nextNumber = displayNumberAllocator.next();
 
         // 이미지 저장 (파일 없으면 null유지)
         String savePath = null;
         if (image != null && !image.isEmpty()){
-            savePath = fileStorageService.save(image); // ex) posts/uuid.jpg
+            savePath = fileStorageService.save(image); // ex) posts/{sha256}.jpg
         }
 
         // Builder사용 게시글 생성
@@ -110,60 +132,85 @@ public class PostService {
 
         // DB 저장 >> 저장된 엔티티 반환
         Post saved = postRepository.save(post);
+        postCountProvider.increaseAfterCommit(); // 커밋 후 총 개수 +1
+        postListCache.invalidateAfterCommit(); // 커밋 후 목록 캐시 무효화
+        postRedisCache.evictListsAfterCommit();
+        postImageVariantService.generateAfterCommit(saved.getId(), savePath); // 커밋 후 축소본 생성 (이미지 없으면 무시)
 
         // 엔티티를 DTO로 변환 , Controller에 반환
         return PostResponseDto.from(saved, 0L); //새로만든 글은 좋아요 없다고 보고 likeCount 0으로 세팅
     }
 
     // 2. 게시글 단건 조회 + 조회수 증가
-    @Transactional //조회수 증가 때문에 데이터 변경 필요
     public PostResponseDto getPostById(Long postId){
 
-        /* 2-1) 조회수 증가
-            - 벌크 업데이트 -> 엔티티 변화 감지와 관계 없이 DB에서 바로 증가
-            - updated가 0이면 해당 ID의 글 자체가 없음 -> 예외처리
-         */
-        int updated = postRepository.increaseViews(postId);
-
-        if (updated == 0){
-            throw new IllegalArgumentException("게시글을 찾을 수 없습니다. id="+postId );
-        }
-
-        /* 2-2) 실제 게시글 조회
+        /* 2-1) 실제 게시글 조회
             - softDelete 적용(@Where is_deleted=false)
             - 삭제된 글은 자동으로 조회 불가
         */
         Post post = postRepository.findById(postId)
                 .orElseThrow(()-> new IllegalArgumentException("게시글을 찾을 수 없습니다. id="+postId));
 
+        /* 2-2) 조회수 증가
+            - UPDATE 를 바로 실행하지 않고 PostViewCountBuffer 에 +1 (주기적으로 배치 반영)
+            - 쓰기 트랜잭션/행 락이 필요 없으므로 읽기 전용 트랜잭션으로 처리
+         */
+        postViewCountBuffer.increment(postId);
+
         // 2-3) 해당 게시글 좋아요 수 조회
-        long likeCount = postLikeRepository.countByPostId(postId);
+        long likeCount = post.getLikeCount();
 
-        // 2-4) DTO로 반환하여 반환 ( 조회수 + Like )
-        return PostResponseDto.from(post, likeCount);
+        // 2-4) DTO로 반환하여 반환 ( 조회수(DB + 미반영분) + Like )
+        return PostResponseDto.from(post, likeCount, currentViews(post));
     }
 
 
     // 3. 게시글 상세 조회 (UI 상세 진입 전용)
-    @Transactional
     public PostDetailResponseDto getPostDetailWithViewIncrease(Long postId){
 
-        // 1) 조회수 증가 (게시글 없으면 예외)
-        int updated = postRepository.increaseViews(postId);
-        if (updated == 0){
-            throw new IllegalArgumentException("게시글을 찾을 수  없습니다. id="+postId );
+        /* 1) 공유 캐시(Redis)에 상세가 있으면 댓글/좋아요 조회 없이 조회수만 증가
+            - 캐시의 views 는 캐싱 시점 값으로 고정 -> PK 단건으로 DB 조회수만 읽어 미반영분(이번 조회 포함)을 더해 덮어씀
+            - 그 사이 삭제된 글이면 조회수 조회가 비어 있음 -> 캐시 대신 없는 글로 처리
+        */
+        PostDetailResponseDto cached = postRedisCache.findDetail(postId);
+        if (cached != null) {
+            int dbViews = postRepository.findViewsById(postId)
+                    .orElseThrow(()-> new IllegalArgumentException("게시글을 찾을 수 없습니다. id=" + postId));
+            postViewCountBuffer.increment(postId);
+            return cached.withViews(currentViews(postId, dbViews));
         }
-            // 2) 증가 없는 상세 조회 로직 재사용
-            return getPostDetail(postId); // getPostDetail이 조회수 증가를 하지 않으므로 1회만 증가
+
+        // 2) 게시글 조회 (없으면 예외)
+        Post post = postRepository.findById(postId)
+                .orElseThrow(()-> new IllegalArgumentException("게시글을 찾을 수 없습니다. id=" + postId));
+
+        // 3) 조회수 증가 (메모리 버퍼, 배치 반영)
+        postViewCountBuffer.increment(postId);
+
+        // 4) 증가 없는 상세 조회 로직 재사용 + 공유 캐시 저장
+        PostDetailResponseDto detail = buildPostDetail(post);
+        postRedisCache.putDetail(postId, detail);
+        return detail;
     }
 
 
     // 조회수 증가 없는 상세 데이터 조회 (수정폼/권한검증/내부조회/리다이렉트 후 재조회 등에 사용)
     public PostDetailResponseDto getPostDetail(Long postId){
 
-        // 1)실제 게시글 엔티티 조회 ( softDelete 적용으로 삭제된 글 자동제외 )
-        Post post = postRepository.findById(postId)
-                .orElseThrow(()-> new IllegalArgumentException("게시글을 찾을 수 없습니다. id=" + postId));
+        // 공유 캐시(Redis) 우선, 없으면 DB 조회 후 저장
+        return postRedisCache.getDetail(postId, () -> {
+            // 1)실제 게시글 엔티티 조회 ( softDelete 적용으로 삭제된 글 자동제외 )
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(()-> new IllegalArgumentException("게시글을 찾을 수 없습니다. id=" + postId));
+
+            return buildPostDetail(post);
+        });
+    }
+
+    // 상세 응답 구성 (댓글 최신 10개 + 좋아요 수 + 조회수)
+    private PostDetailResponseDto buildPostDetail(Post post){
+        Long postId = post.getId();
+
         /* 2) 해당 게시글의 댓글 엔티티 목록 조회
                 페이징을 사용하여 "최신 10개"만 조회
                 + Page 객체를 통해 전체 댓글 개수도 함께 가져옴
@@ -202,7 +249,7 @@ public class PostService {
         int latestCommentsSize = commentDtoList.size();
 
         // 4) 해당 게시글의 Like 수 조회
-        long likeCount = postLikeRepository.countByPostId(postId);
+        long likeCount = post.getLikeCount();
 
         /* 5) PostDetailResponseDto 로 통합 응답 생성
          - Post 엔티티 + 댓글 DTO 목록을 하나의 응답 객체로 묶어서 반환
@@ -218,7 +265,8 @@ public class PostService {
                 commentDtoList,               // 최신 댓글 목록(최대 10개)
                 totalCommentsCount,           // 전체 댓글 개수
                 latestCommentsSize,            // 실제로 포함된 댓글 개수
-                likeCount
+                likeCount,
+                currentViews(post)             // 조회수 (DB + 미반영분)
         );
     }
 
@@ -229,10 +277,79 @@ public class PostService {
         /* 4-1) 게시글 목록 조회
              - Post_id 기준 내림차순(최신글이 위로)
              - Pageable을 통해 page, size, sort 지정 가능
-             - Repository에서 JOIN + GROUP BY 로 PostListResponseDto를 직접 조회
+             - Repository에서 PostListResponseDto를 직접 조회 (like_count 컬럼 사용, 집계 없음)
+        */
+        List<PostListResponseDto> content =
+                postListCache.get(pageable, () ->               // 1차 : 노드 메모리 캐시
+                        postRedisCache.getList(pageable, () ->      // 2차 : 노드 공유 Redis 캐시
+                                postRepository.findPostList(pageable)));
+
+        /* 4-2) 총 개수는 COUNT 쿼리 대신 PostCountProvider 값 사용
+             - 마지막 페이지에서는 PageImpl 이 content 크기로 total 을 보정
+        */
+        return new PageImpl<>(content, pageable, postCountProvider.getTotal());
+
+    }
+
+    // 4-1. 최신 게시글 전체 조회 (커서 기반, OFFSET 없음)
+    public PostCursorResponseDto getPostsByCursor(String after, int size){
+
+        /* 1) 요청 size 보정 (1 ~ MAX_CURSOR_PAGE_SIZE)
+            - 비정상 값으로 과도한 조회가 발생하지 않도록 서버에서 제한
         */
-        return postRepository.findPostListWithLikeCount(pageable);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
 
+        /* 2) size + 1 개 조회
+            - 1개를 더 읽어서 다음 페이지 존재 여부를 COUNT 쿼리 없이 판단
+            - after 가 없으면 첫 페이지, 있으면 커서 id 보다 작은 id부터 seek
+        */
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<PostListResponseDto> rows = (after == null || after.isBlank())
+                ? postRepository.findFirstPostListByCursor(limit)
+                : postRepository.findPostListByCursor(decodeCursor(after), limit);
+
+        // 3) 다음 페이지 판단 + 초과로 읽은 1개 제거
+        boolean hasNext = rows.size() > pageSize;
+        List<PostListResponseDto> posts = hasNext ? rows.subList(0, pageSize) : rows;
+
+        // 4) 마지막으로 내려간 게시글 id를 다음 커서로 인코딩
+        String nextCursor = hasNext ? encodeCursor(posts.get(posts.size() - 1).getId()) : null;
+
+        return PostCursorResponseDto.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
+    /* 4-2. 게시글 id 이후 목록을 가리키는 커서
+        - OFFSET 목록(첫 페이지 캐시 경로)의 다음 링크를 커서 모드로 넘길 때 사용
+    */
+    public String cursorAfter(Long id){
+        return encodeCursor(id);
+    }
+
+    /* 커서 인코딩/디코딩
+        - 클라이언트는 커서 내부 구조(id)에 의존하지 않고 받은 값을 그대로 after 로 돌려줌
+        - Base64 URL-safe 인코딩 (쿼리스트링에 그대로 사용 가능)
+    */
+    private static String encodeCursor(Long id){
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Long decodeCursor(String cursor){
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            long id = Long.parseLong(decoded);
+            if (id <= 0) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다. cursor=" + cursor);
+            }
+            return id;
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서 값입니다. cursor=" + cursor);
+        }
     }
 
     // 5. 작성자 기준 게시글 조회 (페이징)
@@ -241,33 +358,82 @@ public class PostService {
         // 5-1) 작성자 ID(authorId) 기준 게시글 목록 페이징 조회
         Page<Post> posts = postRepository.findByAuthorId(authorId,pageable);
 
-        // 5-2) DTO로 변환 후 반환 + 게시글 별 LIKE 수 포함
-        return posts.map(post -> {
-            long likeCount = postLikeRepository.countByPostId(post.getId()); // 게시글 LIKE 수 조회
-            return PostResponseDto.from(post, likeCount);
-        });
+        // 5-2) 페이지 게시글들의 LIKE 수를 한 번에 조회 (게시글마다 COUNT 하지 않음)
+        PostLikeCounts likeCounts = postLikeService.getLikeCounts(posts.map(Post::getId).getContent());
+
+        // 5-3) DTO로 변환 후 반환 + 게시글 별 LIKE 수 포함
+        return posts.map(post -> PostResponseDto.from(post, likeCounts.get(post.getId())));
     }
 
     // 6. 제목 + 내용 키워드 검색 (IgnoreCase, 페이징)
     public Page<PostResponseDto> searchPosts(String keyword, Pageable pageable){
 
-        // 6-1) keyword가 제목or내용에 포함된 글 검색
+        // 6-1) 검색 인덱스 구축 전이면 기존 LIKE 검색으로 대체
+        if (!postSearchIndex.isReady()) {
+            return searchPostsByLike(keyword, pageable);
+        }
+
+        /* 6-2) 메모리 역색인에서 후보 id 목록 조회 (최신순)
+            - 검색어의 n-gram 토큰을 모두 가진 게시글 (원문은 색인에 없으므로 포함 여부는 6-4 에서 확인)
+            - 정렬은 항상 id 내림차순 (pageable 의 sort 는 사용하지 않음)
+        */
+        long[] matchedIds = postSearchIndex.search(keyword);
+
+        // 6-3) 현재 페이지 분량의 id만 잘라냄
+        int from = (int) Math.min(pageable.getOffset(), matchedIds.length);
+        int to = Math.min(from + pageable.getPageSize(), matchedIds.length);
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(matchedIds[i]);
+        }
+
+        /* 6-4) 해당 id 만 DB에서 조회(hydrate) 후 인덱스 순서(최신순)대로 정렬
+            - DB 의 제목/내용으로 검색어 포함 여부를 확인
+              (n-gram 이 떨어진 위치에만 있는 게시글, 수정 전 토큰으로 남은 후보 제외)
+            - DB 에서 못 찾은 id 중 논리 삭제가 확인된 id 만 색인에서 제거
+              (아직 읽히지 않는 id - 조회 시작 후 커밋된 새 게시글 등 - 는 결과에서만 제외하고 색인은 유지)
+        */
+        Map<Long, Post> found = new HashMap<>();
+        if (!pageIds.isEmpty()) {
+            postRepository.findByIdIn(pageIds).forEach(post -> found.put(post.getId(), post));
+        }
+
+        PostLikeCounts likeCounts = postLikeService.getLikeCounts(found.keySet()); // 페이지 LIKE 수 일괄 조회
+
+        List<PostResponseDto> content = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        int excluded = 0;
+        for (Long id : pageIds) {
+            Post post = found.get(id);
+            if (post == null) {
+                missingIds.add(id);
+                excluded++;
+                continue;
+            }
+            if (!postSearchIndex.matches(keyword, post.getTitle(), post.getContent())) {
+                excluded++;
+                continue;
+            }
+            content.add(PostResponseDto.from(post, likeCounts.get(id)));
+        }
+        if (!missingIds.isEmpty()) {
+            List<Long> deletedIds = postRepository.findDeletedIdsIn(missingIds);
+            if (!deletedIds.isEmpty()) {
+                postSearchIndex.removeAll(deletedIds);
+            }
+        }
+
+        return new PageImpl<>(content, pageable, matchedIds.length - excluded);
+    }
+
+    // 6-5) 기존 LIKE 검색 (검색 인덱스 구축 전 대체 경로)
+    private Page<PostResponseDto> searchPostsByLike(String keyword, Pageable pageable){
         Page<Post> posts = postRepository
                 .findByTitleContainingIgnoreCaseOrContentContainingIgnoreCase(
                         keyword, keyword, pageable
                 );
-        // 6-2) DTO로 변환 후 반환 + 게시글별 LIKE 수 포함하도록 람다식 변환
-        return posts.map(post -> {
-              long likeCount = postLikeRepository.countByPostId(post.getId());
-              return PostResponseDto.from(post, likeCount);
-                });
-        /* 이전 코드
-        return posts.map(PostResponseDto::from);
-            PostResponseDto::from
-                        ==
-            “posts(Page<Post>) 안에 들어 있는 모든 Post를
-            PostResponseDto.from(Post)로 변환해서
-            Page<PostResponseDto> 로 만들어서 반환해라.”*/
+        PostLikeCounts likeCounts = postLikeService.getLikeCounts(posts.map(Post::getId).getContent());
+        return posts.map(post -> PostResponseDto.from(post, likeCounts.get(post.getId())));
     }
 
     // 7. 게시글 수정 -> 수정을 위해 별도 트랜잭션 필요
@@ -291,10 +457,13 @@ public class PostService {
             - JPA 변경 감지(Dirty Checking)에 의해 트랜잭션 종료시 자동으로 UPDATE 쿼리 실행
         */
         post.update(title,content);
+        postListCache.invalidateAfterCommit(); // 커밋 후 목록 캐시 무효화
+        postRedisCache.evictListsAfterCommit();
+        postRedisCache.evictPostAfterCommit(postId);
 
         // 7-3) 수정된 엔티티를 DTO 변환 후 반환 + 수정 후 게시글 LIKE 수도 함께 전달
-        long likeCount = postLikeRepository.countByPostId(postId);
-        return PostResponseDto.from(post, likeCount);
+        long likeCount = post.getLikeCount();
+        return PostResponseDto.from(post, likeCount, currentViews(post));
     }
 
     // 추가 updatPost(이미지 수정 오버로드)
@@ -311,24 +480,31 @@ public class PostService {
 
         // 1) 제목/내용 수정
         post.update(title, content);
+        postListCache.invalidateAfterCommit(); // 커밋 후 목록 캐시 무효화
+        postRedisCache.evictListsAfterCommit();
+        postRedisCache.evictPostAfterCommit(postId);
 
         // 2) 이미지 처리: 파일이 없으면 기존 이미지 유지
         if (image != null && !image.isEmpty()) {
             String oldImagePath = post.getImagePath(); // 기존 이미지 백업
-            String savedPath = fileStorageService.save(image); // 새 이미지 저장
-            post.changeImage(savedPath); // DB에 새 경로 반영
-            // 새 이미지 저장 성공 후 기존 파일 삭제
-            if (oldImagePath != null
-                    && !oldImagePath.isBlank()
-                    && !oldImagePath.equals(savedPath)) {
-
-                fileStorageService.delete(oldImagePath); // 실제 파일 삭제
+            String oldImageVariants = post.getImageVariants(); // 기존 축소본 목록 백업
+            String savedPath = fileStorageService.save(image); // 새 이미지 저장 (같은 내용이면 참조 수만 증가)
+
+            if (savedPath.equals(oldImagePath)) {
+                // 같은 사진 재첨부 : 경로/축소본 유지, 방금 늘어난 참조만 커밋 후 반납
+                fileStorageService.releaseAfterCommit(savedPath, List.of());
+            } else {
+                post.changeImage(savedPath); // DB에 새 경로 반영 (축소본 목록 초기화)
+                postImageVariantService.generateAfterCommit(postId, savedPath); // 커밋 후 새 이미지 축소본 생성
+                // 커밋 후 기존 파일 참조 반납 (마지막 참조였으면 원본 + 축소본 삭제)
+                fileStorageService.releaseAfterCommit(oldImagePath,
+                        postImageVariantService.variantKeys(oldImagePath, oldImageVariants));
             }
         }
 
         // 3) 반환 DTO
-        long likeCount = postLikeRepository.countByPostId(postId);
-        return PostResponseDto.from(post, likeCount);
+        long likeCount = post.getLikeCount();
+        return PostResponseDto.from(post, likeCount, currentViews(post));
     }
 
     // 8. 게시글 삭제 ( Soft Delete )
@@ -346,15 +522,30 @@ public class PostService {
             throw new AccessDeniedException("작성자만 게시글을 삭제할 수 있습니다.");
         }
 
-        // 삭제 전 이미지 파일 같이 삭제
+        // 커밋 후 이미지 참조 반납 (같은 사진을 쓰는 다른 글이 없을 때만 원본 + 축소본 삭제)
         String imagePath = post.getImagePath();
-        if (imagePath != null && !imagePath.isBlank()) {
-            fileStorageService.delete(imagePath);
-        }
+        fileStorageService.releaseAfterCommit(imagePath,
+                postImageVariantService.variantKeys(imagePath, post.getImageVariants()));
 
         post.delete();
+        postCountProvider.decreaseAfterCommit(); // 커밋 후 총 개수 -1
+        postListCache.invalidateAfterCommit(); // 커밋 후 목록 캐시 무효화
+        postRedisCache.evictListsAfterCommit();
+        postRedisCache.evictPostAfterCommit(postId);
         // JPA 변경 감지에 의해 트랜잭션 종료시 UPDATE쿼리 실행
         // ->> (is_deleted = true)로 변경
     }
 
+    /* 화면에 보여줄 조회수
+        - DB에 반영된 views + PostViewCountBuffer 에 쌓여 아직 반영되지 않은 증가분
+    */
+    private int currentViews(Post post){
+        return currentViews(post.getId(), post.getViews());
+    }
+
+    private int currentViews(Long postId, int dbViews){
+        long views = dbViews + postViewCountBuffer.getPending(postId);
+        return (int) Math.min(Integer.MAX_VALUE, views);
+    }
+
 }
@@ -0,0 +1,146 @@
+package com.example.demo.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    PostViewCountBuffer
+    - 게시글 조회수 증가를 메모리에 모아두었다가 주기적으로 한 번에 DB 반영 (write-behind)
+    - 기존 방식 : 조회 1회마다 쓰기 트랜잭션 + UPDATE posts SET views = views + 1
+        >> 인기 게시글은 같은 행(row) 락에 요청이 줄을 서는 구조
+    - 변경 방식
+        1) 조회 시 게시글별 LongAdder 에 +1 (map 잠금 없이 셀 단위로 분산되는 메모리 연산)
+        2) 주기적으로(기본 3초) 쌓인 증가분을 UPDATE ... CASE 배치로 반영
+        3) 애플리케이션 종료 시(@PreDestroy) 남은 증가분 반영
+    - 화면에 보이는 조회수 = DB views + 아직 반영되지 않은 증가분(getPending)
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private static final int FLUSH_CHUNK_SIZE = 500; // UPDATE 1회에 포함할 최대 게시글 수
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // postId -> 아직 DB에 반영되지 않은 조회수 증가분
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    @Value("${app.post.views.flush-enabled:true}")
+    private boolean flushEnabled;
+
+    /*
+        조회수 +1
+        - 게시글별 LongAdder 를 찾아(없으면 생성) 바로 increment
+            >> map 버킷 잠금 밖에서 증가하므로 인기 게시글도 LongAdder 셀 단위로 분산 (compute 안에서 증가하면 버킷 잠금에 직렬화)
+        - flush 가 유휴 항목을 map 에서 떼어낸 직후 그 LongAdder 에 더했을 수 있음
+            >> 증가 후 여전히 map 에 연결된 LongAdder 인지 확인, 떼어졌으면 직접 비워서(sumThenReset) map 에 되돌림
+    */
+    public void increment(Long postId) {
+        add(postId, 1L);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수 증가분
+    public long getPending(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return (adder != null) ? adder.sum() : 0L;
+    }
+
+    // 주기적 반영 (기본 3초)
+    @Scheduled(fixedDelayString = "${app.post.views.flush-interval-ms:3000}")
+    public void scheduledFlush() {
+        if (flushEnabled) {
+            flush();
+        }
+    }
+
+    // 종료 시 남은 증가분 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /*
+        flush
+        1) 게시글별 증가분을 sumThenReset 으로 꺼냄 (Java 21 기준 셀 단위 getAndSet -> 동시 증가분은 이번 또는 다음 flush 중 한 번만 집계)
+        2) 이번 주기에 증가가 없던 항목은 map 에서 제거 (remove 이후 늦게 들어온 증가는 다시 꺼내 되돌림)
+            >> 조회된 적 있는 모든 게시글이 map 에 계속 남지 않도록 정리
+        3) FLUSH_CHUNK_SIZE 단위로 UPDATE ... CASE 1문장씩 실행
+        4) 실패한 묶음은 다시 map 에 되돌려 다음 flush 에서 재시도
+    */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Long>> drained = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            Long postId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0 && pending.remove(postId, adder)) {
+                delta = adder.sumThenReset(); // 제거 직전에 들어온 증가분
+            }
+            if (delta > 0) {
+                drained.add(Map.entry(postId, delta));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Long>> chunk =
+                    drained.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, drained.size()));
+            try {
+                updateChunk(chunk);
+            } catch (Exception e) {
+                log.warn("[VIEWS] flush failed, will retry. posts={}, reason={}", chunk.size(), e.getMessage());
+                chunk.forEach(entry -> add(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    // UPDATE posts SET views = views + CASE id WHEN ? THEN ? ... END WHERE id IN (?, ...)
+    private void updateChunk(List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("update posts set views = views + case id");
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+
+        for (Map.Entry<Long, Long> entry : chunk) {
+            sql.append(" when ? then ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        sql.append(" else 0 end where id in (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(chunk.get(i).getKey());
+        }
+        sql.append(")");
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private void add(Long postId, long delta) {
+        while (delta > 0) {
+            LongAdder adder = pending.get(postId);
+            if (adder == null) {
+                adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+            }
+            adder.add(delta);
+
+            if (pending.get(postId) == adder) {
+                return;
+            }
+            delta = adder.sumThenReset(); // flush 가 떼어낸 LongAdder -> 남은 증가분을 새 항목으로 옮김
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.domain.ui.controller; // UI(Thymeleaf) 전용 컨트롤러 패키지
 
+import com.example.demo.domain.post.dto.PostCursorResponseDto;
 import com.example.demo.domain.post.dto.PostDetailResponseDto;
 import com.example.demo.domain.post.dto.PostListResponseDto;
 import com.example.demo.domain.post.dto.PostResponseDto;
@@ -19,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 
 import java.security.Principal;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Controller // REST(JSON) 응답이 아니라 "HTML 뷰"를 반환하는 컨트롤러
@@ -31,17 +33,35 @@ public class UiPostController { // Posts(게시글) UI 화면 라우팅 담당 
     @GetMapping // GET /ui/posts
     public String listPage(  // 게시글 목록 화면
         @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC)Pageable pageable,
+        @RequestParam(value = "after", required = false) String after, // 커서 모드 (있으면 keyset 조회)
         Model model
         ){ // 게시글 목록 화면
+            // 커서 모드 : OFFSET 없이 after 커서 이후 목록만 조회 (번호는 displayNumber 사용)
+            if (after != null && !after.isBlank()) {
+                PostCursorResponseDto cursorPage = postService.getPostsByCursor(after, pageable.getPageSize());
+                model.addAttribute("cursorPage", cursorPage);
+                model.addAttribute("posts", cursorPage.getPosts());
+                return "pages/posts/list";
+            }
+
             Page<PostListResponseDto> page = postService.getPosts(pageable); // 실 게시글 목록
 
             long totalElements = page.getTotalElements(); // 화면용 시작 번호 (역순 정렬)
             long startNumber =
                     totalElements - (long) page.getNumber() * page.getSize();
 
+            /* 다음 페이지는 page=N+1 (OFFSET) 대신 after 커서 링크로 이동
+                - 첫 페이지만 OFFSET(캐시) 경로를 쓰고 그 뒤로는 keyset 조회 -> 깊은 페이지에서도 스캔량 일정
+            */
+            List<PostListResponseDto> content = page.getContent();
+            String nextCursor = (page.hasNext() && !content.isEmpty())
+                    ? postService.cursorAfter(content.get(content.size() - 1).getId())
+                    : null;
+
             model.addAttribute("page", page); // 페이지 정보
-            model.addAttribute("posts", page.getContent()); // 화면에서 th:each로 돌릴 실제 목록
+            model.addAttribute("posts", content); // 화면에서 th:each로 돌릴 실제 목록
             model.addAttribute("startNumber", startNumber);
+            model.addAttribute("nextCursor", nextCursor);
             return "pages/posts/list"; // templates/pages/posts/list.html 로 이동
         }
 
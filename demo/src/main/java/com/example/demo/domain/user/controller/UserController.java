@@ -11,6 +11,9 @@ import com.example.demo.global.security.CustomUserDetails;
 import com.example.demo.global.security.jwt.properties.JwtProperties;
 import com.example.demo.global.security.jwt.service.JwtService;
 import com.example.demo.global.security.jwt.service.RefreshTokenService;
+import com.example.demo.global.security.jwt.token.VerifiedToken;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -79,7 +82,8 @@ public class UserController {
     // 로그인 처리
     @PostMapping("/login") // Post/api/users/login
     public ResponseEntity<ApiResponse<UserResponseDto>> login(
-            @Valid @RequestBody UserLoginRequestDto request //username,password 평문입력
+            @Valid @RequestBody UserLoginRequestDto request, //username,password 평문입력
+            HttpServletRequest httpRequest // 기존 Refresh 쿠키(기기 식별자) 확인용
             ){
         /*
             - 로그인 요청을 처리하는 엔드포인트
@@ -112,10 +116,11 @@ public class UserController {
         String accessToken = jwtService.generateAccessToken(principal);
 
 
-        // JWT Refresh Token 생성 + Redis 저장
-        String refreshToken = jwtService.generateRefreshToken(principal.getId());
+        // JWT Refresh Token 생성 + Redis 저장 (기기 세션 단위, 같은 브라우저 재로그인은 기존 기기 세션 재사용)
+        String deviceId = resolveDeviceId(httpRequest, principal.getId());
+        String refreshToken = jwtService.generateRefreshToken(principal.getId(), deviceId);
         Duration refreshTtl = Duration.ofDays(jwtProperties.getRefreshTokenExpDays());
-        refreshTokenService.saveRefreshToken(principal.getId(), refreshToken,  refreshTtl);
+        refreshTokenService.saveRefreshToken(principal.getId(), deviceId, refreshToken,  refreshTtl);
 
 
         /*
@@ -221,6 +226,29 @@ public class UserController {
         // 만약 204를 유지하고 싶다면: return ResponseEntity.noContent().build();
     }
 
+    /*
+        로그인 기기 식별자 결정
+        - 같은 사용자의 유효한 Refresh 쿠키가 있으면 그 기기(did) 세션을 재사용 (재로그인이 기기 수를 늘리지 않음)
+        - 없으면 새 기기 식별자 발급
+     */
+    private String resolveDeviceId(HttpServletRequest httpRequest, Long userId) {
+        Cookie[] cookies = httpRequest.getCookies();
+        if (cookies != null) {
+            for (Cookie c : cookies) {
+                if (jwtProperties.getRefreshCookieName().equals(c.getName())) {
+                    VerifiedToken verifiedRefresh = jwtService.verify(c.getValue());
+                    if (verifiedRefresh != null
+                            && userId.equals(verifiedRefresh.getUserId())
+                            && verifiedRefresh.getDeviceId() != null) {
+                        return verifiedRefresh.getDeviceId();
+                    }
+                    break;
+                }
+            }
+        }
+        return refreshTokenService.newDeviceId();
+    }
+
     //(임시) 요청 바디 모델: 컨트롤러 내부 static 클래스들
     // 실제 운영에서는 별도 DTO 파일로 분리하고 @Valid, @NotBlank, @Email 등을 부여
 
@@ -0,0 +1,104 @@
+package com.example.demo.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    LastLoginRecorder
+    - 로그인 성공 시각(last_login_at)을 메모리에 모아두었다가 주기적으로 한 번에 DB 반영 (write-behind)
+    - 기존 방식 : 로그인 1회마다 쓰기 트랜잭션 + UPDATE users SET last_login_at = ?
+        >> 로그인 요청이 몰리면 BCrypt 검증 외에 커넥션/행 락 점유까지 로그인 경로에 포함
+    - 변경 방식
+        1) 로그인 성공 시 userId -> 시각 만 기록 (같은 사용자는 가장 최근 시각 1개만 유지)
+        2) 주기적으로(기본 5초) 쌓인 시각을 JDBC batch UPDATE 로 반영
+        3) 애플리케이션 종료 시(@PreDestroy) 남은 기록 반영
+    - last_login_at 은 최대 flush 주기만큼 늦게 DB 에 보임 (표시/통계용 값이라 허용)
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    private static final int FLUSH_CHUNK_SIZE = 500; // batch 1회에 포함할 최대 사용자 수
+    private static final String UPDATE_SQL = "update users set last_login_at = ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // userId -> 아직 DB에 반영되지 않은 마지막 로그인 시각
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    @Value("${app.auth.last-login.flush-enabled:true}")
+    private boolean flushEnabled;
+
+    // 로그인 성공 기록 (이미 더 최근 시각이 있으면 유지)
+    public void record(Long userId, LocalDateTime loginAt) {
+        if (userId == null || loginAt == null) {
+            return;
+        }
+        pending.merge(userId, loginAt, LastLoginRecorder::latest);
+    }
+
+    // 주기적 반영 (기본 5초)
+    @Scheduled(fixedDelayString = "${app.auth.last-login.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        if (flushEnabled) {
+            flush();
+        }
+    }
+
+    // 종료 시 남은 기록 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /*
+        flush
+        1) 사용자별 시각을 map 에서 꺼내며 제거 (remove 이후 들어온 로그인은 다음 flush 대상)
+        2) FLUSH_CHUNK_SIZE 단위로 batch UPDATE 실행
+        3) 실패한 묶음은 다시 map 에 되돌려 다음 flush 에서 재시도 (그 사이 더 최근 로그인이 있으면 그 값 유지)
+    */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, LocalDateTime>> drained = new ArrayList<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                drained.add(Map.entry(userId, loginAt));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, LocalDateTime>> chunk =
+                    drained.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, drained.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, chunk, chunk.size(), (ps, entry) -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(entry.getValue()));
+                    ps.setLong(2, entry.getKey());
+                });
+            } catch (Exception e) {
+                log.warn("[LAST-LOGIN] flush failed, will retry. users={}, reason={}", chunk.size(), e.getMessage());
+                chunk.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), LastLoginRecorder::latest));
+            }
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
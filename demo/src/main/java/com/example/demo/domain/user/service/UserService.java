@@ -7,6 +7,9 @@ import com.example.demo.domain.user.dto.UserSignupRequestDto;
 import com.example.demo.domain.user.entity.User;
 import com.example.demo.domain.user.repository.UserRepository;
 import com.example.demo.global.exception.AuthenticationFailException;
+import com.example.demo.global.security.CustomUserDetails;
+import com.example.demo.global.security.jwt.service.TokenRevocationService;
+import com.example.demo.global.transaction.AfterCommit;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -33,6 +37,8 @@ public class UserService {
     private final UserRepository userRepository; // DB접근을 담당하는 Repository
     private final PasswordEncoder passwordEncoder; //비밀번호 암호화용 의존성
     private final AuthenticationManager authenticationManager; // Spring Security 인증 처리(세션/컨텍스트 저장에 사용)
+    private final TokenRevocationService tokenRevocationService; // 탈퇴 시 발급된 Access 토큰 무효화
+    private final LastLoginRecorder lastLoginRecorder; // 마지막 로그인 시각 write-behind 기록
 
     @Transactional //쓰기 작업이므로 readOnly=false 로 오버라이드
     public User register(@Valid UserSignupRequestDto dto){ // 회원 등록(Create)
@@ -62,8 +68,17 @@ public class UserService {
         *  - 회원가입 이벤트 발행(알림/이메일 인증)*/
     }
 
-    //로그인 메서드
-    @Transactional
+    /*
+        로그인 메서드
+        - 트랜잭션을 열지 않음 (SUPPORTS : 호출 측 트랜잭션이 있으면 참여, 없으면 없이 실행)
+            - 비밀번호 검증(BoundedPasswordEncoder)은 풀 대기 포함 최대 timeout-ms 까지 걸릴 수 있음
+            - 클래스 기본값(readOnly) 트랜잭션으로 감싸면 그동안 DB 커넥션을 붙잡음
+              >> 로그인 폭주 시 검증 대기열만큼 Hikari 커넥션이 묶여 일반 요청까지 커넥션 대기
+            - 사용자 조회는 Repository 자체 트랜잭션으로 끝나고 커넥션 반납 후 검증 시작 (open-in-view: false)
+        - 재해시는 CustomUserDetailsService.updatePassword 의 별도 쓰기 트랜잭션, 동기 UPDATE 없음
+        - 마지막 로그인 시각은 LastLoginRecorder 가 모아서 주기적으로 batch 반영
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public UserResponseDto login(UserLoginRequestDto request){ //로그인 요정DTO를 받아 응답DTO를 반환하는 메서드 시작
 
         // 요청 객체 자체 null 방어
@@ -104,12 +119,13 @@ public class UserService {
             // 6) 인증 성공 -> SecurityContextHolder에 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            // 7) 마지막 로그인 시각 업데이트를 위해 User엔티티 조회
-            User user = userRepository.findByUsername(normalizedUsername)
-                    .orElseThrow(() -> new EntityNotFoundException("User not found. username: " + normalizedUsername));
+            // 7) 인증 과정에서 조회한 User 엔티티 재사용 (findByUsername 재조회 X)
+            User user = ((CustomUserDetails) authentication.getPrincipal()).getUser();
 
-            // 8) 마지막 로그인 시각 업데이트
-            user.updateLastLoginAt(LocalDateTime.now());
+            // 8) 마지막 로그인 시각 기록 (응답용 엔티티 값 갱신 + DB 는 write-behind)
+            LocalDateTime now = LocalDateTime.now();
+            user.updateLastLoginAt(now);
+            lastLoginRecorder.record(user.getId(), now);
 
             // 9) 로그인 성공 >> User엔티티 DTO 변환 후 반환
             return UserResponseDto.from(user);
@@ -224,6 +240,8 @@ public class UserService {
     public void delete(Long id){
         User user = getById(id);//존재 확인
         user.delete();
+        // 커밋 후 사용자별 epoch 갱신 -> 이미 발급된 Access 토큰도 더 이상 인증되지 않음
+        AfterCommit.run(() -> tokenRevocationService.revokeAll(id));
         /*
             연관관계 정책 주의
                 -Post 등 연관 엔티티가 생기면 orphanRemoval/CASCADE/FK 옵션 정책을 맞춰야함
@@ -1,11 +1,13 @@
 package com.example.demo.global.config;
 
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import org.springframework.data.redis.connection.RedisConnectionFactory; // 스프링이 자동 구성해주는 Redis 연결 팩토리
 import org.springframework.data.redis.core.RedisTemplate;  // Redis 조작용 템플릿
+import org.springframework.data.redis.listener.RedisMessageListenerContainer; // Redis Pub/Sub 구독 컨테이너
 import org.springframework.data.redis.serializer.StringRedisSerializer; // key/value를 문자열로 저장하기 위한 직렬화기
 
 
@@ -51,4 +53,18 @@ public class RedisConfig {
         // String 기반 RedisTemplate 반환
     }
 
+    /*
+        Redis Pub/Sub 구독 컨테이너
+        - 노드 간 메모리 사본 동기화 채널 구독용 (예: Access 블랙리스트 near-cache)
+        - 실제 채널/리스너 등록은 각 서비스에서 addMessageListener 로 처리
+        - app.token-store.type=memory 면 구독할 채널이 없으므로 만들지 않음 (기동 시 Redis 구독 연결 X)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.token-store.type", havingValue = "redis", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory){
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
 }
@@ -0,0 +1,13 @@
+package com.example.demo.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+/* 스프링 스케줄러(@Scheduled) 활성화
+     > 게시글 총 개수 재동기화 등 주기 작업을 위해서 */
+public class SchedulingConfig {
+    /* JpaConfig 와 같은 이유로 설정 스위치만 분리
+        실제 주기 작업은 각 도메인 컴포넌트의 @Scheduled 메서드가 담당 */
+}
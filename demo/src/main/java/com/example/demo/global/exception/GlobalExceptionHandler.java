@@ -5,6 +5,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -109,6 +110,87 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail(body, ex.getMessage()));
     }
 
+    /* 2-0-1) LoginOverloadedException 처리 메서드 (로그인 과부하 -> 503)
+        - 비밀번호 검증 전용 풀이 포화 상태일 때 대기 없이 바로 거절
+        - Retry-After 헤더로 재시도 시점(초) 안내
+     */
+    @ExceptionHandler(LoginOverloadedException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleLoginOverloadedException(
+            LoginOverloadedException ex,
+            HttpServletRequest request
+    ){
+        log.warn("로그인 과부하 - path={}, message={}",
+                request.getRequestURI(),
+                ex.getMessage());
+
+        ErrorResponse body = ErrorResponse.builder()
+                .success(false)
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value()) // 503
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE) // 503
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.fail(body, ex.getMessage()));
+    }
+
+    /* 2-0-2) TokenStoreUnavailableException 처리 메서드 (토큰 저장소 장애 -> 503)
+        - Redis 서킷이 열린 동안 로그인/Refresh 세션 변경은 fail-closed 로 거절
+        - Retry-After 헤더로 재시도 시점(초) 안내
+     */
+    @ExceptionHandler(TokenStoreUnavailableException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleTokenStoreUnavailableException(
+            TokenStoreUnavailableException ex,
+            HttpServletRequest request
+    ){
+        log.warn("토큰 저장소 장애 - path={}, message={}",
+                request.getRequestURI(),
+                ex.getMessage());
+
+        ErrorResponse body = ErrorResponse.builder()
+                .success(false)
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value()) // 503
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE) // 503
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.fail(body, ex.getMessage()));
+    }
+
+    /* 2-0-3) ImageResizeOverloadedException 처리 메서드 (이미지 리사이즈 과부하 -> 503)
+        - 동시 디코딩 상한에 걸려 대기 시간 안에 차례가 오지 않은 경우
+        - Retry-After 헤더로 재시도 시점(초) 안내
+     */
+    @ExceptionHandler(ImageResizeOverloadedException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleImageResizeOverloadedException(
+            ImageResizeOverloadedException ex,
+            HttpServletRequest request
+    ){
+        log.warn("이미지 리사이즈 과부하 - path={}, message={}",
+                request.getRequestURI(),
+                ex.getMessage());
+
+        ErrorResponse body = ErrorResponse.builder()
+                .success(false)
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value()) // 503
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE) // 503
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.fail(body, ex.getMessage()));
+    }
+
     /* 2-1) IllegalArgumentException 처리 메서드
         - 서비스 레이어에서 throw new IllegalArgumentException() 한 경우 호출
         - 이 메서드가 그 예외를 잡아 400코드 + 예외메시지(JSON) 형식으로 응답
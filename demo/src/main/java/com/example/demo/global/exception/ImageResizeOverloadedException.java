@@ -0,0 +1,13 @@
+package com.example.demo.global.exception;
+
+/*
+  이미지 리사이즈 과부하 전용 예외
+  - 동시 디코딩 수(app.image.resize.max-concurrent-decodes)가 가득 찬 상태로 대기 시간을 넘긴 경우 사용
+  - GlobalExceptionHandler에서 503(SERVICE_UNAVAILABLE) + Retry-After 로 처리됨
+ */
+public class ImageResizeOverloadedException extends RuntimeException {
+
+    public ImageResizeOverloadedException(String message) {
+        super(message);
+    }
+}
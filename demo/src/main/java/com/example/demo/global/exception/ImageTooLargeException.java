@@ -0,0 +1,13 @@
+package com.example.demo.global.exception;
+
+/*
+  이미지 해상도 초과 전용 예외
+  - 원본의 폭 x 높이가 디코딩 픽셀 상한(app.image.max-pixels)을 넘는 경우 사용 (헤더만 읽고 판단, 디코딩 X)
+  - IllegalArgumentException 을 상속 -> GlobalExceptionHandler 에서 400 으로 처리됨
+ */
+public class ImageTooLargeException extends IllegalArgumentException {
+
+    public ImageTooLargeException(String message) {
+        super(message);
+    }
+}
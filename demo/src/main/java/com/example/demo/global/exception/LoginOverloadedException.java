@@ -0,0 +1,13 @@
+package com.example.demo.global.exception;
+
+/*
+  로그인 과부하 전용 예외
+  - 비밀번호 검증 전용 풀(BoundedPasswordEncoder)의 대기열이 가득 찼거나 대기 시간을 넘긴 경우 사용
+  - GlobalExceptionHandler에서 503(SERVICE_UNAVAILABLE) + Retry-After 로 처리됨
+ */
+public class LoginOverloadedException extends RuntimeException {
+
+    public LoginOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.global.exception;
+
+/*
+  토큰 저장소(Redis) 일시 장애 전용 예외
+  - Redis 서킷이 열려 있거나 호출이 실패했을 때 Refresh 세션 저장/회전/삭제를 거절(fail-closed)하기 위해 사용
+  - GlobalExceptionHandler에서 503(SERVICE_UNAVAILABLE) + Retry-After 로 처리됨
+ */
+public class TokenStoreUnavailableException extends RuntimeException {
+
+    public TokenStoreUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.global.file;
+
+/*
+    ByteRange
+    - HTTP Range 요청 헤더 (bytes=시작-끝) 해석 결과, start / end 모두 포함(inclusive)
+    - 단일 구간만 지원
+        - "bytes=100-199" / "bytes=100-" (끝까지) / "bytes=-500" (마지막 500 byte)
+        - 여러 구간(쉼표) 이나 형식이 틀린 헤더는 null -> 전체 응답(200) (RFC 9110 : Range 무시 허용)
+        - 시작 위치가 파일 길이 이상이면 UNSATISFIABLE -> 416
+*/
+public record ByteRange(long start, long end) {
+
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1L, -1L);
+
+    private static final String PREFIX = "bytes=";
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith(PREFIX) || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring(PREFIX.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        try {
+            // 마지막 N byte
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0L, length - suffix), length - 1);
+            }
+
+            long start = Long.parseLong(spec.substring(0, dash));
+            String endPart = spec.substring(dash + 1);
+            long end = endPart.isEmpty() ? Long.MAX_VALUE : Long.parseLong(endPart);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, length - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.demo.global.file;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/*
+    DiskLruCache
+    - 크기(byte) 상한이 있는 디스크 캐시, 상한을 넘으면 가장 오래 사용하지 않은 파일부터 삭제
+    - 색인 : LinkedHashMap(accessOrder=true) 이름 -> 파일 크기, 조회/저장 시 맨 뒤로 이동
+    - 파일 읽기/쓰기는 락 밖에서 수행 (락은 색인 갱신에만 사용)
+        - 쓰기 : 임시 파일에 쓴 뒤 rename -> 읽는 쪽이 쓰다 만 파일을 보지 않음
+        - 읽는 중 다른 스레드가 축출해 파일이 사라지면 miss 로 처리
+    - 기동 시 디렉토리에 남아 있는 파일을 수정 시각 순으로 색인에 다시 올림 (재시작 후에도 캐시 유지)
+*/
+@Slf4j
+class DiskLruCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path dir;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    DiskLruCache(Path dir, long maxBytes) {
+        this.dir = dir.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        try {
+            Files.createDirectories(this.dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 디렉토리 생성 실패 : " + this.dir, e);
+        }
+        load();
+    }
+
+    // 캐시된 바이트 (없으면 null)
+    byte[] get(String name) {
+        synchronized (this) {
+            if (entries.get(name) == null) {
+                return null;
+            }
+        }
+        try {
+            return Files.readAllBytes(dir.resolve(name));
+        } catch (NoSuchFileException e) {
+            remove(name); // 읽기 직전에 축출됨
+            return null;
+        } catch (IOException e) {
+            log.warn("[IMAGE] cache read failed. name={}, reason={}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    void put(String name, byte[] bytes) {
+        if (bytes.length > maxBytes) {
+            return; // 상한보다 큰 항목은 캐시하지 않음
+        }
+        Path target = dir.resolve(name);
+        Path temp = dir.resolve(name + "." + Thread.currentThread().threadId() + TEMP_SUFFIX);
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            log.warn("[IMAGE] cache write failed. name={}, reason={}", name, e.getMessage());
+            return;
+        }
+
+        index(name, bytes.length).forEach(victim -> deleteQuietly(dir.resolve(victim)));
+    }
+
+    // 항목 삭제 (원본이 지워져 더 이상 내보내면 안 되는 결과물)
+    void evict(String name) {
+        remove(name);
+        deleteQuietly(dir.resolve(name));
+    }
+
+    synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void remove(String name) {
+        Long size = entries.remove(name);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    private void load() {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(dir)) {
+            files = stream.filter(Files::isRegularFile).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("캐시 디렉토리 읽기 실패 : " + dir, e);
+        }
+
+        List<Path> ordered = new ArrayList<>();
+        for (Path file : files) {
+            if (file.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                deleteQuietly(file); // 이전 실행에서 쓰다 만 파일
+            } else {
+                ordered.add(file);
+            }
+        }
+        ordered.sort(Comparator.comparingLong(DiskLruCache::lastModified));
+
+        for (Path file : ordered) {
+            try {
+                index(file.getFileName().toString(), Files.size(file))
+                        .forEach(victim -> deleteQuietly(dir.resolve(victim)));
+            } catch (IOException e) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    /*
+        색인 갱신 후 상한을 넘는 만큼 오래된 항목부터 제거, 제거된 이름 반환 (파일 삭제는 호출 측에서 락 밖으로)
+        - 방금 저장한 항목은 제거 대상에서 제외
+     */
+    private synchronized List<String> index(String name, long size) {
+        Long previous = entries.put(name, size);
+        totalBytes += size - (previous == null ? 0L : previous);
+
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(name)) {
+                continue;
+            }
+            totalBytes -= entry.getValue();
+            evicted.add(entry.getKey());
+            eldest.remove();
+        }
+        return evicted;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[IMAGE] cache delete failed. file={}, reason={}", file, e.getMessage());
+        }
+    }
+}
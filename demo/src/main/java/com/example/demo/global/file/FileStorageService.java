@@ -1,21 +1,38 @@
 package com.example.demo.global.file;
 
+import com.example.demo.global.transaction.AfterCommit;
+import com.example.demo.global.transaction.AfterRollback;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 public class FileStorageService {
 
@@ -27,13 +44,27 @@ public class FileStorageService {
     @Value("${app.s3.bucket:}")
     private String bucket;
 
+    private static final Pattern EXTENSION = Pattern.compile("\\.[a-z0-9]{1,10}");
+
     private final S3Client s3Client;
+    private final StoredFileService storedFileService; // 내용 주소 파일 참조 수
+    private final S3MultipartUploader s3MultipartUploader;
 
-    public FileStorageService(S3Client s3Client){
+    public FileStorageService(S3Client s3Client, StoredFileService storedFileService, S3MultipartUploader s3MultipartUploader){
         this.s3Client = s3Client;
+        this.storedFileService = storedFileService;
+        this.s3MultipartUploader = s3MultipartUploader;
     }
 
-    // 실제 저장 + 저장된 "상대경로" 반환
+    /*
+        실제 저장 + 저장된 "상대경로" 반환
+        - 파일명 정책 : 내용의 SHA-256 + 확장자 (내용 주소)
+            - 업로드 스트림을 임시 파일로 받으면서 해시 계산 (한 번 읽기)
+            - 같은 사진이 이미 저장되어 있으면 파일을 다시 쓰지 않고 참조 수만 증가 (StoredFileService)
+        - 순서 : 파일 쓰기 -> 참조 증가 (잠금/추가 커넥션은 짧은 UPDATE / INSERT 동안만)
+            >> 같은 key 는 같은 내용이라 먼저 써도 안전 (참조 행이 생기기 전에 실패하면 고아 파일만 남음)
+        - 참조 증가는 즉시 커밋되므로 호출한 트랜잭션이 롤백되면 증가분 반납
+    */
     public String save(MultipartFile image) {
         // 방어: null 또는 빈 파일이면 저장 불가
         if (image == null || image.isEmpty()) {
@@ -44,58 +75,169 @@ public class FileStorageService {
         boolean useS3 = (bucket != null && !bucket.isBlank());
 
         // 원본 파일명에서 확장자만 추출 (없으면 확장자 없이 저장)
-        String originalName = image.getOriginalFilename();
-        String ext = extractExtension(originalName);
+        String ext = extractExtension(image.getOriginalFilename());
 
-        // 파일명 정책: uuid + 확장자
-        String filename = UUID.randomUUID() + ext;
+        Path temp = createUploadTemp(useS3);
+        try {
+            // 1) 임시 파일로 받으면서 SHA-256 계산
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
 
-        // DB엔 절대경로 대신 "상대경로"로 저장, S3에서도 이 값을 "Object Key"로 사용
-        String key = "posts/" + filename;
+            // DB엔 절대경로 대신 "상대경로"로 저장, S3에서도 이 값을 "Object Key"로 사용
+            String key = "posts/" + HexFormat.of().formatHex(digest.digest()) + ext;
+            long size = Files.size(temp);
 
-        if (useS3) { // S3업로드(스트림업로드) - 임시 파일 생성 없이 바로 전송
-            PutObjectRequest request = PutObjectRequest.builder()
-                    .bucket(bucket)
-                    .key(key)
-                    .contentType(image.getContentType())
-                    .build();
+            // 2) 처음 보는 내용이면 실제 저장 (이미 참조 중이면 쓰지 않음)
+            if (!storedFileService.isReferenced(key)) {
+                writeBlob(key, temp, image.getContentType(), useS3);
+            }
 
+            // 3) 참조 +1 (짧은 UPDATE / INSERT, 교착으로 실패하면 1번 재시도 - 파일은 다시 쓰지 않음)
+            boolean created;
             try {
-                s3Client.putObject(request, RequestBody.fromInputStream(image.getInputStream(), image.getSize()));
-            } catch (IOException e) {
-                throw new RuntimeException("S3 업로드 실패 : bucket=" + bucket + ", key=" + key, e);
+                created = storedFileService.retain(key, size);
+            } catch (PessimisticLockingFailureException e) {
+                created = storedFileService.retain(key, size);
+            }
+
+            // 4) 게시글 저장이 롤백되면 참조 반납
+            AfterRollback.run(() -> release(key, List.of()));
+
+            // 5) 행을 새로 만들었으면 파일 존재 재확인
+            //    >> 2) 와 3) 사이에 마지막 참조가 반납되어 파일이 지워졌을 수 있음 (반납은 행 잠금 안에서 삭제 후 커밋)
+            if (created && !blobExists(key, useS3)) {
+                writeBlob(key, temp, image.getContentType(), useS3);
             }
             return key;
+        } catch (IOException e) {
+            throw new RuntimeException("파일 저장 실패 : " + image.getOriginalFilename(), e);
+        } finally {
+            deleteTemp(temp);
         }
+    }
 
+    /*
+        게시글이 파일을 더 이상 쓰지 않음 (이미지 교체 / 게시글 삭제)
+        - 커밋 후 참조 -1, 마지막 참조였으면 파일 + 파생 파일(축소본 등) 삭제
+        - 롤백되면 아무것도 하지 않음 (게시글은 계속 이 파일을 가리킴)
+     */
+    public void releaseAfterCommit(String storedPath, Collection<String> derivedKeys) {
+        if (storedPath == null || storedPath.isBlank()) {
+            return;
+        }
+        AfterCommit.run(() -> release(storedPath, derivedKeys));
+    }
 
-        // 로컬 풀백 (기존 디스크 저장 로직)
+    // 참조 -1 즉시 반영 (실패해도 호출한 쪽 흐름은 유지, 파일만 남음)
+    public void release(String storedPath, Collection<String> derivedKeys) {
+        try {
+            storedFileService.release(storedPath, () -> {
+                derivedKeys.forEach(this::deleteQuietly);
+                delete(storedPath);
+            });
+        } catch (Exception e) {
+            log.warn("[FILE] release failed. key={}, reason={}", storedPath, e.getMessage());
+        }
+    }
 
-        // posts 폴더 경로 만들기
-        Path postsDir = Paths.get(uploadDir, "posts");
+    // 아직 참조하는 게시글이 있는 내용 주소 파일인지
+    public boolean isReferenced(String storedPath) {
+        return storedFileService.isReferenced(storedPath);
+    }
 
-        // posts 폴더 없으면 생성
-        try {
-            Files.createDirectories(postsDir);
-        } catch (IOException e) {
-            throw new RuntimeException("업로드 디렉토리 생성 실패: " + postsDir, e);
+    /*
+        원본이 아직 있는지 (파생 파일 캐시를 내보내기 전 확인용)
+        - 내용 주소 파일 : 참조 행 존재 여부 (PK 조회 1회, 마지막 참조 반납 시 행과 파일이 함께 삭제)
+        - 참조 수 도입 전 uuid 파일 : 저장소에서 직접 확인 (로컬 파일 / S3 HeadObject)
+     */
+    public boolean exists(String storedPath) {
+        if (StoredFileService.isContentAddressed(storedPath)) {
+            return storedFileService.isReferenced(storedPath);
         }
+        return blobExists(storedPath, bucket != null && !bucket.isBlank());
+    }
 
-        // 실제 저장 전체 경로
-        Path target = postsDir.resolve(filename).normalize();
+    /*
+        이미 정해진 key 로 바이트 저장 (이미지 축소본 등 서버에서 만든 파일)
+        - key 는 save() 가 반환한 경로와 같은 규칙 (posts/...)
+     */
+    public void save(String key, byte[] bytes, String contentType) {
+        if (key == null || key.isBlank() || bytes == null) {
+            throw new IllegalArgumentException("저장할 파일 정보가 비어있습니다.");
+        }
 
-        // posts 밖으로 탈출 하는 경로는 차단 (보안)
-        if (!target.startsWith(postsDir)) {
-            throw new IllegalArgumentException("잘못된 저장 경로입니다.");
+        if (bucket != null && !bucket.isBlank()) {
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
+            s3Client.putObject(request, RequestBody.fromBytes(bytes));
+            return;
         }
 
-        // 실제 파일 저장
+        Path target = resolveLocal(key);
         try {
-            Files.copy(image.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
+            Files.createDirectories(target.getParent());
+            Files.write(target, bytes);
         } catch (IOException e) {
             throw new RuntimeException("파일 저장 실패 : " + target, e);
         }
-        return key;
+    }
+
+    // 저장된 파일 읽기 (posts/uuid.ext 기준)
+    public byte[] read(String storedPath) {
+        if (bucket != null && !bucket.isBlank()) {
+            GetObjectRequest request = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(storedPath)
+                    .build();
+            return s3Client.getObjectAsBytes(request).asByteArray();
+        }
+
+        Path target = resolveLocal(storedPath);
+        try {
+            return Files.readAllBytes(target);
+        } catch (IOException e) {
+            throw new RuntimeException("파일 읽기 실패 : " + target, e);
+        }
+    }
+
+    /*
+        S3 객체 크기 (HeadObject : 본문 없이 메타데이터만 조회)
+        - S3 저장 모드 전용 (로컬 저장은 localPath 의 파일 크기 사용)
+        - 객체가 없으면 S3Exception(404)
+     */
+    public long remoteLength(String storedPath) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(storedPath)
+                .build();
+        return s3Client.headObject(request).contentLength();
+    }
+
+    /*
+        S3 객체의 [start, end] 구간만 스트림으로 열기 (GetObject + Range 헤더)
+        - 객체 전체를 메모리에 올리지 않고 받은 만큼 바로 흘려보내는 용도, 호출 측에서 close
+        - S3 저장 모드 전용
+     */
+    public InputStream openRemoteRange(String storedPath, long start, long end) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(storedPath)
+                .range("bytes=" + start + "-" + end)
+                .build();
+        return s3Client.getObject(request);
+    }
+
+    // 로컬 저장 모드일 때 실제 파일 경로 (S3 모드면 null, 파일 존재 여부는 확인하지 않음)
+    public Path localPath(String storedPath) {
+        if (bucket != null && !bucket.isBlank()) {
+            return null;
+        }
+        return resolveLocal(storedPath);
     }
 
     // 기존 이미지 파일 삭제 (posts/uuid.ext 기준 삭제)
@@ -134,10 +276,103 @@ public class FileStorageService {
         }
     }
 
+    // 업로드 루트 기준 로컬 경로 (루트 밖으로 나가는 경로 차단)
+    private Path resolveLocal(String storedPath) {
+        Path baseDir = Paths.get(uploadDir).normalize();
+        Path target = baseDir.resolve(storedPath).normalize();
+        if (!target.startsWith(baseDir)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return target;
+    }
+
+    // 확장자 추출 (소문자, 영문/숫자만 허용 -> 같은 내용은 같은 key, 경로 조작 차단)
     private String extractExtension(String originalName) {
         if (originalName == null) return "";
         int dot = originalName.lastIndexOf(".");
         if (dot == -1) return "";
-        return originalName.substring(dot);
+        String ext = originalName.substring(dot).toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(ext).matches() ? ext : "";
+    }
+
+    /*
+        처음 보는 내용을 실제 저장소에 기록 (트랜잭션/행 잠금 밖에서 호출, 같은 key 로 여러 번 불려도 결과 동일)
+        - 로컬 : 임시 파일을 같은 디렉토리에 복사한 뒤 rename (쓰다 만 파일이 노출되지 않음)
+            >> 원본 임시 파일은 남겨둠 (파일 존재 재확인 후 다시 쓸 수 있도록, save 의 finally 에서 정리)
+        - S3 : 임시 파일을 S3MultipartUploader 로 업로드 (threshold 이상이면 조각 병렬 업로드)
+     */
+    private void writeBlob(String key, Path temp, String contentType, boolean useS3) {
+        if (useS3) {
+            s3MultipartUploader.upload(bucket, key, temp, contentType); // 큰 파일은 조각 병렬 업로드
+            return;
+        }
+
+        Path target = resolveLocal(key);
+        Path staging = null;
+        try {
+            staging = Files.createTempFile(temp.getParent(), ".upload-", ".tmp");
+            Files.copy(temp, staging, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(staging, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 저장 실패 : " + target, e);
+        } finally {
+            if (staging != null) {
+                deleteTemp(staging); // 이동에 성공했으면 이미 없음
+            }
+        }
+    }
+
+    // 저장소에 파일이 실제로 있는지 (S3 : HeadObject)
+    private boolean blobExists(String key, boolean useS3) {
+        if (!useS3) {
+            return Files.exists(resolveLocal(key));
+        }
+        try {
+            remoteLength(key);
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    // 업로드 임시 파일 (로컬 저장은 rename 을 위해 posts 폴더 안에 생성)
+    private Path createUploadTemp(boolean useS3) {
+        try {
+            if (useS3) {
+                return Files.createTempFile("upload-", ".tmp");
+            }
+            Path postsDir = Paths.get(uploadDir, "posts");
+            Files.createDirectories(postsDir);
+            return Files.createTempFile(postsDir, ".upload-", ".tmp");
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 임시 파일 생성 실패", e);
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            delete(key);
+        } catch (Exception e) {
+            log.warn("[FILE] delete failed. key={}, reason={}", key, e.getMessage());
+        }
+    }
+
+    private static void deleteTemp(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 임시 파일 정리 실패는 무시
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM 에 포함된 알고리즘
+        }
     }
 }
@@ -0,0 +1,291 @@
+package com.example.demo.global.file;
+
+import com.example.demo.global.exception.ImageResizeOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+    ImageResizeService
+    - 요청 시점 리사이즈 : 원본(FileStorageService) -> 디코딩 -> 상자(w x h) 안으로 축소 -> 인코딩(q)
+    - 미리 만든 축소본(PostImageVariantService, 320/800/1600)으로 부족한 임의 크기 요청용
+    - 처리 순서
+        1) 디스크 LRU 캐시(app.image.resize.cache-max-bytes 상한) 확인 -> 있으면 원본이 남아 있을 때만 반환
+           - 게시글 삭제/이미지 교체로 원본이 반납(삭제)되면 축소본도 더 이상 내보내지 않음 -> 캐시 삭제 후 404
+           - 반납은 다른 노드에서 일어날 수 있으므로 삭제 시점에 지우는 대신 적중 시 확인 (FileStorageService.exists)
+        2) 같은 결과물을 만드는 중인 요청이 있으면 그 결과(CompletableFuture)를 함께 기다림
+           >> 같은 이미지/크기 요청이 동시에 몰려도 디코딩은 1번
+        3) 직접 만드는 요청만 동시 디코딩 상한(Semaphore)을 거침 -> 대기 시간 초과 시 503
+        4) 결과를 캐시에 저장 후 반환
+    - 원본보다 크게 확대하지 않음, png 는 무손실이라 q 무시
+    - 캐시 우회(cache-busting) 방지
+        - w / h 는 정해진 크기 구간(app.image.resize.size-buckets) 중 요청값 이상인 가장 작은 구간으로 올림
+        - q 는 5 단위로 반올림
+        >> w=101, 102, 103 ... 처럼 값만 바꾼 요청이 매번 디코딩 + 새 캐시 파일을 만들지 못하도록
+    - 원본의 폭 x 높이가 app.image.max-pixels 를 넘으면 디코딩하지 않고 400 (헤더만 읽고 판단)
+    - 지표 (Prometheus)
+        - image.resize.requests{result=hit|miss|coalesced} : 캐시 적중 / 직접 생성 / 다른 요청 결과 공유
+        - image.resize.cache.hit.ratio                      : 디코딩 없이 응답한 비율 (hit + coalesced) / 전체
+        - image.resize.decode                               : 원본 읽기 ~ 인코딩까지 걸린 시간
+        - image.resize.cache.bytes / image.resize.cache.entries
+*/
+@Service
+public class ImageResizeService {
+
+    private static final Pattern FILENAME = Pattern.compile("[A-Za-z0-9_-]+\\.(?i)(jpg|jpeg|png)");
+
+    private final FileStorageService fileStorageService;
+    private final DiskLruCache cache;
+    private final ConcurrentHashMap<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    private final int maxDimension;
+    private final int[] sizeBuckets; // 오름차순, 비어 있으면 구간 맞춤 X
+    private final long maxPixels;
+    private final int defaultQuality;
+    private final Semaphore decodePermits;
+    private final long decodeWaitMs;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter coalescedCounter;
+    private final Timer decodeTimer;
+
+    public ImageResizeService(
+            FileStorageService fileStorageService,
+            MeterRegistry meterRegistry,
+            @Value("${app.image.resize.cache-dir:${java.io.tmpdir}/photo-project/image-cache}") String cacheDir,
+            @Value("${app.image.resize.cache-max-bytes:536870912}") long cacheMaxBytes,
+            @Value("${app.image.resize.max-dimension:2000}") int maxDimension,
+            @Value("${app.image.resize.default-quality:85}") int defaultQuality,
+            @Value("${app.image.resize.max-concurrent-decodes:2}") int maxConcurrentDecodes,
+            @Value("${app.image.resize.decode-wait-ms:2000}") long decodeWaitMs,
+            @Value("${app.image.resize.size-buckets:100,160,240,320,480,640,800,1024,1280,1600,2000}") int[] sizeBuckets,
+            @Value("${app.image.max-pixels:40000000}") long maxPixels
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.cache = new DiskLruCache(Paths.get(cacheDir), cacheMaxBytes);
+        this.maxDimension = maxDimension;
+        this.sizeBuckets = Arrays.stream(sizeBuckets)
+                .filter(size -> size > 0 && size <= maxDimension)
+                .sorted()
+                .distinct()
+                .toArray();
+        this.maxPixels = maxPixels;
+        this.defaultQuality = defaultQuality;
+        this.decodePermits = new Semaphore(maxConcurrentDecodes);
+        this.decodeWaitMs = decodeWaitMs;
+
+        this.hitCounter = requests(meterRegistry, "hit");
+        this.missCounter = requests(meterRegistry, "miss");
+        this.coalescedCounter = requests(meterRegistry, "coalesced");
+        this.decodeTimer = Timer.builder("image.resize.decode")
+                .description("요청 시점 리사이즈 : 원본 읽기 ~ 인코딩 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("image.resize.cache.hit.ratio", this, ImageResizeService::hitRatio)
+                .description("디코딩 없이 응답한 비율 (캐시 적중 + 동시 요청 결과 공유)")
+                .register(meterRegistry);
+        Gauge.builder("image.resize.cache.bytes", cache, DiskLruCache::totalBytes)
+                .description("리사이즈 디스크 캐시 사용량 (byte)")
+                .register(meterRegistry);
+        Gauge.builder("image.resize.cache.entries", cache, DiskLruCache::size)
+                .description("리사이즈 디스크 캐시 파일 수")
+                .register(meterRegistry);
+    }
+
+    public record Rendition(byte[] bytes, String contentType) {
+    }
+
+    /*
+        filename : posts/ 아래 파일명 (uuid.ext)
+        width / height : 최대 폭/높이 (둘 중 하나 이상 필수, 1 ~ max-dimension, 크기 구간으로 올림)
+        quality : jpg 압축 품질 (1 ~ 100, 없으면 default-quality, 5 단위로 반올림)
+     */
+    public Rendition resize(String filename, Integer width, Integer height, Integer quality) {
+        if (filename == null || !FILENAME.matcher(filename).matches()) {
+            throw new IllegalArgumentException("잘못된 이미지 경로입니다.");
+        }
+        if (width == null && height == null) {
+            throw new IllegalArgumentException("w 또는 h 중 하나는 지정해야 합니다.");
+        }
+        checkDimension("w", width);
+        checkDimension("h", height);
+        int q = (quality == null) ? defaultQuality : quality;
+        if (q < 1 || q > 100) {
+            throw new IllegalArgumentException("q 는 1 ~ 100 사이여야 합니다.");
+        }
+        width = snap(width);
+        height = snap(height);
+        q = Math.max(5, Math.round(q / 5f) * 5);
+
+        String format = ImageScaler.formatOf(filename);
+        String name = cacheName(filename, width, height, "jpg".equals(format) ? q : 0);
+        String contentType = ImageScaler.contentTypeOf(format);
+
+        String key = "posts/" + filename;
+
+        // 1) 캐시
+        byte[] cached = cachedIfOriginalExists(name, key);
+        if (cached != null) {
+            hitCounter.increment();
+            return new Rendition(cached, contentType);
+        }
+
+        // 2) 같은 결과물을 만드는 중이면 합류
+        CompletableFuture<byte[]> mine = new CompletableFuture<>();
+        CompletableFuture<byte[]> running = inFlight.putIfAbsent(name, mine);
+        if (running != null) {
+            coalescedCounter.increment();
+            return new Rendition(await(running), contentType);
+        }
+
+        // 3) 직접 생성 (캐시 확인 ~ 등록 사이에 앞선 요청이 끝났을 수 있으므로 한 번 더 확인)
+        try {
+            byte[] stored = cachedIfOriginalExists(name, key);
+            if (stored != null) {
+                hitCounter.increment();
+                mine.complete(stored);
+                return new Rendition(stored, contentType);
+            }
+
+            missCounter.increment();
+            byte[] bytes = render(key, width, height, q, format);
+            cache.put(name, bytes);
+            mine.complete(bytes);
+            return new Rendition(bytes, contentType);
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e); // 기다리던 요청도 같은 예외로 종료
+            throw e;
+        } finally {
+            inFlight.remove(name, mine);
+        }
+    }
+
+    // 캐시된 결과물 (없으면 null, 원본이 지워졌으면 캐시에서도 지우고 404)
+    private byte[] cachedIfOriginalExists(String name, String key) {
+        byte[] cached = cache.get(name);
+        if (cached == null) {
+            return null;
+        }
+        if (!fileStorageService.exists(key)) {
+            cache.evict(name);
+            throw new EntityNotFoundException("이미지를 찾을 수 없습니다.");
+        }
+        return cached;
+    }
+
+    private byte[] render(String key, Integer width, Integer height, int quality, String format) {
+        acquireDecodePermit();
+        long start = System.nanoTime();
+        try {
+            BufferedImage original = ImageScaler.decode(readOriginal(key), maxPixels);
+            if (original == null) {
+                throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
+            }
+            BufferedImage scaled = ImageScaler.scaleToFit(original, width, height, format);
+            return ImageScaler.encode(scaled, format, quality);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 리사이즈 실패 : " + key, e);
+        } finally {
+            decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            decodePermits.release();
+        }
+    }
+
+    // 원본 없음(S3 NoSuchKey / 로컬 NoSuchFile) -> 404
+    private byte[] readOriginal(String key) {
+        try {
+            return fileStorageService.read(key);
+        } catch (NoSuchKeyException e) {
+            throw new EntityNotFoundException("이미지를 찾을 수 없습니다.");
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof NoSuchFileException) {
+                throw new EntityNotFoundException("이미지를 찾을 수 없습니다.");
+            }
+            throw e;
+        }
+    }
+
+    private void acquireDecodePermit() {
+        try {
+            if (!decodePermits.tryAcquire(decodeWaitMs, TimeUnit.MILLISECONDS)) {
+                throw new ImageResizeOverloadedException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImageResizeOverloadedException("이미지 처리 대기 중 중단되었습니다.");
+        }
+    }
+
+    // 먼저 시작한 요청의 결과를 기다림 (실패하면 같은 예외를 그대로 전달)
+    private static byte[] await(CompletableFuture<byte[]> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void checkDimension(String name, Integer value) {
+        if (value != null && (value < 1 || value > maxDimension)) {
+            throw new IllegalArgumentException(name + " 는 1 ~ " + maxDimension + " 사이여야 합니다.");
+        }
+    }
+
+    // 요청 크기 -> 요청값 이상인 가장 작은 구간 (가장 큰 구간보다 크면 가장 큰 구간)
+    private Integer snap(Integer value) {
+        if (value == null || sizeBuckets.length == 0) {
+            return value;
+        }
+        for (int bucket : sizeBuckets) {
+            if (bucket >= value) {
+                return bucket;
+            }
+        }
+        return sizeBuckets[sizeBuckets.length - 1];
+    }
+
+    // uuid.jpg + w=320, h=없음, q=85 -> uuid_w320_h0_q85.jpg
+    private static String cacheName(String filename, Integer width, Integer height, int quality) {
+        int dot = filename.lastIndexOf('.');
+        return filename.substring(0, dot)
+                + "_w" + (width == null ? 0 : width)
+                + "_h" + (height == null ? 0 : height)
+                + "_q" + quality
+                + filename.substring(dot);
+    }
+
+    private double hitRatio() {
+        double served = hitCounter.count() + coalescedCounter.count();
+        double total = served + missCounter.count();
+        return total == 0 ? 0.0 : served / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("image.resize.requests")
+                .tag("result", result)
+                .description("요청 시점 리사이즈 요청 수")
+                .register(meterRegistry);
+    }
+}
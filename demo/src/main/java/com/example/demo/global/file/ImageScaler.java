@@ -0,0 +1,160 @@
+package com.example.demo.global.file;
+
+import com.example.demo.global.exception.ImageTooLargeException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+
+/*
+    ImageScaler
+    - 게시글 이미지 축소 / 인코딩 공용 유틸 (업로드 후 축소본 생성, 요청 시 리사이즈에서 함께 사용)
+    - 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 단계적으로 줄인 뒤 마지막에 목표 크기로 맞춤
+    - 지원 형식 : jpg / png (gif 는 애니메이션이 사라지므로 제외)
+    - 디코딩 전 픽셀 상한 확인 (decode)
+        >> 파일은 작아도 해상도가 큰 이미지(예: 20000 x 20000 단색 png 는 수백 KB)는 디코딩 시 수 GB 를 할당
+*/
+public final class ImageScaler {
+
+    private ImageScaler() {
+    }
+
+    /*
+        이미지 디코딩 (픽셀 상한 확인 후)
+        1) ImageReader 로 헤더의 폭/높이만 읽음 (픽셀 데이터 디코딩 X)
+        2) 폭 x 높이가 maxPixels 를 넘으면 ImageTooLargeException
+        3) 상한 이내면 디코딩
+        - 읽을 수 있는 형식이 아니면 null
+     */
+    public static BufferedImage decode(byte[] bytes, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = (input != null) ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new ImageTooLargeException("이미지 해상도가 너무 큽니다. pixels=" + pixels + ", max=" + maxPixels);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 폭 기준 축소 (비율 유지)
+    public static BufferedImage scaleToWidth(BufferedImage source, int targetWidth, String format) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        return scale(source, targetWidth, targetHeight, format);
+    }
+
+    /*
+        상자(maxWidth x maxHeight) 안에 들어가도록 축소 (비율 유지, 확대하지 않음)
+        - 한쪽만 지정하면(다른 쪽 null) 지정한 쪽 기준
+     */
+    public static BufferedImage scaleToFit(BufferedImage source, Integer maxWidth, Integer maxHeight, String format) {
+        double ratio = 1.0;
+        if (maxWidth != null) {
+            ratio = Math.min(ratio, (double) maxWidth / source.getWidth());
+        }
+        if (maxHeight != null) {
+            ratio = Math.min(ratio, (double) maxHeight / source.getHeight());
+        }
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        return scale(source, width, height, format);
+    }
+
+    /*
+        jpg : quality(1~100) 로 압축률 지정
+        png : 무손실이므로 quality 무시
+     */
+    public static byte[] encode(BufferedImage image, String format, int quality) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!"jpg".equals(format)) {
+            if (!ImageIO.write(image, format, out)) {
+                throw new IOException("이미지 인코더가 없습니다. format=" + format);
+            }
+            return out.toByteArray();
+        }
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        if (!writers.hasNext()) {
+            throw new IOException("이미지 인코더가 없습니다. format=" + format);
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(Math.min(100, Math.max(1, quality)) / 100f);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    // 확장자 -> ImageIO 형식 이름 (지원하지 않으면 null)
+    public static String formatOf(String path) {
+        int dot = path.lastIndexOf('.');
+        if (dot < 0) {
+            return null;
+        }
+        return switch (path.substring(dot + 1).toLowerCase(Locale.ROOT)) {
+            case "jpg", "jpeg" -> "jpg";
+            case "png" -> "png";
+            default -> null;
+        };
+    }
+
+    public static String contentTypeOf(String format) {
+        return "jpg".equals(format) ? "image/jpeg" : "image/png";
+    }
+
+    // jpg 는 알파 채널을 쓸 수 없으므로 RGB 로 변환
+    private static BufferedImage scale(BufferedImage source, int targetWidth, int targetHeight, String format) {
+        int type = ("jpg".equals(format) || source.getTransparency() == BufferedImage.OPAQUE)
+                ? BufferedImage.TYPE_INT_RGB
+                : BufferedImage.TYPE_INT_ARGB;
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            if (width == targetWidth) {
+                height = targetHeight;
+            }
+
+            BufferedImage step = new BufferedImage(width, height, type);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+}
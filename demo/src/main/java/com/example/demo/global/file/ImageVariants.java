@@ -0,0 +1,88 @@
+package com.example.demo.global.file;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+/*
+    ImageVariants
+    - 원본 이미지 + 폭(width)별 축소본 목록을 문자열 1개로 다루는 유틸
+    - 저장 형식 (Post.imageVariants) : "320=posts/uuid_w320.jpg,800=posts/uuid_w800.jpg,1200=posts/uuid.jpg"
+        - {폭}={저장 key} 를 쉼표로 연결, 원본도 실제 폭과 함께 포함
+        - 축소본은 원본보다 작은 폭만 생성하므로 가장 큰 항목이 항상 원본
+    - 화면에서는 필요한 폭 이상인 것 중 가장 작은 항목을 선택 (없으면 원본)
+*/
+public final class ImageVariants {
+
+    private ImageVariants() {
+    }
+
+    public record Variant(int width, String key) {
+    }
+
+    // 축소본 저장 key : posts/uuid.jpg -> posts/uuid_w320.jpg
+    public static String keyOf(String imagePath, int width) {
+        int dot = imagePath.lastIndexOf('.');
+        int slash = imagePath.lastIndexOf('/');
+        if (dot <= slash) {
+            return imagePath + "_w" + width;
+        }
+        return imagePath.substring(0, dot) + "_w" + width + imagePath.substring(dot);
+    }
+
+    // 목록 -> 저장 형식 문자열
+    public static String format(List<Variant> variants) {
+        StringJoiner joiner = new StringJoiner(",");
+        variants.stream()
+                .sorted(Comparator.comparingInt(Variant::width))
+                .forEach(variant -> joiner.add(variant.width() + "=" + variant.key()));
+        return joiner.toString();
+    }
+
+    // 저장 형식 문자열 -> 목록 (폭 오름차순, 잘못된 항목은 무시)
+    public static List<Variant> parse(String variants) {
+        if (variants == null || variants.isBlank()) {
+            return List.of();
+        }
+        List<Variant> result = new ArrayList<>();
+        for (String entry : variants.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq <= 0) {
+                continue;
+            }
+            try {
+                result.add(new Variant(Integer.parseInt(entry.substring(0, eq).trim()), entry.substring(eq + 1).trim()));
+            } catch (NumberFormatException ignored) {
+                // 형식이 맞지 않는 항목은 건너뜀
+            }
+        }
+        result.sort(Comparator.comparingInt(Variant::width));
+        return result;
+    }
+
+    /*
+        필요한 폭 이상인 항목 중 가장 작은 것의 key
+        - 축소본이 아직 없으면(생성 전/실패) 원본 경로
+     */
+    public static String pick(String imagePath, String variants, int minWidth) {
+        List<Variant> parsed = parse(variants);
+        for (Variant variant : parsed) {
+            if (variant.width() >= minWidth) {
+                return variant.key();
+            }
+        }
+        return parsed.isEmpty() ? imagePath : parsed.get(parsed.size() - 1).key();
+    }
+
+    // <img srcset> 값 : "/posts/uuid_w320.jpg 320w, /posts/uuid_w800.jpg 800w, ..." (축소본 없으면 null)
+    public static String srcset(String variants) {
+        List<Variant> parsed = parse(variants);
+        if (parsed.size() < 2) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(", ");
+        parsed.forEach(variant -> joiner.add("/" + variant.key() + " " + variant.width() + "w"));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.demo.global.file;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    S3MultipartUploader
+    - 큰 파일을 여러 조각(part)으로 나눠 전용 풀에서 병렬 업로드
+    - 기존 : putObject 1회 (RequestBody.fromInputStream) -> 연결 1개 대역폭에 묶여 큰 사진일수록 요청 스레드가 오래 대기
+    - 변경
+        1) 파일 크기 < threshold-bytes -> putObject 1회 (조각 나누는 왕복 비용이 더 큼)
+        2) 그 외 -> CreateMultipartUpload -> 조각별 UploadPart 를 풀에 등록 -> 모두 끝나면 CompleteMultipartUpload
+            - 조각 크기 : part-size-bytes (S3 최소 5MB 미만이면 5MB)
+            - 풀 : threads + 제한된 대기열, 대기열이 가득 차면 호출한 스레드가 직접 업로드 (CallerRunsPolicy)
+              >> 조각은 실행될 때 읽으므로 메모리에 올라가는 조각 수는 (threads + 직접 처리 중인 호출 스레드 수) 로 제한
+            - 조각별 재시도 : 네트워크 오류 / 5xx / 429 만 max-attempts 까지 (retry-backoff-ms * 시도 횟수 대기)
+        3) 한 조각이라도 최종 실패 -> 나머지 조각 건너뜀 -> 진행 중인 조각이 끝난 뒤 AbortMultipartUpload
+           >> 완료되지 않은 조각이 버킷에 남아 과금되지 않도록 정리
+    - 지표 (Prometheus)
+        - s3.upload{mode=single|multipart, result=success|failed} : 파일 1개 업로드 시간
+        - s3.upload.part.retries                                   : 조각 재시도 횟수
+*/
+@Slf4j
+@Component
+public class S3MultipartUploader implements DisposableBean {
+
+    static final long MIN_PART_SIZE = 5L * 1024 * 1024; // S3 제한 (마지막 조각 제외)
+
+    private final S3Client s3Client;
+    private final MeterRegistry meterRegistry;
+
+    private final long thresholdBytes;
+    private final long partSizeBytes;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+
+    private final ThreadPoolExecutor executor;
+    private final Counter retryCounter;
+
+    public S3MultipartUploader(
+            S3Client s3Client,
+            MeterRegistry meterRegistry,
+            @Value("${app.s3.multipart.threshold-bytes:16777216}") long thresholdBytes,
+            @Value("${app.s3.multipart.part-size-bytes:8388608}") long partSizeBytes,
+            @Value("${app.s3.multipart.threads:4}") int threads,
+            @Value("${app.s3.multipart.queue-capacity:16}") int queueCapacity,
+            @Value("${app.s3.multipart.max-attempts:3}") int maxAttempts,
+            @Value("${app.s3.multipart.retry-backoff-ms:200}") long retryBackoffMs
+    ) {
+        this.s3Client = s3Client;
+        this.meterRegistry = meterRegistry;
+        this.partSizeBytes = Math.max(MIN_PART_SIZE, partSizeBytes);
+        this.thresholdBytes = Math.max(this.partSizeBytes, thresholdBytes);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMs = retryBackoffMs;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy() // 대기열 포화 시 호출 스레드가 직접 처리 (자연스러운 속도 조절)
+        );
+        this.retryCounter = Counter.builder("s3.upload.part.retries")
+                .description("S3 멀티파트 조각 재시도 횟수")
+                .register(meterRegistry);
+    }
+
+    /*
+        file 을 bucket/key 로 업로드 (완료될 때까지 대기)
+        - 실패 시 RuntimeException (멀티파트는 Abort 후)
+     */
+    public void upload(String bucket, String key, Path file, String contentType) {
+        long start = System.nanoTime();
+        long size = sizeOf(file);
+        String mode = (size < thresholdBytes) ? "single" : "multipart";
+        String result = "failed";
+        try {
+            if (size < thresholdBytes) {
+                PutObjectRequest request = PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build();
+                s3Client.putObject(request, RequestBody.fromFile(file));
+            } else {
+                uploadMultipart(bucket, key, file, size, contentType);
+            }
+            result = "success";
+        } finally {
+            Timer.builder("s3.upload")
+                    .tag("mode", mode)
+                    .tag("result", result)
+                    .description("S3 파일 1개 업로드 시간")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void uploadMultipart(String bucket, String key, Path file, long size, String contentType) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        int partCount = (int) ((size + partSizeBytes - 1) / partSizeBytes);
+        for (int i = 0; i < partCount; i++) {
+            int partNumber = i + 1; // S3 조각 번호는 1부터
+            long offset = i * partSizeBytes;
+            long length = Math.min(partSizeBytes, size - offset);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                if (failed.get()) {
+                    throw new PartSkippedException();
+                }
+                try {
+                    return uploadPart(bucket, key, uploadId, partNumber, file, offset, length);
+                } catch (RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                }
+            }, executor));
+        }
+
+        try {
+            // 실패가 있어도 모든 조각이 끝날 때까지 기다린 뒤 완료/중단 (진행 중인 조각이 중단 이후에 올라가지 않도록)
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            abortQuietly(bucket, key, uploadId);
+            throw new RuntimeException("S3 멀티파트 업로드 실패 : bucket=" + bucket + ", key=" + key, rootCause(futures, e));
+        }
+
+        List<CompletedPart> parts = futures.stream()
+                .map(CompletableFuture::join)
+                .sorted(Comparator.comparingInt(CompletedPart::partNumber))
+                .toList();
+        try {
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (RuntimeException e) {
+            abortQuietly(bucket, key, uploadId);
+            throw new RuntimeException("S3 멀티파트 완료 실패 : bucket=" + bucket + ", key=" + key, e);
+        }
+    }
+
+    // 조각 1개 업로드 (파일 구간을 읽어 전송, 재시도 가능한 오류만 재시도)
+    private CompletedPart uploadPart(String bucket, String key, String uploadId,
+                                     int partNumber, Path file, long offset, long length) {
+        byte[] bytes = readRange(file, offset, (int) length);
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength(length)
+                .build();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                String eTag = s3Client.uploadPart(request,
+                        RequestBody.fromContentProvider(() -> new ByteArrayInputStream(bytes), length, "application/octet-stream"))
+                        .eTag();
+                return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+            } catch (SdkException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                retryCounter.increment();
+                log.warn("[S3] part upload retry. key={}, part={}, attempt={}, reason={}", key, partNumber, attempt, e.getMessage());
+                sleep(retryBackoffMs * attempt);
+            }
+        }
+    }
+
+    private static boolean isRetryable(SdkException e) {
+        if (e instanceof SdkClientException) {
+            return true; // 연결/타임아웃 등 요청이 서버에 닿지 못한 경우
+        }
+        if (e instanceof S3Exception s3) {
+            return s3.statusCode() >= 500 || s3.statusCode() == 429;
+        }
+        return false;
+    }
+
+    private static byte[] readRange(Path file, long offset, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("파일이 예상보다 짧습니다. file=" + file);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes;
+    }
+
+    private void abortQuietly(String bucket, String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("[S3] multipart abort failed. key={}, uploadId={}, reason={}", key, uploadId, e.getMessage());
+        }
+    }
+
+    // 건너뛴 조각이 아닌 실제 실패 원인
+    private static Throwable rootCause(List<CompletableFuture<CompletedPart>> futures, CompletionException fallback) {
+        for (CompletableFuture<CompletedPart> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof PartSkippedException)) {
+                    return e.getCause();
+                }
+            }
+        }
+        return fallback.getCause();
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("재시도 대기 중 중단되었습니다.");
+        }
+    }
+
+    // 다른 조각이 이미 실패해 업로드하지 않은 조각 표시
+    private static final class PartSkippedException extends RuntimeException {
+        private PartSkippedException() {
+            super("다른 조각 업로드 실패로 건너뜀", null, false, false);
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "s3-part-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.demo.global.file;
+
+import com.example.demo.global.base.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    StoredFile 엔티티
+    - 내용 주소(SHA-256) 로 저장된 업로드 파일 1개 = 행 1개, 참조 중인 게시글 수(refCount)를 보관
+    - 같은 사진을 여러 번 올려도 저장소(로컬/S3)에는 1개만 두고 refCount 만 증가
+    - refCount 가 0 이 되면 행과 실제 파일(+축소본)을 함께 삭제
+    - 예: storageKey = "posts/9f86d0...15b0.jpg", refCount = 2
+        >> 두 게시글이 같은 파일을 가리킴, 한 글이 지워져도 파일은 유지
+*/
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_files")
+public class StoredFile extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "storage_key", length = 200)
+    private String storageKey; // 저장소 key (PK), posts/{sha256}.ext
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    // 행 생성/참조 증가는 StoredFileService.retain 으로만 수행 (엔티티로 INSERT 하지 않음)
+
+    // 행 잠금 상태에서만 호출, 남은 참조 수 반환
+    public long release() {
+        this.refCount = Math.max(0L, this.refCount - 1);
+        return this.refCount;
+    }
+}
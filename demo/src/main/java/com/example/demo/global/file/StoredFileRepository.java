@@ -0,0 +1,21 @@
+package com.example.demo.global.file;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/*
+    StoredFileRepository
+    - StoredFile 행을 비관적 락(PESSIMISTIC_WRITE, SELECT ... FOR UPDATE)으로 조회
+    - 같은 파일의 참조 증가/감소(다른 노드 포함)는 커밋까지 순서대로 처리
+*/
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from StoredFile f where f.storageKey = :storageKey")
+    Optional<StoredFile> findForUpdate(@Param("storageKey") String storageKey);
+}
@@ -0,0 +1,105 @@
+package com.example.demo.global.file;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.regex.Pattern;
+
+/*
+    StoredFileService
+    - 내용 주소 파일(StoredFile)의 참조 수 증가/감소
+    - REQUIRES_NEW : 게시글 트랜잭션과 분리하여 즉시 커밋 (SequenceBlockReserver 와 같은 방식)
+        >> 파일 행 락을 짧게 잡고 바로 해제 (같은 사진을 올리는 다른 요청을 게시글 INSERT 끝까지 막지 않음)
+        >> 게시글 쪽이 롤백되면 FileStorageService 가 AfterRollback 으로 증가분을 되돌림
+    - 참조 증가는 짧은 UPDATE / INSERT (파일 쓰기는 호출 측이 그 전에 끝냄)
+        - 기존 : SELECT ... FOR UPDATE -> 행이 없으면 잠금 안에서 파일 쓰기 -> INSERT
+            >> 업로드(S3) 내내 커넥션 2개(게시글 + REQUIRES_NEW) 점유
+            >> 없는 행의 FOR UPDATE 는 gap lock -> 같은 사진 동시 최초 업로드가 INSERT 에서 교착, 재시도마다 파일 재업로드
+        - 변경 : 내용 주소 파일은 같은 key 에 같은 내용이라 먼저 써도 안전 -> 쓰기 후 짧은 UPDATE / INSERT 만 실행
+        - DB 종류와 무관한 한 가지 경로 (MySQL 전용 upsert 구문 X -> 테스트(H2)가 운영과 같은 SQL 을 실행)
+    - 실제 파일 삭제는 호출 측이 넘긴 작업으로 수행 (저장소 종류는 FileStorageService 가 담당)
+*/
+@Service
+@RequiredArgsConstructor
+public class StoredFileService {
+
+    // 내용 주소 key : posts/{sha256 hex 64자}.ext (그 외는 참조 수 도입 전 uuid 파일)
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("posts/[0-9a-f]{64}(\\.[a-z0-9]+)?");
+
+    // UPDATE 후 없으면 INSERT
+    private static final String INCREMENT =
+            "update stored_files set ref_count = ref_count + 1, updated_at = current_timestamp where storage_key = ?";
+    private static final String INSERT =
+            "insert into stored_files (storage_key, size_bytes, ref_count, created_at, updated_at) " +
+            "values (?, ?, 1, current_timestamp, current_timestamp)";
+
+    private final StoredFileRepository storedFileRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+        참조 +1 (행이 없으면 refCount = 1 로 생성)
+        - 반환값 : 행을 새로 만들었으면 true
+            >> 호출 측은 그 사이 마지막 참조 반납으로 파일이 지워졌을 수 있으므로 파일 존재를 다시 확인
+        - 파일 쓰기는 이 안에서 하지 않음 (잠금/커넥션 점유는 UPDATE / INSERT 동안만)
+        - 순서
+            1) UPDATE +1 -> 행이 있으면 끝
+            2) 없으면 INSERT (refCount = 1)
+            3) 동시에 같은 내용을 처음 저장해 INSERT 가 중복 key 로 실패하면 먼저 만들어진 행에 UPDATE +1
+        - MySQL 에서 같은 새 key 동시 저장은 1) 의 gap lock 끼리 교착할 수 있음
+            >> 한쪽만 롤백되므로 호출 측(FileStorageService.save)이 1번 재시도 -> 재시도는 1) 에서 끝남
+    */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean retain(String storageKey, long sizeBytes) {
+        if (jdbcTemplate.update(INCREMENT, storageKey) > 0) {
+            return false;
+        }
+        try {
+            jdbcTemplate.update(INSERT, storageKey, sizeBytes);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 같은 내용의 최초 저장이 동시에 일어남 -> 먼저 만들어진 행의 참조만 증가
+            jdbcTemplate.update(INCREMENT, storageKey);
+            return false;
+        }
+    }
+
+    /*
+        참조 -1, 마지막 참조였으면 행 삭제 후 deleteBlob 실행
+        - 파일 삭제를 행 잠금 안에서 수행 -> 같은 내용을 다시 올리는 요청의 참조 증가는 이 커밋 뒤에 실행되어
+          "행 새로 만듦" 을 보고 파일 존재를 다시 확인 (지워졌으면 다시 씀)
+        - 행이 없는 경우
+            - 참조 수 도입 전 uuid 파일 : 단독 소유이므로 바로 삭제 (기존 동작)
+            - 내용 주소 파일 : 이미 반납됨, 아무것도 하지 않음
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String storageKey, Runnable deleteBlob) {
+        StoredFile file = storedFileRepository.findForUpdate(storageKey).orElse(null);
+        if (file == null) {
+            if (!isContentAddressed(storageKey)) {
+                deleteBlob.run();
+            }
+            return;
+        }
+        if (file.release() > 0) {
+            return;
+        }
+        storedFileRepository.delete(file);
+        storedFileRepository.flush();
+        deleteBlob.run();
+    }
+
+    // 참조 수로 관리하는 내용 주소 key 인지 (아니면 참조 수 도입 전 uuid 파일)
+    static boolean isContentAddressed(String storageKey) {
+        return storageKey != null && CONTENT_ADDRESSED.matcher(storageKey).matches();
+    }
+
+    // 아직 참조하는 게시글이 있는지 (내용 주소 파일 기준)
+    @Transactional(readOnly = true)
+    public boolean isReferenced(String storageKey) {
+        return storedFileRepository.existsById(storageKey);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.global.security;
+
+import com.example.demo.global.exception.LoginOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    BoundedPasswordEncoder
+    - 로그인 비밀번호 검증(BCrypt matches)을 전용 스레드 풀에서만 실행하는 PasswordEncoder 래퍼
+    - 기존 : 요청(Tomcat) 스레드가 직접 BCrypt 실행 -> 로그인 폭주 시 CPU 를 점유해 일반 GET 까지 느려짐
+    - 변경
+        1) matches 는 고정 크기 풀(app.auth.login.threads) + 제한된 대기열(app.auth.login.queue-capacity)에서 실행
+        2) 대기열이 가득 차거나 대기 시간(app.auth.login.timeout-ms) 초과 시 즉시 LoginOverloadedException (503)
+           >> 동시에 실행되는 BCrypt 수가 풀 크기로 제한됨
+        3) encode(회원가입/재해시)는 호출 스레드에서 실행, 시간만 측정
+    - matches 는 최대 timeout-ms 동안 호출 스레드를 붙잡으므로 트랜잭션 밖에서 호출 (UserService.login)
+        >> 트랜잭션 안에서 기다리면 대기열 길이만큼 DB 커넥션이 묶임
+    - 지표 (Prometheus)
+        - auth.password.hash{op=matches|encode} : 해시 연산 시간
+        - auth.login.queue.size                 : 검증 대기열 길이
+        - auth.login.rejected                   : 포화로 거절된 로그인 수
+    - upgradeEncoding 은 위임 -> 설정 강도(app.auth.bcrypt.strength)보다 낮은 해시는 로그인 시 재해시
+      (CustomUserDetailsService.updatePassword)
+*/
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final Timer matchesTimer;
+    private final Timer encodeTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry,
+                                  int threads, int queueCapacity, long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy() // 대기열 포화 시 RejectedExecutionException
+        );
+
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("op", "matches")
+                .description("비밀번호 해시 검증 시간")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("op", "encode")
+                .description("비밀번호 해시 생성 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.login.rejected")
+                .description("검증 풀 포화로 거절된 로그인 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 검증 대기열 길이")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    /*
+        비밀번호 검증 (전용 풀에서 실행)
+        1) 대기열 포화 -> 즉시 거절
+        2) 대기 + 실행이 timeoutMillis 를 넘으면 취소 후 거절
+     */
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new LoginOverloadedException("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new LoginOverloadedException("로그인 처리 시간이 초과되었습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new LoginOverloadedException("로그인 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 검증 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "login-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
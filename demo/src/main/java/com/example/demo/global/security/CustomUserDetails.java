@@ -28,6 +28,7 @@ public class CustomUserDetails implements UserDetails {
     private final String username; // 로그인 아이디 (User.username)
     private final String password; // 인코딩된 비밀번호
     private final Collection<? extends GrantedAuthority> authorities; // 권한 목록 (ROLE_USER 등)
+    private final transient User user; // 로그인 시 조회한 엔티티 (재조회 없이 응답 구성용, 클레임 기반 생성 시 null)
 
     /*
         User 엔티티를 기반으로 CustomUserDetails 객체를 만드는 생성자
@@ -39,6 +40,7 @@ public class CustomUserDetails implements UserDetails {
         this.id = user.getId();                // User PK -> principal.id
         this.username = user.getUsername();    // User(username)
         this.password = user.getPassword();    // 암호화된 비밀번호
+        this.user = user;                      // UserService.login 에서 findByUsername 재조회 없이 사용
 
         /*
             권한 설정
@@ -52,6 +54,22 @@ public class CustomUserDetails implements UserDetails {
     }
 
 
+    /*
+        JWT 클레임(id / username / role)으로 CustomUserDetails 를 만드는 생성자
+        - JwtAuthenticationFilter 가 검증된 Access 토큰만으로 principal 을 구성할 때 사용 (DB 조회 X)
+        - 비밀번호는 인증 이후 사용하지 않으므로 null
+     */
+    public CustomUserDetails(Long id, String username, UserRole role) {
+        this.id = id;
+        this.username = username;
+        this.password = null;
+        this.user = null;
+        this.authorities = List.of(
+                new SimpleGrantedAuthority("ROLE_" + role.name())
+        );
+    }
+
+
     // UserDetails 인터페이스 구현부, 스프링 시큐리티가 로그인/세션 유지에 사용하는 기능들
 
 
@@ -5,9 +5,12 @@ import com.example.demo.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 /*
     CustomUserDetailsService
@@ -16,11 +19,13 @@ import org.springframework.stereotype.Service;
      조회된 User 엔티티를 CustomUserDetails 로 변환하여 반환
      SecurityContext 에 저장될 principal 정보의 기반
      principal.id 사용 가능하게 만드는 필수 구성 요소
+     UserDetailsPasswordService : 로그인 성공 시 기존 해시 강도가 설정값보다 낮으면
+      스프링 시큐리티(DaoAuthenticationProvider)가 새 해시로 updatePassword 호출
 */
 @Slf4j
 @Service // 스프링 컴포넌트 등록 >> SecurityConfig 에 자동 주입 가능
 @RequiredArgsConstructor // final 필드 기반 생성자 자동 생성
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository; // DB에서 사용자 조회
 
@@ -33,7 +38,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        log.info("🔍 로그인 시도 - username: {}", username);
+        log.debug("🔍 사용자 조회 - username: {}", username);
 
         // 1) username 으로 User 엔티티 조회
         User user = userRepository.findByUsername(username)
@@ -46,4 +51,20 @@ public class CustomUserDetailsService implements UserDetailsService {
         //    이제 principal.id 가 정상적으로 제공됨!
         return new CustomUserDetails(user);
     }
+
+    /*
+        updatePassword()
+         - 로그인 성공 + passwordEncoder.upgradeEncoding(기존 해시) == true 일 때 호출
+         - newPassword 는 이미 새 강도로 인코딩된 값
+         - 로그인(UserService.login)은 트랜잭션 없이 실행되거나 호출 측 읽기 전용 트랜잭션에 참여하므로 별도 쓰기 트랜잭션(REQUIRES_NEW)으로 반영
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+        user.changePasswordEncoded(newPassword);
+        log.info("[PASSWORD] rehashed with current strength. userId={}", user.getId());
+        return new CustomUserDetails(user);
+    }
 }
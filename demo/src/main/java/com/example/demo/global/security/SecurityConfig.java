@@ -19,7 +19,10 @@ import com.example.demo.global.security.jwt.handler.JwtAuthenticationEntryPoint;
 import com.example.demo.global.security.jwt.properties.JwtProperties;
 import com.example.demo.global.security.jwt.service.JwtService;
 import com.example.demo.global.security.jwt.service.TokenBlacklistService;
+import com.example.demo.global.security.jwt.service.TokenRevocationService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -53,10 +56,13 @@ public class SecurityConfig {
             JwtService jwtService, // JwtService 빈 주입
             JwtProperties jwtProperties, // JwtProperties 빈 주입
             CustomUserDetailsService userDetailsService, // CustomUserDetailsService 빈 주입
-            TokenBlacklistService tokenBlacklistService
+            TokenBlacklistService tokenBlacklistService,
+            TokenRevocationService tokenRevocationService, // 사용자별 토큰 무효화(epoch)
+            @Value("${app.auth.claims-principal-enabled:true}") boolean claimsPrincipalEnabled // 클레임 기반 principal
     ) {
         return new JwtAuthenticationFilter(
-                jwtService, jwtProperties, userDetailsService, tokenBlacklistService);
+                jwtService, jwtProperties, userDetailsService, tokenBlacklistService,
+                tokenRevocationService, claimsPrincipalEnabled);
     }
 
     // UI(/ui/**) 요청에서만 401 -> /error/401 로 리다이렉트
@@ -178,10 +184,24 @@ public class SecurityConfig {
         return http.build();
     }
 
-    // 비밀번호 해시용 빈 등록(UserService에서 주입받아 사용)
+    /*
+        비밀번호 해시용 빈 등록(UserService에서 주입받아 사용)
+        - BCrypt 강도 : app.auth.bcrypt.strength (기존 해시보다 높이면 로그인 성공 시 자동 재해시)
+        - 로그인 검증(matches)은 전용 제한 풀에서 실행 (BoundedPasswordEncoder, 포화 시 503)
+        - 풀 크기 기본값은 CPU 코어 수의 절반 (최소 1)
+            >> 코어 전부를 BCrypt 에 주면 로그인 폭주 시 일반 요청 처리 스레드가 CPU 를 얻지 못함
+    */
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.bcrypt.strength:10}") int strength,
+            @Value("${app.auth.login.threads:0}") int threads, // 0 이면 CPU 코어 수 / 2 (최소 1)
+            @Value("${app.auth.login.queue-capacity:64}") int queueCapacity,
+            @Value("${app.auth.login.timeout-ms:3000}") long timeoutMillis
+    ){
+        int poolSize = (threads > 0) ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(strength), meterRegistry, poolSize, queueCapacity, timeoutMillis);
     }
 
     /*
@@ -203,7 +223,9 @@ public class SecurityConfig {
         // 만든 CustomUserDetailsService + PasswordEncoder 연결
         /*
             1) username -> DB 조회는 CustomUserDetailsService 사용
-            2) 비밀번호 비교는 BCryptPasswordEncoder 사용
+            2) 비밀번호 비교는 BCryptPasswordEncoder 사용 (BoundedPasswordEncoder 전용 풀)
+            3) CustomUserDetailsService 가 UserDetailsPasswordService 도 구현하므로
+               강도가 낮은 기존 해시는 로그인 성공 시 자동 재해시
         */
         authBuilder
                 .userDetailsService(userDetailsService)
@@ -1,10 +1,14 @@
 package com.example.demo.global.security.jwt.filter;
 
 
+import com.example.demo.domain.user.role.UserRole;
+import com.example.demo.global.security.CustomUserDetails;
 import com.example.demo.global.security.CustomUserDetailsService;
 import com.example.demo.global.security.jwt.properties.JwtProperties;
 import com.example.demo.global.security.jwt.service.JwtService;
 import com.example.demo.global.security.jwt.service.TokenBlacklistService;
+import com.example.demo.global.security.jwt.service.TokenRevocationService;
+import com.example.demo.global.security.jwt.token.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -23,6 +27,11 @@ import java.io.IOException;
     JwtAuthenticationFilter
     - /api/** 요청에서 쿠키의 JWT를 읽어서 인증 처리
     - @Component 제거: 서블릿 필터로 "전체 요청"에 자동 등록되는 것을 방지
+    - principal 구성 방식 (app.auth.claims-principal-enabled)
+        1) true(기본) : 토큰 클레임(id/username/role)으로 바로 구성 -> 인증 요청당 DB 조회 0회
+                       탈퇴 사용자는 TokenRevocationService 의 사용자별 epoch 로 차단 (메모리 조회)
+        2) false      : 기존처럼 username 으로 DB 조회 (CustomUserDetailsService)
+        - 클레임이 부족한 토큰(id/role 없음)은 1) 설정이어도 DB 조회로 처리
  */
 
 //@Component
@@ -34,6 +43,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProperties jwtProperties; // 쿠키 이름, 만료시간 등 설정 값
     private final CustomUserDetailsService customUserDetailsService; // username으로 UserDetails 로드
     private final TokenBlacklistService tokenBlacklistService; // 블랙리스트에 등록된 Access(jti) 차단여부 확인
+    private final TokenRevocationService tokenRevocationService; // 사용자별 무효화 기준 시각(epoch) 확인
+    private final boolean claimsPrincipalEnabled; // true : 클레임으로 principal 구성(DB 조회 X)
 
     @Override
     protected void doFilterInternal(
@@ -67,14 +78,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 3) 토큰 검증 (서명,만료,형식)
-            if (!jwtService.validateToken(token)) {
+            // 3) 토큰 검증 (서명,만료,형식) + 클레임 조회를 1회 파싱으로 처리
+            VerifiedToken verified = jwtService.verify(token);
+            if (verified == null) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
             // 4)블랙리스트 체크
-            String jti = jwtService.getJti(token);
+            String jti = verified.getJti();
             if (tokenBlacklistService.isBlacklisted(jti)){
                 log.debug("[JWT FILTER] blocked by blacklist. uri={}, jti={}", request.getRequestURI(), jti);
                 filterChain.doFilter(request, response);
@@ -82,16 +94,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             // 5) 토큰에서 username (subject) 꺼내기
-            String username = jwtService.getUsername(token);
+            String username = verified.getUsername();
             if (username == null || username.isBlank()) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            // 6) username 활용하여 UserDetails 로드 ( principal.id를 사용 가능 )
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            // 6) 사용자별 무효화(로그아웃/재사용 감지/탈퇴) 확인 : epoch 이전에 발급된 토큰이면 인증 X
+            Long userId = verified.getUserId();
+            if (tokenRevocationService.isRevoked(userId, verified.getIssuedAt())) {
+                log.debug("[JWT FILTER] blocked by revocation epoch. uri={}, userId={}", request.getRequestURI(), userId);
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            // 7) UserDetails 구성 ( principal.id를 사용 가능 )
+            //    클레임 모드면 토큰 값으로 구성, 아니면(또는 클레임 부족) username 으로 DB 조회
+            UserDetails userDetails = claimsPrincipalEnabled ? principalFromClaims(verified, userId, username) : null;
+            if (userDetails == null) {
+                userDetails = customUserDetailsService.loadUserByUsername(username);
+            }
 
-            // 7) 인증 객체 생성
+            // 8) 인증 객체 생성
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
                             userDetails,
@@ -99,7 +123,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             userDetails.getAuthorities() //권한 목록
                     );
 
-            // 8) SecurityContext 에 인증 저장 (로그인 상태로 인식)
+            // 9) SecurityContext 에 인증 저장 (로그인 상태로 인식)
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
         } catch (Exception e) {
@@ -115,6 +139,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 검증된 토큰 클레임으로 principal 구성, id/role 클레임이 없으면 null (DB 조회로 대체)
+    private UserDetails principalFromClaims(VerifiedToken verified, Long userId, String username) {
+        UserRole role = verified.getRole();
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new CustomUserDetails(userId, username, role);
+    }
+
     // 쿠키 배열에서 특정이름(cookieName)을 가진 쿠키의 value를 찾아 반환, 없으면 null
     private String extractTokenFromCookie(HttpServletRequest request, String cookieName) {
         if (cookieName == null || cookieName.isBlank()) { // cookieName 유효성 검사, null=비교불가, 공백=대상없음
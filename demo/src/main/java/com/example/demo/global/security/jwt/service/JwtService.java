@@ -3,9 +3,11 @@ package com.example.demo.global.security.jwt.service;
 import com.example.demo.domain.user.role.UserRole;
 import com.example.demo.global.security.CustomUserDetails;
 import com.example.demo.global.security.jwt.properties.JwtProperties;
+import com.example.demo.global.security.jwt.token.VerifiedToken;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +29,11 @@ import java.time.Duration;
     [(세션 + JWT 병행) 전제]
     - 세션 인증을 완전히 버리는 게 아니라, JWT도 함께 사용.
     - 다만 JWT 자체의 생성/검증/파싱 책임은 JwtService가 전담.
+
+    [서명 키 / 파서 재사용]
+    - 서명 키(HMAC Key)와 JwtParser 는 secret 이 바뀌지 않는 한 동일하므로 최초 사용 시 1번만 만들고 재사용
+      (JwtParser 는 불변 + thread-safe)
+    - 요청 경로(필터)는 verify(token) 1회로 검증 + 클레임 조회를 끝냄 (서명 검증 1회)
 */
 @Service // 스프링 빈 등록
 @RequiredArgsConstructor //final 필드 생성자 주입
@@ -39,14 +46,18 @@ public class JwtService {
         - "id"    : principal.id 를 토큰에 담아 필터가 DB조회 없이 principal 구성을 쉽게함
         - "role"  : ROLE_USER / ROLE_ADMIN 판단에 필요
     */
-    private static final String CLAIM_USER_ID = "id";
-    private static final String CLAIM_ROLE = "role";
-    private static final String CLAIM_JTI = "jti"; // Access Token 식별자(블랙리스트 용)
+    private static final String CLAIM_USER_ID = VerifiedToken.CLAIM_USER_ID;
+    private static final String CLAIM_ROLE = VerifiedToken.CLAIM_ROLE;
+    private static final String CLAIM_JTI = VerifiedToken.CLAIM_JTI; // Access Token 식별자(블랙리스트 용)
+
+    // 최초 사용 시 1번 생성 후 재사용 (secret 누락/길이 오류는 기존처럼 사용 시점에 예외)
+    private volatile Key signingKey;
+    private volatile JwtParser jwtParser;
 
     /* ⭐ 토근 생성
         - 로그인 성공 시 AccessToken 생성
         - subject엔 일반적으로 username 삽입. ( CustomUserDetails 기준 getUsername() == User.username )
-        - id/role/jti(UUID)는 claims로 담는다.
+        - id/role/jti(UUID)/iatMs(밀리초 발급 시각)는 claims로 담는다.
      */
     public String generateAccessToken(CustomUserDetails principal) {
 
@@ -60,6 +71,7 @@ public class JwtService {
                 .claim(CLAIM_USER_ID, principal.getId()) // principal.id
                 .claim(CLAIM_ROLE, extractRoleName(principal)) // "USER"/"ADMIN"
                 .claim(CLAIM_JTI, UUID.randomUUID().toString()) // jti
+                .claim(VerifiedToken.CLAIM_ISSUED_AT_MS, now.toEpochMilli()) // 사용자 epoch 비교용(ms)
                 .setIssuedAt(Date.from(now)) // 발급 시간
                 .setExpiration(Date.from(exp)) // 만료 시간
                 .signWith(getSigningKey()) // 서명 키
@@ -67,8 +79,11 @@ public class JwtService {
     }
 
 
-    // ⭐ Refresh Token 생성 ( Access 재발급 전용, 최소정보(userId)만 담음)
-    public String generateRefreshToken(Long userId){ // Refresh JWT 문자열 만들어 반환
+    /* ⭐ Refresh Token 생성 ( Access 재발급 전용, 최소정보(userId + 기기 식별자)만 담음)
+        - did : RefreshTokenService 의 기기 세션(field) 식별자
+        - jti : 같은 초에 회전해도 토큰 문자열이 겹치지 않도록 고유값 포함
+     */
+    public String generateRefreshToken(Long userId, String deviceId){ // Refresh JWT 문자열 만들어 반환
 
         Instant now = Instant.now(); // Refresh 발급 시각
         Instant exp = now.plusSeconds( // Refresh 만료 시각 ( 일 -> 초)
@@ -76,15 +91,36 @@ public class JwtService {
                 // 14 * 24 *60 * 60 = 1,209,600초 = 14일
         return Jwts.builder() // Refresh JWT 생성 빌더 시작
                 .claim(CLAIM_USER_ID, userId) // Refresh에도 userId를 담음(재발급/로그아웃/Redis키 조회용)
+                .claim(VerifiedToken.CLAIM_DEVICE_ID, deviceId) // 기기 세션 식별자
+                .claim(CLAIM_JTI, UUID.randomUUID().toString()) // 토큰 고유값
                 .setIssuedAt(Date.from(now)) // 발급 시간(iat)
                 .setExpiration(Date.from(exp)) // 만료 시간(exp)
                 .signWith(getSigningKey()) // 서명 키(Access와 동일한 secret 사용)
                 .compact(); // Refresh JWT 문자열 생성 후 반환
     }
 
+    /* ⭐ 토큰 검증 + 클레임 조회 (1회 파싱)
+        - 서명 검증 + 만료 검증 + 파싱 가능 여부 검증을 한 번에 수행
+        - 유효하면 VerifiedToken(클레임 + 만료 시각), 아니면 null
+        - 필터/컨트롤러는 이 결과에서 username, jti, userId, 남은 TTL 을 꺼내 사용 (추가 파싱 X)
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return VerifiedToken.of(parseClaims(token)); // 서명/만료 포함 검증
+        } catch (ExpiredJwtException e) {
+            return null; // 만료
+        } catch (JwtException | IllegalArgumentException e) {
+            return null; // 위조/형식 오류 등
+        }
+    }
+
     /* ⭐ 토큰 검증
         - 서명 검증 + 만료 검증 + 파싱 가능 여부 검증
         - 유효하면 true, 아니면 false
+        - 클레임까지 필요하면 verify(token) 사용 (검증 후 재파싱 방지)
      */
     public boolean validateToken(String token) {
         try {
@@ -99,47 +135,29 @@ public class JwtService {
 
     /* ⭐ 토큰 파싱
         - Claims(본문) 꺼내기
-        - 내부적으로 서명 검증 수행
+        - 내부적으로 서명 검증 수행 (캐시된 파서 사용)
      */
     public Claims parseClaims(String token) { // JWT 문자열 -> Claims(payload)로 파싱해서 반환
-        return Jwts.parserBuilder()// JWT 파서 빌더
-                .setSigningKey(getSigningKey()) // 검증 키
-                .build()// 파서 생성
+        return getParser()
                 .parseClaimsJws(token) // 파싱(검증 포함)
                 .getBody(); // Claims 반환
     }
 
     // ⭐ 토큰에서 username(subject) 꺼내기
     public String getUsername(String token) { // Access 토큰에서 subject(username)를 꺼내기 위한 메서드
-        Claims claims = parseClaims(token);
-        return claims.getSubject();// subject 반환
+        return VerifiedToken.of(parseClaims(token)).getUsername();// subject 반환
     }
 
     // ⭐ 토큰에서 userId(claim "id") 꺼내기
     public Long getUserId(String token) {
-        Claims claims = parseClaims(token);
-
-        Object raw = claims.get(CLAIM_USER_ID);
-        if (raw == null) {
-            return null;
-        }
-        if (raw instanceof Number number) {
-            return number.longValue();
-        }
-        throw new IllegalArgumentException("JWT claim 'id' is not a number.");
+        return VerifiedToken.of(parseClaims(token)).getUserId();
     }
 
     /* ⭐ 토큰에서 role(claim "role") 꺼내기
         - "USER"/"ADMIN" -> UserRole enum
      */
     public UserRole getRole(String token) {
-        Claims claims = parseClaims(token);
-
-        String roleName = claims.get(CLAIM_ROLE, String.class);
-        if (roleName == null || roleName.isBlank()) {
-            return null;
-        }
-        return UserRole.valueOf(roleName);
+        return VerifiedToken.of(parseClaims(token)).getRole();
     }
 
 
@@ -148,15 +166,37 @@ public class JwtService {
         - 예: Redis에 auth:bl:access:{jti} 가 존재하면 이 토큰은 즉시 차단(401 처리)
      */
     public String getJti(String token) { // Access JWT에서 jti를 읽어오는 메서드
-        return parseClaims(token).get(CLAIM_JTI, String.class); // "jti" 클레임 문자열 반환(없으면 null)
+        return VerifiedToken.of(parseClaims(token)).getJti(); // "jti" 클레임 문자열 반환(없으면 null)
     }
 
 
+    // ⭐ 검증용 파서 (최초 1회 생성 후 재사용)
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parserBuilder()// JWT 파서 빌더
+                    .setSigningKey(getSigningKey()) // 검증 키
+                    .build();// 파서 생성
+            jwtParser = parser; // 동시에 여러 번 만들어져도 결과가 같으므로 잠금 불필요
+        }
+        return parser;
+    }
+
+    // ⭐ 서명 키 (최초 1회 생성 후 재사용)
+    private Key getSigningKey() {
+        Key key = signingKey;
+        if (key == null) {
+            key = createSigningKey();
+            signingKey = key;
+        }
+        return key;
+    }
+
     /* ⭐ 서명 키 생성
         - yml의 secret은 Base64가 아니라 일반 문자열로 보이므로 UTF-8 bytes로 처리
         - HS256은 최소 32바이트 이상 권장
      */
-    private Key getSigningKey() {
+    private Key createSigningKey() {
 
         String secret = jwtProperties.getSecret();
         if (secret == null || secret.isBlank()) {
@@ -195,15 +235,7 @@ public class JwtService {
      */
     public Duration getRemainingTtl(String token) {
 
-        Claims claims = parseClaims(token); // exp 포함, 서명/만료 검증 포함 파싱
-        Date expiration = claims.getExpiration(); // 만료 시각(Date)
-
-        long remainingMillis = expiration.getTime() - System.currentTimeMillis(); // 남은 시간(ms)
-
-        if (remainingMillis <= 0) { // 이미 만료됐으면 0초로 처리
-            return Duration.ZERO;
-        }
-
-        return Duration.ofMillis(remainingMillis); // 남은 TTL 반환
+        // exp 포함, 서명/만료 검증 포함 파싱 (이미 만료됐으면 0초)
+        return VerifiedToken.of(parseClaims(token)).getRemainingTtl();
     }
 }
@@ -1,17 +1,26 @@
 package com.example.demo.global.security.jwt.service;
 
+import com.example.demo.global.security.jwt.store.TokenStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.Objects;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
 
 /*
     RefreshTokenService
     [역할]
-    - Refresh Token을 Redis에 저장, 관리하는 전용 서비스
-    - 단일 로그인 기준, userId 당 Refresh Token은 항상 1개만 유지
+    - Refresh Token을 TokenStore(Redis / 메모리)에 저장, 관리하는 전용 서비스
+    - 기기(device) 단위 로그인 세션 : userId 당 여러 기기의 Refresh Token 을 동시에 유지
     - Refresh Token의 핵심 보안 정책인
         1) 회전(rotate)
         2) 재사용 감지
@@ -19,79 +28,97 @@ import java.util.Objects;
     [설계 배경]
     - Refresh Token은 Access Token보다 수명이 길기 때문에
       서버가 반드시 "상태(state)"를 관리해야 함
-    - Redis를 사용하여:
-        - 현재 유효한 Refresh Token 1개만 유지
-        - 재사용 시 즉시 침해로 판단 가능하게 한다.
+    - 기존 : userId 당 문자열 1개 -> 다른 기기에서 로그인하면 이전 기기가 로그아웃됨
+        >> 재로그인 반복 = 로그인(BCrypt) 부하 증가
+    - 변경 : 사용자별 기기 세션 묶음 (deviceId = Refresh 토큰의 did 클레임, 로그인 시 발급)
+        - 원문 토큰 대신 SHA-256 해시만 저장 (저장소 유출 시에도 토큰 재사용 불가)
+    - 기기 수 제한 (app.auth.refresh.max-devices, 기본 5) : 초과 시 가장 오래 사용하지 않은 기기부터 제거
+    - 저장은 TokenStore 에 위임 (app.token-store.type : redis 기본 / memory 단일 노드)
+        - 저장 구조, 원자성(Lua 스크립트 / 사용자 단위 잠금)은 각 구현체 참고
 */
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-    /*
-        RedisTemplate
-        - Redis 접근을 위한 스프링 템플릿
-        - key / value 모두 String으로 사용
-        - key 예시: auth:refresh:123
-        - value 예시: 실제 Refresh Token 문자열 (추후 해시로 변경 가능)
-     */
-    private final RedisTemplate<String, String> redisTemplate;
+    // Refresh 기기 세션 저장소 (Redis / 메모리)
+    private final TokenStore tokenStore;
 
+    @Value("${app.auth.refresh.max-devices:5}")
+    private int maxDevices;
 
-    /*
-        Refresh Token Redis Key Prefix
-        - Refresh Token 저장 키의 공통 접두어
-        - userId를 뒤에 붙여 실제 Redis key를 만듦
-        - 예: auth:refresh:1, auth:refresh:42
-     */
-    private static final String REFRESH_KEY_PREFIX = "auth:refresh:";
+
+    // Refresh 회전 결과
+    public enum RotationResult {
+        ROTATED,        // 정상 회전
+        REUSE_DETECTED, // 저장된 Refresh 와 불일치 (과거 Refresh 재사용)
+        MISSING         // 저장된 Refresh 없음 (로그아웃/재사용 감지로 폐기/TTL 만료/기기 수 초과로 제거)
+    }
+
+    // 기기 세션 정보 (조회용, 토큰 해시는 노출 X)
+    public record RefreshSession(
+            String deviceId,
+            Instant createdAt,       // 최초 로그인 시각
+            Instant lastRefreshedAt, // 마지막 Refresh 발급(로그인/회전) 시각
+            Instant expiresAt        // Refresh 만료 시각
+    ) {
+    }
+
+
+    // 새 기기 식별자 발급 (로그인 시)
+    public String newDeviceId() {
+        return UUID.randomUUID().toString();
+    }
 
 
     /*
         Refresh Token 저장
-        - 로그인 성공 시
-        - 또는 Refresh 회전(rotate) 성공 시 호출
-        - 기존 값이 있으면 덮어써서 이전 Refresh를 무효화
+        - 로그인 성공 시 호출
+        - 같은 기기(deviceId)에 값이 있으면 덮어써서 이전 Refresh를 무효화
+        - 최대 기기 수 초과 시 가장 오래 사용하지 않은 기기 세션 제거
         @param userId : 사용자 식별자
+        @param deviceId : 기기 식별자 (Refresh 토큰의 did 클레임)
         @param refreshToken : 새로 발급된 Refresh Token
         @param ttl : Refresh Token의 만료 시간 (14일)
      */
-    public void saveRefreshToken(Long userId, String refreshToken, Duration ttl) {
-        String key = generateKey(userId);
-
-        redisTemplate.opsForValue().set(
-                key, // Redis key (auth:refresh:{userId})
-                refreshToken, // Redis value (Refresh Token)
-                ttl // TTL (Refresh 만료 시간)
-        );
+    public void saveRefreshToken(Long userId, String deviceId, String refreshToken, Duration ttl) {
+        tokenStore.saveRefreshSession(userId, deviceId, hash(refreshToken), ttl, Math.max(1, maxDevices));
     }
 
 
     /*
-        Refresh Token 조회
-        - 현재 Redis에 저장된 Refresh Token을 조회
-        - 존재하지 않으면 null 반환, 디버깅, 테스트, 검증로직 에 사용 가능
+        기기 세션 목록 조회
+        - 만료된 세션은 제외, 최근 사용 순 정렬
      */
-    public String getRefreshToken(Long userId) {
+    public List<RefreshSession> getSessions(Long userId) {
+        List<RefreshSession> sessions = new ArrayList<>(tokenStore.findRefreshSessions(userId));
+        sessions.sort(Comparator.comparing(RefreshSession::lastRefreshedAt).reversed());
+        return sessions;
+    }
 
-        String key = generateKey(userId);
 
-        return redisTemplate.opsForValue().get(key);
+    /*
+        기기 세션 1개 삭제
+        - 로그아웃(현재 기기) / 다른 기기 로그아웃 시 사용
+        @return 삭제된 세션이 있으면 true
+     */
+    public boolean deleteRefreshToken(Long userId, String deviceId) {
+
+        if (deviceId == null || deviceId.isBlank()) {
+            return false;
+        }
+        return tokenStore.deleteRefreshSession(userId, deviceId);
     }
 
 
     /*
-        Refresh Token 삭제
-        - 로그아웃 시
+        사용자의 모든 기기 세션 삭제
         - 재사용 감지 발생 시
         - 강제 로그아웃 정책 적용 시 사용
-        Redis에서 Refresh Token을 제거함으로써
+        저장소에서 Refresh Token을 제거함으로써
         해당 사용자의 모든 세션을 무효화
      */
-    public void deleteRefreshToken(Long userId) {
-
-        String key = generateKey(userId);
-
-        redisTemplate.delete(key);
+    public void deleteAllRefreshTokens(Long userId) {
+        tokenStore.deleteRefreshSessions(userId);
     }
 
 
@@ -100,76 +127,56 @@ public class RefreshTokenService {
         Refresh Token 회전 + 재사용 감지
         Refresh Token 보안의 중심
         [동작 규칙]
-        1. Redis에 저장된 Refresh Token을 조회
-        2. 클라이언트가 보낸 Refresh Token과 비교
+        1. 저장소에 저장된 해당 기기의 Refresh Token 해시를 조회
+        2. 클라이언트가 보낸 Refresh Token 해시와 비교
         3. 결과에 따라 다음과 같이 처리
 
         - 저장된 Refresh가 없음
             -> 이미 로그아웃되었거나
               이미 재사용 감지로 폐기된 상태
-            -> 침해로 간주
+            -> 침해로 간주 (MISSING)
 
         - 저장된 Refresh != 클라이언트 Refresh
             -> 과거 Refresh 재사용 시도
-            -> 침해로 간주
+            -> 침해로 간주 (REUSE_DETECTED)
 
         - 저장된 Refresh == 클라이언트 Refresh
             -> 정상
-            -> 새 Refresh Token으로 교체 (회전)
+            -> 새 Refresh Token으로 교체 (회전, ROTATED)
+
+        [원자성]
+        - 위 1~3을 TokenStore 가 원자적으로 실행 (Redis : Lua 스크립트 1회 / 메모리 : 사용자 단위 잠금)
+            >> 같은 Refresh 로 동시에 요청해도 먼저 실행된 1건만 ROTATED, 나머지는 REUSE_DETECTED
 
-        @return
-        - true  : 정상 회전 성공
-        - false : 재사용 감지(D-1)
+        @return ROTATED / REUSE_DETECTED / MISSING
      */
-    public boolean rotateRefreshToken(
+    public RotationResult rotateRefreshToken(
             Long userId,
+            String deviceId,
             String presentedRefreshToken,
             String newRefreshToken,
             Duration ttl
     ) {
-        String key = generateKey(userId);
-
-        // Redis에 저장된 현재 Refresh Token 조회
-        String storedRefreshToken = redisTemplate.opsForValue().get(key);
-
-        /*
-            저장된 Refresh가 없는 경우
-            - 이미 로그아웃됨
-            - 이미 재사용 감지로 삭제됨
-            - TTL 만료됨
-            -> 어떤 경우든 보안상 "정상 상태"가 아니므로 재사용 감지로 처리
-         */
-        if (storedRefreshToken == null) {
-            return false;
-        }
-
-
-        // Refresh Token 비교 (equals 비교를 통해 정확히 일치하는지 확인)
-
-        if (!Objects.equals(storedRefreshToken, presentedRefreshToken)) {
-            // 기존 Refresh와 다르면 침해로 판단
-            return false;
+        if (deviceId == null || deviceId.isBlank()) {
+            return RotationResult.MISSING; // did 클레임 없는 (기기 세션 도입 이전) Refresh
         }
-
-        /*
-            정상적인 Refresh 요청인 경우
-            - 새 Refresh Token으로 교체
-            - TTL을 다시 설정
-            - 기존 Refresh는 즉시 무효화됨
-         */
-        redisTemplate.opsForValue().set(
-                key,
-                newRefreshToken,
+        return tokenStore.rotateRefreshSession(
+                userId,
+                deviceId,
+                hash(presentedRefreshToken),
+                hash(newRefreshToken),
                 ttl
         );
-
-        return true;
     }
 
 
-    // Redis Key 생성 공통 메서드 - Refresh Token 관련 Redis key 생성 규칙을 한 곳에서 관리하기 위한 메서드
-
-    private String generateKey(Long userId) {
-        return REFRESH_KEY_PREFIX + userId;
+    // Refresh 원문 대신 저장할 SHA-256 해시 (hex)
+    private static String hash(String refreshToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
     }
 }
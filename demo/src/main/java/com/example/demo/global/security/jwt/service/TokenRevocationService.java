@@ -0,0 +1,181 @@
+package com.example.demo.global.security.jwt.service;
+
+import com.example.demo.global.security.jwt.properties.JwtProperties;
+import com.example.demo.global.security.jwt.store.RevocationEpochStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    TokenRevocationService
+    [역할]
+    - 사용자 단위 "토큰 무효화 기준 시각(epoch)" 관리
+        - 로그아웃 / Refresh 재사용 감지 / 회원 탈퇴 시 해당 사용자의 epoch 를 현재 시각으로 올림
+        - epoch 이전에 발급(iat)된 Access 토큰은 모두 무효로 판단
+    - Access 마다 auth:bl:access:{jti} 키를 만드는 블랙리스트와 달리, 사용자 1명당 필드 1개만 기록
+        >> 다수 사용자 강제 로그아웃 시에도 Redis 키가 폭증하지 않음, 무효화는 HSET 1회
+    - JWT 클레임만으로 principal 을 구성할 때(DB 조회 X), 탈퇴 사용자를 걸러내는 장치 역할도 겸함
+
+    [저장 구조]
+    - 저장/전파는 RevocationEpochStore 에 위임 (app.token-store.type 으로 선택)
+        - redis  : Redis Hash auth:revoke:epoch + Pub/Sub 채널(auth:revoke:events)
+        - memory : 노드 메모리 Map (Redis 연결/구독 없음)
+    - 노드 메모리에 사본(localEpochs)을 두고 요청 경로는 메모리 조회 1회로 판단 (Redis/DB 왕복 X)
+    - 노드 간 동기화
+        1) 무효화 시 저장소가 다른 노드에 전파 -> 다른 노드 즉시 반영
+        2) 메시지 유실 대비 주기적으로(기본 5초) 전체 갱신
+    - Access 토큰 최대 수명보다 오래된 epoch 는 더 이상 막을 토큰이 없으므로 갱신 시 정리
+    - 저장소 장애 시 마지막으로 받은 사본을 계속 사용
+        - 단, 기동 후 첫 전체 로드가 성공하기 전에는 사본이 비어 있음 -> 모든 토큰을 무효로 판단 (fail closed)
+        >> 빈 사본으로 통과시키면 로그아웃/탈퇴로 무효화된 토큰이 저장소 복구 전까지 이 노드에서 인증됨
+        >> 저장소가 복구되면 다음 주기 갱신(기본 5초)에서 로드되어 정상 판단
+    - 무효화 기록 실패 시 유실하지 않음
+        1) epoch 를 pendingWrites 에 보관 (현재 노드는 이미 메모리에 반영되어 차단 중)
+        2) 주기 갱신마다 저장소에 닿을 때까지 재시도, 성공해야 대기열에서 제거
+        >> 실패를 로그만 남기고 넘기면 다른 노드에서는 무효화된 토큰이 계속 통과
+    - 밀리초 단위로 비교 (JwtService 가 Access 에 iatMs 클레임을 함께 기록)
+        >> 로그아웃 직후 같은 초에 다시 로그인해도 새 토큰은 유효
+*/
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevocationEpochStore epochStore;
+    private final JwtProperties jwtProperties;
+
+    // userId -> epochMillis (이 시각 이전 발급 토큰은 무효)
+    private final Map<Long, Long> localEpochs = new ConcurrentHashMap<>();
+
+    // 저장소 기록에 실패해 재시도를 기다리는 epoch (userId -> epochMillis)
+    private final Map<Long, Long> pendingWrites = new ConcurrentHashMap<>();
+
+    // 저장소 전체 로드가 한 번이라도 성공했는지 (false 인 동안은 사본을 믿을 수 없으므로 모두 무효 처리)
+    private volatile boolean loaded;
+
+    /*
+        사용자의 모든 Access 토큰 무효화
+        - 현재 노드 사본은 즉시 반영, 다른 노드는 Pub/Sub 메시지(유실 시 다음 주기 갱신)로 반영
+        - 저장소 기록 실패 시 대기열에 보관하고 주기 갱신에서 재시도
+     */
+    public void revokeAll(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        long epoch = System.currentTimeMillis();
+        localEpochs.merge(userId, epoch, Math::max);
+        pendingWrites.merge(userId, epoch, Math::max);
+        writeToStore(userId);
+    }
+
+    /*
+        토큰 무효 여부 (메모리 조회만)
+        @param userId   토큰의 id 클레임
+        @param issuedAt 토큰 발급 시각 (iatMs, 없으면 iat)
+        @return true 면 무효(인증 처리 X)
+        - 첫 전체 로드 전이면 사본이 비어 있을 수 있으므로 무효
+     */
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        if (!loaded) {
+            return true;
+        }
+        if (userId == null) {
+            return false;
+        }
+        Long epoch = localEpochs.get(userId);
+        if (epoch == null) {
+            return false;
+        }
+        // iat 가 없는 토큰은 발급 시점을 알 수 없으므로 무효 처리
+        return issuedAt == null || issuedAt.toEpochMilli() < epoch;
+    }
+
+    // 기동 완료 시 다른 노드의 무효화 수신 등록 + 전체 사본 로드
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        epochStore.subscribe((userId, epoch) -> localEpochs.merge(userId, epoch, Math::max));
+        refresh();
+    }
+
+    /*
+        주기적 전체 갱신 (기본 5초, Pub/Sub 메시지 유실 보완)
+        1) 기록 대기 중인 epoch 재시도
+        2) 저장소 전체 조회로 다른 노드의 epoch 반영 + 만료 epoch 정리
+     */
+    @Scheduled(fixedDelayString = "${app.auth.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        for (Long userId : pendingWrites.keySet()) {
+            if (!writeToStore(userId)) {
+                break; // 저장소 장애 중 -> 다음 주기에 다시 시도
+            }
+        }
+
+        Map<Long, Long> entries;
+        try {
+            entries = epochStore.findEpochs();
+        } catch (Exception e) {
+            if (loaded) {
+                log.warn("[REVOKE] epoch refresh failed, keep local copy. reason={}", e.getMessage());
+            } else {
+                log.warn("[REVOKE] initial epoch load failed, reject tokens until loaded. reason={}", e.getMessage());
+            }
+            return;
+        }
+
+        long expiredBefore = System.currentTimeMillis() - jwtProperties.getAccessTokenExpMinutes() * 60_000L;
+        List<Long> expiredUserIds = new ArrayList<>();
+
+        for (Map.Entry<Long, Long> entry : entries.entrySet()) {
+            Long userId = entry.getKey();
+            long epoch = entry.getValue();
+            if (epoch < expiredBefore) {
+                expiredUserIds.add(userId); // 이 epoch 이전 토큰은 이미 모두 만료
+                continue; // 로컬 사본은 아래에서 만료 기준으로 정리 (기록 대기 중인 더 큰 epoch 보존)
+            }
+            localEpochs.merge(userId, epoch, Math::max);
+        }
+
+        // 로컬에만 남아 있는 오래된 epoch 정리 (기록 대기 중이던 만료 epoch 도 더 이상 기록할 필요 없음)
+        localEpochs.values().removeIf(epoch -> epoch < expiredBefore);
+        pendingWrites.values().removeIf(epoch -> epoch < expiredBefore);
+        loaded = true;
+
+        if (!expiredUserIds.isEmpty()) {
+            try {
+                epochStore.deleteEpochs(expiredUserIds);
+            } catch (Exception e) {
+                log.warn("[REVOKE] expired epoch cleanup failed. reason={}", e.getMessage());
+            }
+        }
+    }
+
+    /*
+        대기 중인 epoch 1건을 저장소에 기록 (+ 다른 노드에 전파)
+        - 성공 시 대기열에서 제거 (그 사이 더 큰 epoch 로 바뀌었으면 남겨두고 다음 시도에서 기록)
+        @return false 면 기록 실패 (대기열 유지)
+     */
+    private boolean writeToStore(Long userId) {
+        Long epoch = pendingWrites.get(userId);
+        if (epoch == null) {
+            return true;
+        }
+        try {
+            epochStore.saveEpoch(userId, epoch);
+        } catch (Exception e) {
+            log.warn("[REVOKE] epoch write failed, retry on next refresh. userId={}, pending={}, reason={}",
+                    userId, pendingWrites.size(), e.getMessage());
+            return false;
+        }
+        pendingWrites.remove(userId, epoch);
+        return true;
+    }
+}
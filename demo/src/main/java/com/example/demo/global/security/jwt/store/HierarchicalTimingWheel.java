@@ -0,0 +1,135 @@
+package com.example.demo.global.security.jwt.store;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+    HierarchicalTimingWheel
+    - InMemoryTokenStore 의 TTL 만료 예약용 계층형 타이밍 휠
+    - 만료 항목을 "만료 시각 순 정렬" 없이 슬롯(bucket)에 넣어 두고, 시간이 흐를 때 해당 슬롯만 꺼냄
+        >> 예약 O(1), 만료 처리는 만료되는 항목 수에 비례 (전체 map 순회 X)
+    - 구조 : 단계(level)마다 슬롯 64개
+        - level 0 : 1 tick 단위      (tick 1초 기준 ~64초)
+        - level 1 : 64 tick 단위     (~68분)
+        - level 2 : 64^2 tick 단위   (~3일)
+        - level 3 : 64^3 tick 단위   (~194일, Refresh 14일 포함)
+        - 상위 단계 슬롯은 차례가 오면 하위 단계로 다시 배치(cascade)
+        - 범위를 넘는 항목은 최상위 단계 마지막 슬롯에 두고 차례가 오면 다시 배치
+    - 만료 콜백은 "만료되었을 수 있음" 신호로만 사용 (값이 갱신되었을 수 있으므로 호출 측에서 실제 만료 여부 재확인)
+    - 예약/진행은 synchronized (예약은 슬롯에 추가 1회라 경합 구간이 짧음)
+*/
+class HierarchicalTimingWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS; // 64
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN_TICKS = 1L << (SLOT_BITS * LEVELS); // 64^4
+
+    private final long tickMillis;
+    private final List<List<ArrayDeque<Entry<K>>>> wheels;
+
+    private long currentTick;
+    private int size;
+
+    HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis 는 0보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = startMillis / tickMillis;
+        this.wheels = new ArrayList<>(LEVELS);
+        for (int level = 0; level < LEVELS; level++) {
+            List<ArrayDeque<Entry<K>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new ArrayDeque<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    /*
+        만료 예약
+        @param key       만료 시 콜백으로 전달할 키
+        @param expiresAt 만료 시각 (epoch ms), 이미 지난 시각이면 다음 tick 에 만료
+     */
+    synchronized void schedule(K key, long expiresAt) {
+        long deadlineTick = Math.floorDiv(expiresAt + tickMillis - 1, tickMillis); // 올림 : 만료 시각 이전에 꺼내지 않음
+        place(new Entry<>(key, Math.max(deadlineTick, currentTick + 1)));
+        size++;
+    }
+
+    /*
+        현재 시각까지 휠 진행
+        - 지나간 tick 마다 : 상위 단계 cascade -> level 0 슬롯의 항목 만료 콜백
+        - 콜백은 잠금 밖에서 호출 (콜백이 다시 schedule 해도 교착 X)
+     */
+    void advance(long nowMillis, Consumer<K> onExpire) {
+        List<K> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            while (currentTick < targetTick) {
+                tick(expired);
+            }
+            size -= expired.size();
+        }
+        expired.forEach(onExpire);
+    }
+
+    // 예약된 항목 수 (지표/테스트용)
+    synchronized int size() {
+        return size;
+    }
+
+    private void tick(List<K> expired) {
+        currentTick++;
+
+        // 하위 단계가 한 바퀴 돌 때마다 상위 단계의 현재 슬롯을 다시 배치
+        for (int level = 1; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) != 0) {
+                break;
+            }
+            ArrayDeque<Entry<K>> bucket = wheels.get(level).get((int) ((currentTick >>> shift) & SLOT_MASK));
+            List<Entry<K>> moving = new ArrayList<>(bucket);
+            bucket.clear();
+            moving.forEach(this::place);
+        }
+
+        ArrayDeque<Entry<K>> bucket = wheels.get(0).get((int) (currentTick & SLOT_MASK));
+        for (int i = bucket.size(); i > 0; i--) {
+            Entry<K> entry = bucket.poll();
+            if (entry.deadlineTick() <= currentTick) {
+                expired.add(entry.key());
+            } else {
+                place(entry); // 범위를 넘어 최상위에 임시 배치되었던 항목
+            }
+        }
+    }
+
+    /*
+        항목 배치
+        - 남은 tick 이 64^(level+1) 미만인 가장 낮은 단계에 배치
+        - 슬롯 번호는 만료 tick 의 해당 단계 자릿수 (상위 단계 배치 시 만료 tick 은 항상 다음 구간 이후)
+     */
+    private void place(Entry<K> entry) {
+        long delta = entry.deadlineTick() - currentTick;
+        long slotTick = entry.deadlineTick();
+        if (delta >= MAX_SPAN_TICKS) {
+            slotTick = currentTick + MAX_SPAN_TICKS - 1;
+            delta = MAX_SPAN_TICKS - 1;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        wheels.get(level).get(slot).add(entry);
+    }
+
+    private record Entry<K>(K key, long deadlineTick) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.global.security.jwt.store;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/*
+    InMemoryRevocationEpochStore (app.token-store.type=memory)
+    - 단일 노드용 epoch 저장소 : 전파할 다른 노드가 없으므로 메모리 Map 1개
+        >> memory 저장소 선택 시 Redis 연결/구독/주기 조회가 전혀 발생하지 않음
+    - 재시작 시 모든 epoch 가 사라짐 (InMemoryTokenStore 의 세션과 동일)
+*/
+@Component
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "memory")
+public class InMemoryRevocationEpochStore implements RevocationEpochStore {
+
+    private final Map<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    @Override
+    public void saveEpoch(Long userId, long epochMillis) {
+        epochs.merge(userId, epochMillis, Math::max);
+    }
+
+    @Override
+    public Map<Long, Long> findEpochs() {
+        return Map.copyOf(epochs);
+    }
+
+    @Override
+    public void deleteEpochs(Collection<Long> userIds) {
+        userIds.forEach(epochs::remove);
+    }
+
+    @Override
+    public void subscribe(BiConsumer<Long, Long> listener) {
+        // 단일 노드 : 다른 노드의 기록 없음
+    }
+}
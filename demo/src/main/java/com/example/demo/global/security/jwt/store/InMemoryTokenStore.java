@@ -0,0 +1,245 @@
+package com.example.demo.global.security.jwt.store;
+
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RefreshSession;
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RotationResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/*
+    InMemoryTokenStore (app.token-store.type=memory)
+    - 단일 노드 배포 / Redis 없는 테스트용 TokenStore
+        >> Refresh 회전, 인증 요청마다 발생하던 Redis 왕복이 메모리 연산으로 대체
+    - 저장 구조
+        - refreshSessions : userId -> { deviceId -> 세션 } (RedisTokenStore 의 사용자별 Hash 와 동일한 모양)
+        - blacklist       : jti -> 만료 시각(ms)
+    - 원자성 : 사용자 단위 연산은 ConcurrentHashMap.compute 안에서 실행 (같은 사용자만 직렬화, Lua 스크립트와 같은 효과)
+    - 만료
+        1) 조회/회전 시 만료 시각을 직접 비교 (휠 진행과 무관하게 만료 항목은 보이지 않음)
+        2) 메모리 회수는 HierarchicalTimingWheel 로 예약, 주기적으로(app.token-store.memory.tick-ms) 진행하며 제거
+           - 사용자별 예약은 1건만 유지 (가장 빨리 만료되는 기기 기준, 만료 시 남은 기기로 재예약)
+    - 재시작 시 모든 세션/블랙리스트가 사라짐 (단일 노드 전용, 다중 노드에서는 redis 사용)
+*/
+@Component
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "memory")
+public class InMemoryTokenStore implements TokenStore {
+
+    private final LongSupplier clock;
+
+    private final Map<Long, UserSessions> refreshSessions = new ConcurrentHashMap<>();
+    private final Map<String, Long> blacklist = new ConcurrentHashMap<>();
+
+    private final HierarchicalTimingWheel<Long> refreshWheel;
+    private final HierarchicalTimingWheel<String> blacklistWheel;
+
+    @Autowired
+    public InMemoryTokenStore(@Value("${app.token-store.memory.tick-ms:1000}") long tickMillis) {
+        this(System::currentTimeMillis, tickMillis);
+    }
+
+    // 테스트에서 시각을 직접 제어할 때 사용
+    InMemoryTokenStore(LongSupplier clock, long tickMillis) {
+        this.clock = clock;
+        long now = clock.getAsLong();
+        this.refreshWheel = new HierarchicalTimingWheel<>(tickMillis, now);
+        this.blacklistWheel = new HierarchicalTimingWheel<>(tickMillis, now);
+    }
+
+    @Override
+    public int saveRefreshSession(Long userId, String deviceId, String tokenHash, Duration ttl, int maxDevices) {
+        long now = clock.getAsLong();
+        long expiresAt = now + ttl.toMillis();
+        AtomicInteger evicted = new AtomicInteger();
+
+        UserSessions saved = refreshSessions.compute(userId, (id, current) -> {
+            UserSessions sessions = (current != null) ? current : new UserSessions();
+            synchronized (sessions) {
+                sessions.devices.remove(deviceId);
+                sessions.pruneExpired(now);
+
+                // 새 기기를 포함해 maxDevices 를 넘지 않도록 마지막 발급이 오래된 기기부터 제거
+                List<Map.Entry<String, StoredSession>> live = new ArrayList<>(sessions.devices.entrySet());
+                live.sort(Comparator.comparingLong(entry -> entry.getValue().lastIssuedAt()));
+                int overflow = live.size() - (Math.max(1, maxDevices) - 1);
+                for (int i = 0; i < overflow; i++) {
+                    sessions.devices.remove(live.get(i).getKey());
+                }
+                evicted.set(Math.max(0, overflow));
+
+                sessions.devices.put(deviceId, new StoredSession(tokenHash, expiresAt, now, now));
+            }
+            return sessions;
+        });
+
+        scheduleIfEarlier(userId, saved, expiresAt);
+        return evicted.get();
+    }
+
+    @Override
+    public RotationResult rotateRefreshSession(Long userId, String deviceId, String presentedHash, String newHash, Duration ttl) {
+        long now = clock.getAsLong();
+        long expiresAt = now + ttl.toMillis();
+        AtomicReference<RotationResult> result = new AtomicReference<>(RotationResult.MISSING);
+
+        UserSessions rotated = refreshSessions.computeIfPresent(userId, (id, sessions) -> {
+            synchronized (sessions) {
+                StoredSession stored = sessions.devices.get(deviceId);
+                if (stored == null) {
+                    return sessions;
+                }
+                if (stored.expiresAt() <= now) {
+                    sessions.devices.remove(deviceId);
+                    return sessions.devices.isEmpty() ? null : sessions;
+                }
+                if (!stored.tokenHash().equals(presentedHash)) {
+                    result.set(RotationResult.REUSE_DETECTED);
+                    return sessions;
+                }
+                sessions.devices.put(deviceId, new StoredSession(newHash, expiresAt, now, stored.createdAt()));
+                result.set(RotationResult.ROTATED);
+                return sessions;
+            }
+        });
+
+        if (rotated != null && result.get() == RotationResult.ROTATED) {
+            scheduleIfEarlier(userId, rotated, expiresAt);
+        }
+        return result.get();
+    }
+
+    @Override
+    public List<RefreshSession> findRefreshSessions(Long userId) {
+        UserSessions sessions = refreshSessions.get(userId);
+        if (sessions == null) {
+            return List.of();
+        }
+        long now = clock.getAsLong();
+        List<RefreshSession> result = new ArrayList<>();
+        synchronized (sessions) {
+            sessions.devices.forEach((deviceId, stored) -> {
+                if (stored.expiresAt() > now) {
+                    result.add(new RefreshSession(
+                            deviceId,
+                            Instant.ofEpochMilli(stored.createdAt()),
+                            Instant.ofEpochMilli(stored.lastIssuedAt()),
+                            Instant.ofEpochMilli(stored.expiresAt())
+                    ));
+                }
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public boolean deleteRefreshSession(Long userId, String deviceId) {
+        AtomicBoolean deleted = new AtomicBoolean();
+        refreshSessions.computeIfPresent(userId, (id, sessions) -> {
+            synchronized (sessions) {
+                deleted.set(sessions.devices.remove(deviceId) != null);
+                return sessions.devices.isEmpty() ? null : sessions;
+            }
+        });
+        return deleted.get();
+    }
+
+    @Override
+    public void deleteRefreshSessions(Long userId) {
+        refreshSessions.remove(userId);
+    }
+
+    @Override
+    public void blacklist(String jti, Duration ttl) {
+        long expiresAt = clock.getAsLong() + ttl.toMillis();
+        blacklist.merge(jti, expiresAt, Math::max);
+        blacklistWheel.schedule(jti, expiresAt);
+    }
+
+    @Override
+    public boolean isBlacklisted(String jti) {
+        Long expiresAt = blacklist.get(jti);
+        return expiresAt != null && expiresAt > clock.getAsLong();
+    }
+
+    /*
+        주기적 휠 진행 (기본 1초)
+        - 만료 콜백은 "만료되었을 수 있음" 신호 : 그 사이 갱신된 항목은 남겨둠
+     */
+    @Scheduled(fixedDelayString = "${app.token-store.memory.tick-ms:1000}")
+    public void expire() {
+        long now = clock.getAsLong();
+        blacklistWheel.advance(now, jti -> blacklist.computeIfPresent(jti, (key, expiresAt) -> expiresAt <= now ? null : expiresAt));
+        refreshWheel.advance(now, userId -> expireSessions(userId, now));
+    }
+
+    // 예약된 만료 항목 수 (테스트/점검용)
+    int scheduledCount() {
+        return refreshWheel.size() + blacklistWheel.size();
+    }
+
+    // 만료 기기 정리 후 남은 기기가 있으면 가장 빠른 만료 시각으로 재예약
+    private void expireSessions(Long userId, long now) {
+        UserSessions remaining = refreshSessions.computeIfPresent(userId, (id, sessions) -> {
+            synchronized (sessions) {
+                sessions.pruneExpired(now);
+                sessions.scheduledAt = 0L;
+                return sessions.devices.isEmpty() ? null : sessions;
+            }
+        });
+        if (remaining != null) {
+            long earliest;
+            synchronized (remaining) {
+                earliest = remaining.devices.values().stream()
+                        .mapToLong(StoredSession::expiresAt)
+                        .min()
+                        .orElse(now);
+            }
+            scheduleIfEarlier(userId, remaining, earliest);
+        }
+    }
+
+    // 사용자별 예약은 1건 : 아직 예약이 없거나 더 이른 만료가 생긴 경우에만 휠에 추가
+    private void scheduleIfEarlier(Long userId, UserSessions sessions, long expiresAt) {
+        boolean schedule;
+        synchronized (sessions) {
+            schedule = sessions.scheduledAt == 0L || expiresAt < sessions.scheduledAt;
+            if (schedule) {
+                sessions.scheduledAt = expiresAt;
+            }
+        }
+        if (schedule) {
+            refreshWheel.schedule(userId, expiresAt);
+        }
+    }
+
+    /*
+        사용자 1명의 기기 세션
+        - devices 변경은 refreshSessions.compute 안에서만 (같은 키는 동시에 1개만 실행)
+        - 변경/조회 모두 객체 잠금 안에서 실행 (compute 밖에서 읽는 목록 조회, 재예약 경로 보호)
+     */
+    private static final class UserSessions {
+        private final Map<String, StoredSession> devices = new HashMap<>();
+        private long scheduledAt; // 휠에 예약된 만료 시각 (0 = 예약 없음)
+
+        private void pruneExpired(long now) {
+            devices.values().removeIf(session -> session.expiresAt() <= now);
+        }
+    }
+
+    private record StoredSession(String tokenHash, long expiresAt, long lastIssuedAt, long createdAt) {
+    }
+}
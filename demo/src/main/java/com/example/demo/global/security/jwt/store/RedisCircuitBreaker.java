@@ -0,0 +1,193 @@
+package com.example.demo.global.security.jwt.store;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/*
+    RedisCircuitBreaker
+    - RedisTokenStore 의 Redis 호출을 감싸는 서킷 브레이커 (인증 경로 보호)
+    - 기존 : Redis 가 느려지면 모든 /api/** 요청이 블랙리스트 조회에서 함께 대기 >> API 전체 p99 붕괴
+    - 상태
+        - CLOSED    : 정상, 모든 호출 실행
+        - OPEN      : 연속 실패(app.auth.redis-breaker.failure-threshold)가 쌓이면 전환
+                      >> Redis 를 호출하지 않고 즉시 fallback (대기 0)
+        - HALF_OPEN : OPEN 후 open-duration-ms 가 지나면 시험 호출 1건만 실행
+                      성공 -> CLOSED / 실패 -> 다시 OPEN
+    - 실패 판단
+        1) 예외 (연결 실패, 명령 타임아웃 등)
+        2) 지연 예산(latency-budget-ms) 초과 : 결과는 그대로 사용하되 실패로 집계
+           (진행 중인 호출을 끊는 것은 spring.data.redis.timeout 이 담당)
+    - 지표 (Prometheus)
+        - redis.circuit.state{name}             : 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        - redis.circuit.transitions{name, to}   : 상태 전환 횟수
+        - redis.circuit.failures{name, type}    : 실패 집계 (error / slow)
+        - redis.circuit.fallback{name, op}      : fallback 으로 처리된 호출 수
+*/
+@Slf4j
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final MeterRegistry meterRegistry;
+    private final long latencyBudgetNanos;
+    private final int failureThreshold;
+    private final long openDurationMillis;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    private final Counter errorCounter;
+    private final Counter slowCounter;
+
+    public RedisCircuitBreaker(String name, MeterRegistry meterRegistry,
+                               long latencyBudgetMillis, int failureThreshold, long openDurationMillis) {
+        this.name = name;
+        this.meterRegistry = meterRegistry;
+        this.latencyBudgetNanos = TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationMillis = openDurationMillis;
+
+        Gauge.builder("redis.circuit.state", state, s -> s.get().ordinal())
+                .tag("name", name)
+                .description("Redis 서킷 상태 (0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN)")
+                .register(meterRegistry);
+        this.errorCounter = failureCounter("error");
+        this.slowCounter = failureCounter("slow");
+    }
+
+    /*
+        Redis 호출 실행
+        @param op       지표용 연산 이름 (예: isBlacklisted)
+        @param call     Redis 호출
+        @param fallback 서킷 OPEN 또는 호출 실패 시 실행할 대체 동작
+     */
+    public <T> T execute(String op, Supplier<T> call, Supplier<T> fallback) {
+        if (!tryAcquire()) {
+            fallbackCounter(op).increment();
+            return fallback.get();
+        }
+
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            onFailure();
+            fallbackCounter(op).increment();
+            log.warn("[REDIS-CB] {} failed, fallback applied. name={}, state={}, reason={}",
+                    op, name, state.get(), e.getMessage());
+            return fallback.get();
+        }
+
+        if (System.nanoTime() - start > latencyBudgetNanos) {
+            slowCounter.increment();
+            onFailure();
+        } else {
+            onSuccess();
+        }
+        return result;
+    }
+
+    // 결과 없는 Redis 호출 실행
+    public void run(String op, Runnable call, Runnable fallback) {
+        execute(op, () -> {
+            call.run();
+            return null;
+        }, () -> {
+            fallback.run();
+            return null;
+        });
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /*
+        호출 허용 여부
+        - CLOSED : 허용
+        - OPEN   : open-duration 경과 후 HALF_OPEN 으로 바꾼 1건만 허용 (시험 호출)
+        - HALF_OPEN : 시험 호출 진행 중이므로 거절
+     */
+    private boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN
+                && System.currentTimeMillis() - openedAt >= openDurationMillis
+                && transition(State.OPEN, State.HALF_OPEN)) {
+            return true;
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.CLOSED);
+        }
+    }
+
+    private void onFailure() {
+        if (state.get() == State.HALF_OPEN) {
+            open(State.HALF_OPEN);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(State.CLOSED);
+        }
+    }
+
+    private void open(State from) {
+        openedAt = System.currentTimeMillis();
+        if (transition(from, State.OPEN)) {
+            consecutiveFailures.set(0);
+            log.warn("[REDIS-CB] circuit opened. name={}, retry after {}ms", name, openDurationMillis);
+        }
+    }
+
+    private boolean transition(State from, State to) {
+        if (!state.compareAndSet(from, to)) {
+            return false;
+        }
+        Counter.builder("redis.circuit.transitions")
+                .tag("name", name)
+                .tag("to", to.name())
+                .description("Redis 서킷 상태 전환 횟수")
+                .register(meterRegistry)
+                .increment();
+        if (to == State.CLOSED) {
+            log.info("[REDIS-CB] circuit closed. name={}", name);
+        }
+        return true;
+    }
+
+    private Counter failureCounter(String type) {
+        return Counter.builder("redis.circuit.failures")
+                .tag("name", name)
+                .tag("type", type)
+                .description("Redis 호출 실패 집계 (error = 예외, slow = 지연 예산 초과)")
+                .register(meterRegistry);
+    }
+
+    private Counter fallbackCounter(String op) {
+        return Counter.builder("redis.circuit.fallback")
+                .tag("name", name)
+                .tag("op", op)
+                .description("서킷 OPEN / 호출 실패로 fallback 처리된 Redis 호출 수")
+                .register(meterRegistry);
+    }
+}
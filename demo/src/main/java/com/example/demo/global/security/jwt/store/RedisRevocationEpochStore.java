@@ -0,0 +1,96 @@
+package com.example.demo.global.security.jwt.store;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/*
+    RedisRevocationEpochStore (app.token-store.type=redis, 기본값)
+    - Redis Hash  auth:revoke:epoch  { userId : epochMillis }
+    - 기록 시 Pub/Sub 채널(auth:revoke:events)로 "userId|epochMillis" 발행 -> 다른 노드 즉시 반영
+    - 기록은 Lua 스크립트로 "더 큰 epoch 만 저장"
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRevocationEpochStore implements RevocationEpochStore {
+
+    private static final String EPOCH_HASH_KEY = "auth:revoke:epoch";
+    private static final String EVENT_CHANNEL = "auth:revoke:events";
+    private static final String EVENT_DELIMITER = "|";
+
+    /*
+        epoch 기록 스크립트 (저장된 값보다 클 때만 HSET)
+        - KEYS[1] : auth:revoke:epoch
+        - ARGV[1] : userId, ARGV[2] : epochMillis
+     */
+    private static final RedisScript<Long> WRITE_EPOCH_SCRIPT = new DefaultRedisScript<>(
+            """
+            local stored = tonumber(redis.call('HGET', KEYS[1], ARGV[1]))
+            if stored and stored >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """,
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // Pub/Sub 채널 구독 컨테이너 (RedisConfig)
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Override
+    public void saveEpoch(Long userId, long epochMillis) {
+        redisTemplate.execute(WRITE_EPOCH_SCRIPT, List.of(EPOCH_HASH_KEY),
+                String.valueOf(userId), String.valueOf(epochMillis));
+        redisTemplate.convertAndSend(EVENT_CHANNEL, userId + EVENT_DELIMITER + epochMillis);
+    }
+
+    @Override
+    public Map<Long, Long> findEpochs() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(EPOCH_HASH_KEY);
+        Map<Long, Long> epochs = new HashMap<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            epochs.put(Long.valueOf(entry.getKey().toString()), Long.valueOf(entry.getValue().toString()));
+        }
+        return epochs;
+    }
+
+    @Override
+    public void deleteEpochs(Collection<Long> userIds) {
+        redisTemplate.opsForHash().delete(EPOCH_HASH_KEY, userIds.stream().map(String::valueOf).toArray());
+    }
+
+    // 다른 노드의 무효화 메시지를 listener 로 전달
+    @Override
+    public void subscribe(BiConsumer<Long, Long> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int index = body.indexOf(EVENT_DELIMITER);
+            if (index <= 0) {
+                return;
+            }
+            try {
+                listener.accept(Long.valueOf(body.substring(0, index)), Long.parseLong(body.substring(index + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("[REVOKE] malformed event ignored. body={}", body);
+            }
+        }, new ChannelTopic(EVENT_CHANNEL));
+    }
+}
@@ -0,0 +1,562 @@
+package com.example.demo.global.security.jwt.store;
+
+import com.example.demo.global.exception.TokenStoreUnavailableException;
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RefreshSession;
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RotationResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    RedisTokenStore (app.token-store.type=redis, 기본값)
+    - 다중 노드가 Refresh 기기 세션 / Access 블랙리스트를 공유하는 TokenStore
+
+    [Refresh 기기 세션]
+    - 사용자별 Hash 1개에 기기별 필드
+        - key   : auth:refresh:{userId}
+        - field : deviceId (Refresh 토큰의 did 클레임, 로그인 시 발급)
+        - value : {Refresh SHA-256 해시}|{만료 ms}|{마지막 발급 ms}|{최초 로그인 ms}
+    - 필드별 만료는 value 의 만료 시각으로 판단, 저장/회전 시 만료 필드 정리
+      (key 자체 TTL 은 가장 늦게 만료되는 필드 기준으로 갱신)
+    - 저장/회전은 Lua 스크립트 1회로 Redis 서버에서 원자적으로 실행 (EVALSHA)
+
+    [Access 블랙리스트]
+    - SET auth:bl:access:{jti} "1" EX {남은 Access TTL}
+    - near-cache (노드 메모리 사본)
+        - 블랙리스트 jti 는 드물기 때문에 요청마다 Redis EXISTS 를 보내는 대신 메모리 사본(jti -> 만료 시각)으로 판단
+        - 동기화
+            1) 등록 시 : Redis SET + 메모리 반영 + Pub/Sub 채널(auth:bl:events)로 "노드ID|순번|jti|만료시각" 발행
+            2) 다른 노드 : 채널 메시지를 받아 메모리 반영
+            3) 채널 연결 후 최초 1회(또는 채널 복구 시) SCAN auth:bl:access:* 로 사본 채우기
+        - 만료 : 항목마다 Access 남은 TTL 기준 만료 시각 보관, 주기적으로 정리
+        - 장애 대비(fail-safe)
+            - 모든 노드가 주기적으로(기본 2초) 하트비트를 채널에 발행
+            - 하트비트를 일정 시간(주기 x 3) 받지 못하면 채널 끊김으로 보고 Redis EXISTS 조회로 복귀
+            - 채널이 복구되면 SCAN 으로 다시 채운 뒤 메모리 판단 재개 (끊긴 동안 놓친 메시지 보완)
+            - 발행 노드별 순번(하트비트 포함 모든 메시지에 1씩 증가)으로 유실 감지
+                - 순번이 비고 다음 주기까지 채워지지 않으면 동기화 깨짐으로 보고 Redis 조회로 복귀 후 SCAN 재시드
+                  >> 하트비트 3회 안에 재연결되어 채널이 살아 보이는 경우에도 그 사이 놓친 이벤트를 놓치지 않음
+                - 발행 실패 시에도 순번은 소모 -> 다른 노드는 다음 메시지에서 빈 순번을 보고 재시드
+                  발행한 노드 자신도 동기화 깨짐으로 표시 (연결 문제면 구독도 끊겼을 수 있음)
+                - 메시지는 구독 컨테이너에서 병렬로 처리될 수 있어 순서가 뒤바뀐 도착은 유실로 보지 않음
+        - app.auth.blacklist.near-cache-enabled=false 면 매 요청 EXISTS
+
+    [Redis 장애 대응 (RedisCircuitBreaker)]
+    - 모든 Redis 호출은 지연 예산(app.auth.redis-breaker.latency-budget-ms)이 있는 서킷 브레이커를 거침
+    - 서킷 OPEN / 호출 실패 시 degrade 정책
+        - Refresh 세션 저장/회전/조회/삭제 : fail-closed (TokenStoreUnavailableException -> 503)
+        - 블랙리스트 조회 : app.auth.redis-breaker.blacklist-fallback
+            - local (기본) : 노드 메모리 사본으로 판단 (이 노드의 등록 + 장애 전까지 받은 이벤트)
+            - allow        : 차단하지 않음 (가용성 우선)
+            - deny         : 모든 Access 차단 (보안 우선)
+        - 블랙리스트 등록 : 노드 메모리 사본에만 반영 후 계속 진행 (로그아웃은 막지 않음)
+*/
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.token-store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisTokenStore implements TokenStore {
+
+    /*
+        Refresh Token Redis Key Prefix
+        - 예: auth:refresh:1, auth:refresh:42
+     */
+    private static final String REFRESH_KEY_PREFIX = "auth:refresh:";
+
+    /*
+        블랙리스트 키 Prefix
+        - 실제 키 예: auth:bl:access:550e8400-e29b-41d4-a716-446655440000
+     */
+    private static final String ACCESS_BLACKLIST_PREFIX = "auth:bl:access:";
+
+    // 노드 간 블랙리스트 동기화 채널 + 메시지 형식
+    private static final String EVENT_CHANNEL = "auth:bl:events";
+    private static final String HEARTBEAT_MESSAGE = "hb";
+    private static final String EVENT_DELIMITER = "|";
+
+    /*
+        기기 세션 저장 스크립트 (로그인)
+        - KEYS[1] : auth:refresh:{userId}
+        - ARGV[1] : deviceId, ARGV[2] : Refresh 해시, ARGV[3] : 현재 ms, ARGV[4] : 만료 ms
+          ARGV[5] : 최대 기기 수, ARGV[6] : key TTL(ms)
+        1) 만료된 필드 정리 (기기 세션 도입 이전의 문자열 키는 삭제 후 Hash 로 재생성)
+        2) 저장 후 최대 기기 수를 넘으면 마지막 발급 시각이 가장 오래된 기기부터 제거
+        3) 필드 저장 + key TTL 갱신
+        - 반환 : 제거된 기기 수
+     */
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            """
+            local now = tonumber(ARGV[3])
+            if redis.call('TYPE', KEYS[1]).ok == 'string' then
+                redis.call('DEL', KEYS[1])
+            end
+            local entries = redis.call('HGETALL', KEYS[1])
+            local live = {}
+            for i = 1, #entries, 2 do
+                local field = entries[i]
+                if field ~= ARGV[1] then
+                    local _, exp, issued = string.match(entries[i + 1], '^([^|]*)|(%d+)|(%d+)|(%d+)$')
+                    if (not exp) or tonumber(exp) <= now then
+                        redis.call('HDEL', KEYS[1], field)
+                    else
+                        table.insert(live, { field, tonumber(issued) })
+                    end
+                end
+            end
+            table.sort(live, function(a, b) return a[2] < b[2] end)
+            local evicted = #live - (tonumber(ARGV[5]) - 1)
+            for i = 1, evicted do
+                redis.call('HDEL', KEYS[1], live[i][1])
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[4] .. '|' .. ARGV[3] .. '|' .. ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            if evicted < 0 then
+                return 0
+            end
+            return evicted
+            """,
+            Long.class
+    );
+
+    /*
+        Refresh 회전 CAS 스크립트 (Redis 서버에서 원자적으로 실행)
+        - KEYS[1] : auth:refresh:{userId}
+        - ARGV[1] : deviceId, ARGV[2] : 클라이언트가 보낸 Refresh 해시, ARGV[3] : 새 Refresh 해시
+          ARGV[4] : 현재 ms, ARGV[5] : 새 만료 ms, ARGV[6] : key TTL(ms)
+        - 반환 : 0 = 저장된 값 없음(또는 만료), 1 = 불일치(재사용), 2 = 회전 성공
+        - 최초 로그인 시각은 유지
+        - EVALSHA 로 실행 (스크립트 캐시에 없으면 Spring 이 EVAL 로 자동 재시도)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            """
+            local stored = redis.call('HGET', KEYS[1], ARGV[1])
+            if not stored then
+                return 0
+            end
+            local hash, exp, _, created = string.match(stored, '^([^|]*)|(%d+)|(%d+)|(%d+)$')
+            if (not exp) or tonumber(exp) <= tonumber(ARGV[4]) then
+                redis.call('HDEL', KEYS[1], ARGV[1])
+                return 0
+            end
+            if hash ~= ARGV[2] then
+                return 1
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[5] .. '|' .. ARGV[4] .. '|' .. created)
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            return 2
+            """,
+            Long.class
+    );
+
+    // 서킷 OPEN 시 블랙리스트 조회 정책
+    public enum BlacklistFallback {
+        LOCAL, ALLOW, DENY
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // Pub/Sub 채널 구독 컨테이너 (RedisConfig)
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // Redis 호출 서킷 브레이커 + 블랙리스트 degrade 정책
+    private final RedisCircuitBreaker circuitBreaker;
+    private final BlacklistFallback blacklistFallback;
+
+    // jti -> 만료 시각(epoch ms)
+    private final Map<String, Long> nearCache = new ConcurrentHashMap<>();
+
+    // 이 노드의 발행자 ID + 발행 순번
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong publishSequence = new AtomicLong();
+
+    // 발행 노드 ID -> 수신 순번 상태
+    private final Map<String, PublisherSequence> publishers = new ConcurrentHashMap<>();
+
+    // 동기화 상태 변경 잠금 + 동기화 깨짐 횟수 (재시드 중 다시 깨졌는지 확인용)
+    private final Object syncLock = new Object();
+    private long desyncCount;
+
+    private volatile long lastMessageAt; // 채널 메시지(하트비트 포함) 마지막 수신 시각
+    private volatile boolean synced; // true : 메모리 사본만으로 판단 가능
+
+    @Value("${app.auth.blacklist.near-cache-enabled:true}")
+    private boolean nearCacheEnabled;
+
+    @Value("${app.auth.blacklist.heartbeat-interval-ms:2000}")
+    private long heartbeatIntervalMs;
+
+    public RedisTokenStore(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${app.auth.redis-breaker.latency-budget-ms:50}") long latencyBudgetMillis,
+            @Value("${app.auth.redis-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${app.auth.redis-breaker.open-duration-ms:5000}") long openDurationMillis,
+            @Value("${app.auth.redis-breaker.blacklist-fallback:local}") BlacklistFallback blacklistFallback
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.circuitBreaker = new RedisCircuitBreaker(
+                "token-store", meterRegistry, latencyBudgetMillis, failureThreshold, openDurationMillis);
+        this.blacklistFallback = blacklistFallback;
+    }
+
+
+    // ===================== Refresh 기기 세션 =====================
+
+    @Override
+    public int saveRefreshSession(Long userId, String deviceId, String tokenHash, Duration ttl, int maxDevices) {
+        long now = System.currentTimeMillis();
+
+        Long evicted = circuitBreaker.execute("saveRefreshSession", () -> redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(refreshKey(userId)),
+                deviceId,
+                tokenHash,
+                String.valueOf(now),
+                String.valueOf(now + ttl.toMillis()),
+                String.valueOf(Math.max(1, maxDevices)),
+                String.valueOf(ttl.toMillis())
+        ), RedisTokenStore::failClosed);
+        return (evicted != null) ? evicted.intValue() : 0;
+    }
+
+    @Override
+    public RotationResult rotateRefreshSession(Long userId, String deviceId, String presentedHash, String newHash, Duration ttl) {
+        long now = System.currentTimeMillis();
+
+        Long code = circuitBreaker.execute("rotateRefreshSession", () -> redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(refreshKey(userId)),
+                deviceId,
+                presentedHash,
+                newHash,
+                String.valueOf(now),
+                String.valueOf(now + ttl.toMillis()),
+                String.valueOf(ttl.toMillis())
+        ), RedisTokenStore::failClosed);
+
+        if (code == null || code == 0L) {
+            return RotationResult.MISSING;
+        }
+        return (code == 2L) ? RotationResult.ROTATED : RotationResult.REUSE_DETECTED;
+    }
+
+    @Override
+    public List<RefreshSession> findRefreshSessions(Long userId) {
+        String key = refreshKey(userId);
+        Map<Object, Object> entries = circuitBreaker.execute("findRefreshSessions", () -> {
+            if (redisTemplate.type(key) != DataType.HASH) {
+                return Map.of(); // 세션 없음 또는 기기 세션 도입 이전 문자열 키
+            }
+            return redisTemplate.opsForHash().entries(key);
+        }, RedisTokenStore::failClosed);
+        long now = System.currentTimeMillis();
+
+        List<RefreshSession> sessions = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String[] parts = entry.getValue().toString().split("\\|");
+            if (parts.length != 4 || Long.parseLong(parts[1]) <= now) {
+                continue;
+            }
+            sessions.add(new RefreshSession(
+                    entry.getKey().toString(),
+                    Instant.ofEpochMilli(Long.parseLong(parts[3])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                    Instant.ofEpochMilli(Long.parseLong(parts[1]))
+            ));
+        }
+        return sessions;
+    }
+
+    @Override
+    public boolean deleteRefreshSession(Long userId, String deviceId) {
+        Long deleted = circuitBreaker.execute("deleteRefreshSession",
+                () -> redisTemplate.opsForHash().delete(refreshKey(userId), deviceId),
+                RedisTokenStore::failClosed);
+        return deleted != null && deleted > 0;
+    }
+
+    @Override
+    public void deleteRefreshSessions(Long userId) {
+        circuitBreaker.execute("deleteRefreshSessions",
+                () -> redisTemplate.delete(refreshKey(userId)),
+                RedisTokenStore::failClosed);
+    }
+
+
+    // ===================== Access 블랙리스트 =====================
+
+    @Override
+    public void blacklist(String jti, Duration ttl) {
+        // 현재 노드 사본 즉시 반영 (Redis 장애 시에도 이 노드에서는 차단)
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        nearCache.put(jti, expiresAt);
+
+        circuitBreaker.run("blacklist", () -> {
+            redisTemplate.opsForValue().set(
+                    blacklistKey(jti),
+                    "1",   // 값은 의미 없고 "존재 여부"만 중요하므로 고정값 사용
+                    ttl
+            );
+            // 다른 노드에 전파
+            if (nearCacheEnabled) {
+                publish(jti + EVENT_DELIMITER + expiresAt);
+            }
+        }, () -> log.warn("[BLACKLIST] Redis unavailable, jti kept in local near-cache only."));
+    }
+
+    /*
+        - 채널 동기화 정상 : 메모리 사본만 조회 (Redis 왕복 X)
+        - 동기화 비정상/비활성 : Redis EXISTS 조회 (서킷 OPEN 이면 blacklist-fallback 정책)
+     */
+    @Override
+    public boolean isBlacklisted(String jti) {
+        if (nearCacheEnabled && synced) {
+            return isLocallyBlacklisted(jti);
+        }
+
+        // hasKey가 null을 반환할 수 있는 상황을 대비해 안전하게 처리
+        return circuitBreaker.execute("isBlacklisted",
+                () -> Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(jti))),
+                () -> switch (blacklistFallback) {
+                    case LOCAL -> isLocallyBlacklisted(jti);
+                    case ALLOW -> false;
+                    case DENY -> true;
+                });
+    }
+
+    private boolean isLocallyBlacklisted(String jti) {
+        Long expiresAt = nearCache.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    // 기동 완료 시 채널 구독 시작 (첫 하트비트 수신 후 SCAN 으로 채우고 메모리 판단 시작)
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (!nearCacheEnabled) {
+            return;
+        }
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(EVENT_CHANNEL));
+        publish(HEARTBEAT_MESSAGE);
+    }
+
+    /*
+        주기 작업 (기본 2초)
+        1) 채널 상태 판단 : 최근 하트비트 수신 여부 + 발행 노드별 빈 순번
+        2) 끊김/유실 -> Redis 조회로 복귀 / 복구 -> SCAN 으로 다시 채운 뒤 메모리 판단
+        3) 하트비트 발행 + 만료 항목 정리
+     */
+    @Scheduled(fixedDelayString = "${app.auth.blacklist.heartbeat-interval-ms:2000}")
+    public void heartbeat() {
+        if (!nearCacheEnabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        boolean channelAlive = now - lastMessageAt <= heartbeatIntervalMs * 3;
+
+        checkSequenceGaps(now);
+
+        if (!channelAlive && synced) {
+            markDesynced("sync channel silent");
+        } else if (channelAlive && !synced) {
+            reseed();
+        }
+
+        publish(HEARTBEAT_MESSAGE);
+        nearCache.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    /*
+        채널 메시지 수신 : "노드ID|순번|본문"
+        - 순번 기록 후 본문이 하트비트면 수신 시각만 갱신, 아니면 "jti|만료시각" 반영
+     */
+    private void onMessage(Message message, byte[] pattern) {
+        long now = System.currentTimeMillis();
+        lastMessageAt = now;
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3) {
+            return;
+        }
+        String body = parts[2];
+        try {
+            long sequence = Long.parseLong(parts[1]);
+            // 동기화 중 처음 보는 노드는 1번부터 받았어야 함 (아니면 빈 순번), 재시드 전이면 SCAN 이 채우므로 첫 순번 기준
+            long start = synced ? 0L : sequence - 1;
+            publishers.computeIfAbsent(parts[0], id -> new PublisherSequence(start)).receive(sequence, now);
+            if (HEARTBEAT_MESSAGE.equals(body)) {
+                return;
+            }
+            int index = body.lastIndexOf(EVENT_DELIMITER);
+            if (index <= 0) {
+                return;
+            }
+            nearCache.put(body.substring(0, index), Long.parseLong(body.substring(index + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[BLACKLIST] malformed event ignored. body={}", body);
+        }
+    }
+
+    /*
+        발행 노드별 빈 순번 확인
+        - 한 주기(heartbeat-interval-ms) 넘게 채워지지 않은 순번 -> 메시지 유실로 판단
+        - 오래 조용한 발행 노드(종료된 노드)는 정리 (다시 나타나면 처음 보는 노드로 처리)
+     */
+    private void checkSequenceGaps(long now) {
+        boolean lost = false;
+        for (Map.Entry<String, PublisherSequence> entry : publishers.entrySet()) {
+            PublisherSequence sequence = entry.getValue();
+            if (sequence.skipGapOlderThan(now - heartbeatIntervalMs)) {
+                lost = true;
+            }
+            if (now - sequence.lastSeenAt() > heartbeatIntervalMs * 10) {
+                publishers.remove(entry.getKey(), sequence);
+            }
+        }
+        if (lost) {
+            markDesynced("sync event lost");
+        }
+    }
+
+    // 메모리 판단 중단 (다음 주기에 SCAN 재시드 후 재개)
+    private void markDesynced(String reason) {
+        synchronized (syncLock) {
+            desyncCount++;
+            if (synced) {
+                synced = false;
+                log.warn("[BLACKLIST] {}, fall back to Redis EXISTS until reseeded.", reason);
+            }
+        }
+    }
+
+    // SCAN 재시드 : 재시드 도중 다시 동기화가 깨졌으면 메모리 판단을 재개하지 않음
+    private void reseed() {
+        long before;
+        synchronized (syncLock) {
+            before = desyncCount;
+        }
+        boolean seeded = seedFromRedis();
+        synchronized (syncLock) {
+            if (seeded && before == desyncCount) {
+                synced = true;
+            }
+        }
+    }
+
+    // SCAN 으로 현재 블랙리스트 전체를 메모리에 반영, 실패하면 false (Redis 조회 유지)
+    private boolean seedFromRedis() {
+        ScanOptions options = ScanOptions.scanOptions().match(ACCESS_BLACKLIST_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            int loaded = 0;
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttlMillis != null && ttlMillis > 0) {
+                    nearCache.put(key.substring(ACCESS_BLACKLIST_PREFIX.length()),
+                            System.currentTimeMillis() + ttlMillis);
+                    loaded++;
+                }
+            }
+            log.info("[BLACKLIST] near-cache synced. entries={}", loaded);
+            return true;
+        } catch (Exception e) {
+            log.warn("[BLACKLIST] near-cache seed failed. reason={}", e.getMessage());
+            return false;
+        }
+    }
+
+    // 순번은 발행 성공 여부와 무관하게 소모 (실패한 메시지는 다른 노드에 빈 순번으로 드러남)
+    private void publish(String message) {
+        long sequence = publishSequence.incrementAndGet();
+        try {
+            redisTemplate.convertAndSend(EVENT_CHANNEL,
+                    nodeId + EVENT_DELIMITER + sequence + EVENT_DELIMITER + message);
+        } catch (Exception e) {
+            log.warn("[BLACKLIST] publish failed. reason={}", e.getMessage());
+            markDesynced("publish failed");
+        }
+    }
+
+    // Refresh 세션 연산 fallback : 불확실한 상태로 진행하지 않고 거절
+    private static <T> T failClosed() {
+        throw new TokenStoreUnavailableException("일시적으로 로그인 세션을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 키 규칙을 한 곳에서 관리하기 위한 메서드
+    private String refreshKey(Long userId) {
+        return REFRESH_KEY_PREFIX + userId;
+    }
+
+    private String blacklistKey(String jti) {
+        return ACCESS_BLACKLIST_PREFIX + jti;
+    }
+
+    /*
+        발행 노드 1개의 수신 순번
+        - contiguous : 빠짐없이 받은 마지막 순번
+        - ahead      : contiguous 보다 앞서 도착한 순번 (병렬 처리로 순서가 바뀌었거나 중간 유실)
+        - gapSince   : ahead 가 생긴 시각 (0 = 빈 순번 없음)
+     */
+    private static final class PublisherSequence {
+        private long contiguous;
+        private final TreeSet<Long> ahead = new TreeSet<>();
+        private long gapSince;
+        private volatile long lastSeenAt;
+
+        private PublisherSequence(long contiguous) {
+            this.contiguous = contiguous;
+        }
+
+        private synchronized void receive(long sequence, long now) {
+            lastSeenAt = now;
+            if (sequence <= contiguous) {
+                return;
+            }
+            ahead.add(sequence);
+            while (!ahead.isEmpty() && ahead.first() == contiguous + 1) {
+                contiguous = ahead.pollFirst();
+            }
+            gapSince = ahead.isEmpty() ? 0L : (gapSince == 0L ? now : gapSince);
+        }
+
+        // 기준 시각 이전부터 빈 순번이 남아 있으면 유실로 보고 건너뜀
+        private synchronized boolean skipGapOlderThan(long threshold) {
+            if (gapSince == 0L || gapSince > threshold) {
+                return false;
+            }
+            contiguous = ahead.last();
+            ahead.clear();
+            gapSince = 0L;
+            return true;
+        }
+
+        private long lastSeenAt() {
+            return lastSeenAt;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.global.security.jwt.store;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/*
+    RevocationEpochStore
+    - 사용자별 토큰 무효화 기준 시각(epoch)의 저장소 추상화
+    - TokenRevocationService 는 메모리 사본 판단/재시도/만료 정리만 담당하고 저장/전파는 이 인터페이스에 위임
+    - 구현체 선택 : app.token-store.type (TokenStore 와 같은 속성)
+        - redis  (기본) : RedisRevocationEpochStore    >> Redis Hash + Pub/Sub 으로 노드 간 공유
+        - memory        : InMemoryRevocationEpochStore >> 단일 노드 (Redis 연결/구독 없음, 재시작 시 소멸)
+*/
+public interface RevocationEpochStore {
+
+    /*
+        epoch 기록 + 다른 노드에 전파
+        - 저장된 값보다 클 때만 반영 (늦게 재시도된 이전 epoch 가 최신 epoch 를 덮지 않도록)
+        - 기록 실패 시 예외 (호출 측이 재시도)
+     */
+    void saveEpoch(Long userId, long epochMillis);
+
+    // 저장된 전체 epoch (userId -> epochMillis)
+    Map<Long, Long> findEpochs();
+
+    // epoch 삭제 (만료 정리)
+    void deleteEpochs(Collection<Long> userIds);
+
+    // 다른 노드가 기록한 epoch 수신 등록 (공유하지 않는 저장소는 수신할 것이 없음)
+    void subscribe(BiConsumer<Long, Long> listener);
+}
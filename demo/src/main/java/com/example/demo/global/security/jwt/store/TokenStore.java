@@ -0,0 +1,47 @@
+package com.example.demo.global.security.jwt.store;
+
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RefreshSession;
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RotationResult;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+    TokenStore
+    - Refresh 기기 세션 / Access 블랙리스트의 저장소 추상화
+    - RefreshTokenService, TokenBlacklistService 는 정책(해시, 기기 수 제한, 입력 검증)만 담당하고 저장은 이 인터페이스에 위임
+    - 구현체 선택 : app.token-store.type
+        - redis  (기본) : RedisTokenStore    >> 다중 노드 공유 (Lua 스크립트 + 블랙리스트 near-cache)
+        - memory        : InMemoryTokenStore >> 단일 노드 / Redis 없는 테스트 (네트워크 왕복 X, 재시작 시 세션 소멸)
+    - 모든 구현체는 아래 원자성을 보장해야 함
+        - saveRefreshSession / rotateRefreshSession 은 같은 사용자에 대해 한 번에 하나씩 적용
+          (같은 Refresh 로 동시에 회전해도 1건만 ROTATED)
+*/
+public interface TokenStore {
+
+    /*
+        기기 세션 저장 (로그인)
+        - 같은 기기 필드는 덮어씀, 만료 세션 정리 후 maxDevices 초과분은 마지막 발급이 오래된 기기부터 제거
+        @param tokenHash Refresh 원문 대신 저장할 SHA-256 해시
+        @return 제거된 기기 수
+     */
+    int saveRefreshSession(Long userId, String deviceId, String tokenHash, Duration ttl, int maxDevices);
+
+    // 기기 세션 회전 (저장된 해시 비교 + 교체를 원자적으로)
+    RotationResult rotateRefreshSession(Long userId, String deviceId, String presentedHash, String newHash, Duration ttl);
+
+    // 만료되지 않은 기기 세션 목록 (정렬 X)
+    List<RefreshSession> findRefreshSessions(Long userId);
+
+    // 기기 세션 1개 삭제, 삭제된 세션이 있으면 true
+    boolean deleteRefreshSession(Long userId, String deviceId);
+
+    // 사용자의 모든 기기 세션 삭제
+    void deleteRefreshSessions(Long userId);
+
+    // Access jti 블랙리스트 등록 (ttl = Access 남은 수명)
+    void blacklist(String jti, Duration ttl);
+
+    // Access jti 블랙리스트 여부
+    boolean isBlacklisted(String jti);
+}
@@ -0,0 +1,103 @@
+package com.example.demo.global.security.jwt.token;
+
+import com.example.demo.domain.user.role.UserRole;
+import io.jsonwebtoken.Claims;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/*
+    VerifiedToken
+    - 서명/만료 검증을 "이미 통과한" JWT 의 클레임 묶음 (JwtService.verify 결과)
+    - 한 번 검증한 결과에서 username / userId / role / jti / 만료 시각을 모두 꺼내 쓰기 위한 값 객체
+        >> 기존 방식 : validateToken / getJti / getUsername 마다 parseClaims (요청당 서명 검증 3회)
+        >> 변경 방식 : verify 1회 -> VerifiedToken 에서 값만 읽음 (서명 검증 1회)
+    - 생성은 JwtService 에서만 (서명/만료 검증을 통과한 Claims 로만 생성)
+*/
+public final class VerifiedToken {
+
+    // 토큰 클레임 키 이름 (JwtService 와 동일)
+    public static final String CLAIM_USER_ID = "id";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_JTI = "jti";
+    public static final String CLAIM_ISSUED_AT_MS = "iatMs"; // 밀리초 발급 시각 (iat 는 초 단위)
+    public static final String CLAIM_DEVICE_ID = "did"; // Refresh 기기 세션 식별자
+
+    private final Claims claims;
+
+    private VerifiedToken(Claims claims) {
+        this.claims = claims;
+    }
+
+    // JwtService 가 검증을 마친 Claims 로만 호출
+    public static VerifiedToken of(Claims claims) {
+        return new VerifiedToken(claims);
+    }
+
+    // subject(username), Refresh 토큰은 subject 없음(null)
+    public String getUsername() {
+        return claims.getSubject();
+    }
+
+    // claim "id" (User PK)
+    public Long getUserId() {
+        Object raw = claims.get(CLAIM_USER_ID);
+        if (raw == null) {
+            return null;
+        }
+        if (raw instanceof Number number) {
+            return number.longValue();
+        }
+        throw new IllegalArgumentException("JWT claim 'id' is not a number.");
+    }
+
+    // claim "role" ("USER"/"ADMIN" -> UserRole)
+    public UserRole getRole() {
+        String roleName = claims.get(CLAIM_ROLE, String.class);
+        if (roleName == null || roleName.isBlank()) {
+            return null;
+        }
+        return UserRole.valueOf(roleName);
+    }
+
+    // claim "jti" (Access 블랙리스트 식별자, 없으면 null)
+    public String getJti() {
+        return claims.get(CLAIM_JTI, String.class);
+    }
+
+    // claim "did" (Refresh 기기 세션 식별자, Access/기존 Refresh 는 null)
+    public String getDeviceId() {
+        return claims.get(CLAIM_DEVICE_ID, String.class);
+    }
+
+    // 발급 시각 (iatMs 클레임 우선, 없으면 초 단위 iat)
+    public Instant getIssuedAt() {
+        Object issuedAtMillis = claims.get(CLAIM_ISSUED_AT_MS);
+        if (issuedAtMillis instanceof Number number) {
+            return Instant.ofEpochMilli(number.longValue());
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return (issuedAt != null) ? issuedAt.toInstant() : null;
+    }
+
+    // 만료 시각(exp)
+    public Instant getExpiresAt() {
+        Date expiration = claims.getExpiration();
+        return (expiration != null) ? expiration.toInstant() : null;
+    }
+
+    // 남은 만료 시간 (이미 지났으면 0)
+    public Duration getRemainingTtl() {
+        Instant expiresAt = getExpiresAt();
+        if (expiresAt == null) {
+            return Duration.ZERO;
+        }
+        long remainingMillis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        return (remainingMillis > 0) ? Duration.ofMillis(remainingMillis) : Duration.ZERO;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.global.sequence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.LongSupplier;
+
+/*
+    SequenceBlockReserver
+    - SequenceCounter 에서 번호 구간(block)을 예약하는 서비스
+    - REQUIRES_NEW : 호출한 쪽(게시글 생성 등) 트랜잭션과 분리하여 즉시 커밋
+        >> 카운터 행 락을 짧게 잡고 바로 해제 (게시글 INSERT 가 끝날 때까지 다른 노드를 막지 않음)
+        >> 호출한 쪽이 롤백되어도 예약된 구간은 돌아오지 않음 (번호에 빈 구간 발생 가능, 중복은 없음)
+*/
+@Service
+@RequiredArgsConstructor
+public class SequenceBlockReserver {
+
+    private final SequenceCounterRepository sequenceCounterRepository;
+
+    /*
+        1) 카운터 행을 FOR UPDATE 로 조회
+        2) 없으면 initialValue(기존 데이터 기준 시작 번호)로 행을 새로 만들고 첫 구간 예약
+        3) 있으면 nextValue 부터 size 만큼 예약 (커밋 시 UPDATE)
+        - 반환값 : 예약된 구간의 시작 번호
+        - 최초 생성이 여러 노드에서 동시에 일어나면 PK 충돌(DataIntegrityViolationException)
+          >> 호출한 쪽에서 1회 재시도하면 이미 만들어진 행을 잠그고 예약
+    */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserve(String name, int size, LongSupplier initialValue) {
+        SequenceCounter counter = sequenceCounterRepository.findForUpdate(name)
+                .orElse(null);
+
+        if (counter == null) {
+            counter = new SequenceCounter(name, initialValue.getAsLong());
+            long start = counter.reserve(size);
+            sequenceCounterRepository.saveAndFlush(counter);
+            return start;
+        }
+        return counter.reserve(size);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.global.sequence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+    SequenceCounter 엔티티
+    - 이름(name) 별로 "다음에 발급할 번호"를 보관하는 카운터 테이블
+    - 여러 애플리케이션 노드가 같은 행을 잠그고(SELECT ... FOR UPDATE) 번호 구간(block)을 예약
+    - 예: name = "post.display-number", nextValue = 1201
+        >> 1201 부터는 아직 어느 노드에도 예약되지 않은 번호
+*/
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sequence_counters")
+public class SequenceCounter {
+
+    @Id
+    @Column(length = 100)
+    private String name; // 카운터 이름 (PK)
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue; // 다음 예약 시작 번호
+
+    public SequenceCounter(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    /*
+        size 만큼 번호 구간 예약
+        - 반환값 : 예약된 구간의 시작 번호 (구간 = [start, start + size) )
+        - 행 잠금 상태에서만 호출 (변경 감지로 커밋 시 UPDATE)
+    */
+    public long reserve(int size) {
+        long start = this.nextValue;
+        this.nextValue = start + size;
+        return start;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.global.sequence;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/*
+    SequenceCounterRepository
+    - SequenceCounter 행을 비관적 락(PESSIMISTIC_WRITE, SELECT ... FOR UPDATE)으로 조회
+    - 같은 카운터를 동시에 예약하려는 다른 트랜잭션(다른 노드 포함)은 커밋까지 대기
+*/
+public interface SequenceCounterRepository extends JpaRepository<SequenceCounter, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from SequenceCounter c where c.name = :name")
+    Optional<SequenceCounter> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,29 @@
+package com.example.demo.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+    AfterCommit
+    - 현재 트랜잭션이 "커밋된 뒤"에 실행할 작업을 등록하는 유틸
+    - 롤백되면 실행되지 않음 -> DB에 반영되지 않은 변경이 메모리 상태(캐시/카운터)에 섞이지 않도록 함
+    - 트랜잭션 밖에서 호출되면 즉시 실행
+*/
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+}
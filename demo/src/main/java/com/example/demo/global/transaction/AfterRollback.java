@@ -0,0 +1,30 @@
+package com.example.demo.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+    AfterRollback
+    - 현재 트랜잭션이 "롤백된 뒤"에 실행할 보상 작업을 등록하는 유틸
+    - 트랜잭션 밖에서 미리 확정한 변경(REQUIRES_NEW 등)을 호출한 쪽이 롤백될 때 되돌리는 용도
+    - 커밋되거나 트랜잭션 밖에서 호출되면 실행하지 않음
+*/
+public final class AfterRollback {
+
+    private AfterRollback() {
+    }
+
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
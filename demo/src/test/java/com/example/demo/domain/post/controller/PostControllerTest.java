@@ -2,6 +2,7 @@ package com.example.demo.domain.post.controller;
 
 import com.example.demo.domain.post.entity.Post;
 import com.example.demo.domain.post.repository.PostRepository; // 게시글 DB 검증용
+import com.example.demo.domain.post.search.PostSearchIndex;
 import com.example.demo.domain.user.entity.User;              // 작성자 엔티티
 import com.example.demo.domain.user.repository.UserRepository;
 import com.example.demo.global.security.jwt.properties.JwtProperties;
@@ -76,6 +77,10 @@ public class PostControllerTest extends BaseIntegrationTest {
           실제 DB에 반영되었는지 2차 검증을 하기 위한 용도
      */
 
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+    // 검색 테스트에서 커밋 후 색인 반영을 대신 수행 (테스트 트랜잭션은 롤백되어 커밋 후 훅이 실행되지 않음)
+
     // ⭐ 게시글 생성 성공 테스트 (POST /api/posts)
     @Test
     @DisplayName("게시글 생성 성공 : POST /api/posts 호출 시 200과 PostResponseDto 반환 ")
@@ -254,6 +259,68 @@ public class PostControllerTest extends BaseIntegrationTest {
     }
 
 
+    // ⭐ 커서 기반 게시글 목록 조회 성공 테스트 (GET /api/posts/cursor)
+    @Test
+    @DisplayName("커서 조회 성공 : GET /api/posts/cursor 호출 시 id 내림차순 목록과 nextCursor 반환, nextCursor로 다음 목록 이어서 조회")
+    void getPostsByCursor_success() throws Exception{
+        // [GIVEN-1] 게시글 작성자 생성
+        User author = userRepository.save(
+                User.builder()
+                        .username("cursorauthor1")
+                        .password(passwordEncoder.encode("Password123!"))
+                        .nickname("커서작성자")
+                        .email("cursor@example.com")
+                        .build()
+        );
+
+        // [GIVEN-2] 게시글 3개 저장 (id 오름차순으로 저장됨)
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(
+                    Post.builder()
+                            .title("커서제목" + i)
+                            .content("커서내용" + i)
+                            .author(author)
+                            .displayNumber((long) i)
+                            .build()
+            );
+        }
+
+        // [WHEN-1] 첫 페이지 (size=2)
+        var firstResult = mockMvc.perform(
+                get(BASE_URL + "/cursor")
+                        .param("size", "2")
+                        .accept(MediaType.APPLICATION_JSON)
+        ).andDo(print());
+
+        // [THEN-1] 최신 2개 + 다음 페이지 존재
+        firstResult
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.posts.length()").value(2))
+                .andExpect(jsonPath("$.data.posts[0].title").value("커서제목3"))
+                .andExpect(jsonPath("$.data.posts[1].title").value("커서제목2"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isNotEmpty());
+
+        String nextCursor = objectMapper.readTree(
+                firstResult.andReturn().getResponse().getContentAsString()
+        ).path("data").path("nextCursor").asText();
+
+        // [WHEN-2] nextCursor 로 다음 페이지 조회
+        // [THEN-2] 남은 1개 + 마지막 페이지
+        mockMvc.perform(
+                        get(BASE_URL + "/cursor")
+                                .param("after", nextCursor)
+                                .param("size", "2")
+                                .accept(MediaType.APPLICATION_JSON)
+                ).andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.posts.length()").value(1))
+                .andExpect(jsonPath("$.data.posts[0].title").value("커서제목1"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+
     // ⭐ 작성자별 게시글 목록 조회 성공 테스트 (GET /api/posts/author/{authorId})
     @Test
     @DisplayName("작성자별 조회 성공 : GET /api/posts/author/{authorId} 호출 시 해당 작성자의 게시글만 페이징해서 반환")
@@ -374,6 +441,14 @@ public class PostControllerTest extends BaseIntegrationTest {
                         .build()
         );
 
+        /* [GIVEN-4] 검색 인덱스 반영
+            - 인덱스는 트랜잭션 커밋 후에 반영되지만 테스트 트랜잭션은 커밋되지 않고 롤백됨
+            - 커밋 후 훅이 하는 일을 직접 수행
+        */
+        for (Post post : new Post[]{testPost1, testPost2, testPost3}) {
+            postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+        }
+
         String keyword = "테스트"; // 검색어
 
         // [WHEN] GET /api/posts/search?keyword=테스트&page=0&size=10 요청
@@ -784,6 +859,76 @@ public class PostControllerTest extends BaseIntegrationTest {
 
 
 
+    // ⭐ 게시글 좋아요 멱등 추가/취소 테스트 (PUT / DELETE /api/posts/{postId}/likes)
+    @Test
+    @DisplayName("게시글 좋아요 PUT 2회 호출해도 likeCount=1 유지, DELETE 호출 시 liked=false, likeCount=0 반환")
+    void likeAndUnlikePost_idempotent_success() throws Exception{
+        // [GIVEN-1] 사용자 생성 + 로그인 → JWT 쿠키 발급
+        User user = userRepository.save(
+                User.builder()
+                        .username("likeuser1")
+                        .password(passwordEncoder.encode("Password123!"))
+                        .nickname("멱등유저")
+                        .email("idempotent@example.com")
+                        .build()
+        );
+
+        String loginJson = """
+            {
+                "username": "likeuser1",
+                "password": "Password123!"
+            }
+            """;
+
+        Cookie jwtCookie = mockMvc.perform(
+                        post("/api/users/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(loginJson)
+                                .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getCookie(jwtProperties.getCookieName());
+
+        assertThat(jwtCookie).isNotNull();
+
+        // [GIVEN-2] 게시글 생성
+        Long postId = postRepository.save(
+                Post.builder()
+                        .title("멱등제목")
+                        .content("멱등내용")
+                        .author(user)
+                        .displayNumber(1L)
+                        .build()
+        ).getId();
+
+        // [WHEN-1 & THEN-1] PUT 2회 -> 두 번 모두 liked=true, likeCount=1
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            put(BASE_URL + "/{postId}/likes", postId)
+                                    .cookie(jwtCookie)
+                                    .accept(MediaType.APPLICATION_JSON)
+                    ).andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.liked").value(true))
+                    .andExpect(jsonPath("$.data.likeCount").value(1));
+        }
+
+        // [WHEN-2 & THEN-2] DELETE 2회 -> 두 번 모두 liked=false, likeCount=0
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(
+                            delete(BASE_URL + "/{postId}/likes", postId)
+                                    .cookie(jwtCookie)
+                                    .accept(MediaType.APPLICATION_JSON)
+                    ).andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.liked").value(false))
+                    .andExpect(jsonPath("$.data.likeCount").value(0));
+        }
+    }
+
+
     // ⭐ 게시글 단건 조회 실패 테스트 (GET /api/posts/{id} - 존재하지 않는 ID)
     @Test
     @DisplayName("게시글 단건 조회 실패 : 존재하지 않는 ID로 조회 시 에러 응답 반환")
@@ -0,0 +1,60 @@
+package com.example.demo.domain.post.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    PostSearchIndex 단위 테스트 (DB 없이 색인/검색만)
+    - 색인은 원문을 보관하지 않음 -> n-gram 후보만 반환, 검색어 포함 여부는 matches 로 확인 (PostService 가 DB 행으로 수행)
+    - 재색인 시 새 토큰 추가, 삭제 시 후보에서 제외
+*/
+class PostSearchIndexTest {
+
+    @Test
+    @DisplayName("검색 인덱스 : 토큰을 모두 가진 게시글을 최신순 후보로 반환하고, 떨어진 위치에만 있는 게시글은 matches 에서 제외")
+    void search_returnsCandidates_matchesExcludesScatteredNgrams() {
+        // [GIVEN] 1번 : "스프" 와 "프링" 이 따로 있음 / 2, 3번 : "스프링" 포함 (대소문자 다름)
+        PostSearchIndex index = new PostSearchIndex(null, null);
+        index.index(1L, "스프 만들기", "프링글스 과자");
+        index.index(2L, "스프링 입문", "내용");
+        index.index(3L, "제목", "SPRING 과 스프링부트");
+
+        // [WHEN]
+        long[] candidates = index.search("스프링");
+
+        // [THEN] 후보는 최신순, 실제 포함 여부는 읽어 온 제목/내용으로 확인
+        assertThat(candidates).containsExactly(3L, 2L, 1L);
+        assertThat(index.matches("스프링", "스프 만들기", "프링글스 과자")).isFalse();
+        assertThat(index.matches("스프링", "스프링 입문", "내용")).isTrue();
+        assertThat(index.search("spring")).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("검색 인덱스 : 재색인하면 새 제목으로 검색되고, 삭제하면 후보에서 제외되며 다시 색인하면 복구")
+    void reindexAndRemove_updateCandidates() {
+        // [GIVEN]
+        PostSearchIndex index = new PostSearchIndex(null, null);
+        index.index(1L, "오래된 제목", "내용");
+
+        // [WHEN] 제목 수정 후 재색인
+        index.index(1L, "새 제목", "내용");
+
+        // [THEN] 새 제목으로 검색됨, 수정 전 토큰으로 남은 후보는 현재 값으로 확인하면 제외
+        assertThat(index.search("새 제목")).containsExactly(1L);
+        assertThat(index.matches("오래된", "새 제목", "내용")).isFalse();
+
+        // [WHEN] 삭제
+        index.remove(1L);
+
+        // [THEN]
+        assertThat(index.search("제목")).isEmpty();
+
+        // [WHEN] 다른 노드에서 복구/수정되어 다시 색인
+        index.index(1L, "새 제목", "내용");
+
+        // [THEN]
+        assertThat(index.search("제목")).containsExactly(1L);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.global.sequence.SequenceBlockReserver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    DisplayNumberAllocator 동시성 테스트 (DB 대신 커넥션 풀을 흉내낸 Semaphore + 메모리 카운터)
+    - 생성 요청 스레드는 "트랜잭션 커넥션" 1개를 잡은 채 next() 호출
+    - 구간 예약도 커넥션 1개가 필요 -> 풀 크기 = 생성 스레드 수여도 예약이 막히지 않아야 함
+*/
+class DisplayNumberAllocatorTest {
+
+    @Test
+    @DisplayName("게시글 번호 : 커넥션을 모두 잡은 동시 생성 중에도 구간 예약은 전용 스레드에서 끝나고 번호 중복 없음")
+    void concurrentNext_withFullPool_reservesOffCallerThreads() throws Exception {
+        // [GIVEN] 커넥션 8개, 생성 스레드 8개, 구간 50 / 남은 번호 25 개일 때 미리 예약
+        int threads = 8;
+        int perThread = 500;
+        Semaphore pool = new Semaphore(threads, true);
+        FakeReserver reserver = new FakeReserver(pool);
+        DisplayNumberAllocator allocator = new DisplayNumberAllocator(reserver, null, 50, 25, 3_000L);
+        allocator.prefetchOnStartup();
+
+        ExecutorService callers = Executors.newFixedThreadPool(threads, runnable -> new Thread(runnable, "create-post"));
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+
+        // [WHEN] 각 스레드가 커넥션을 잡고 -> 번호 발급 -> 짧은 INSERT 시간 -> 커넥션 반납 반복
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        pool.acquire();
+                        try {
+                            issued.add(allocator.next());
+                            Thread.sleep(1L);
+                        } finally {
+                            pool.release();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+            allocator.destroy();
+        }
+
+        // [THEN] 번호 중복 없음, 예약은 모두 전용 스레드에서 실행
+        assertThat(issued).hasSize(threads * perThread);
+        assertThat(reserver.callerThreads).containsOnly("display-number-reserve");
+        assertThat(reserver.reservations.get()).isGreaterThanOrEqualTo(threads * perThread / 50);
+    }
+
+    @Test
+    @DisplayName("게시글 번호 : 남은 번호가 기준에 닿으면 소진 전에 다음 구간을 미리 예약")
+    void reachesThreshold_prefetchesNextBlock() throws Exception {
+        // [GIVEN] 구간 10, 남은 번호 3 개일 때 미리 예약
+        FakeReserver reserver = new FakeReserver(new Semaphore(1));
+        DisplayNumberAllocator allocator = new DisplayNumberAllocator(reserver, null, 10, 3, 3_000L);
+
+        try {
+            // [WHEN] 첫 구간에서 7개 발급 (남은 번호 3 개)
+            for (int i = 0; i < 7; i++) {
+                allocator.next();
+            }
+            long deadline = System.currentTimeMillis() + 3_000L;
+            while (reserver.reservations.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5L);
+            }
+
+            // [THEN] 소진 전에 두 번째 구간 예약 완료, 이어서 발급되는 번호는 연속
+            assertThat(reserver.reservations.get()).isEqualTo(2);
+            List<Long> rest = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                rest.add(allocator.next());
+            }
+            assertThat(rest).containsExactly(8L, 9L, 10L, 11L, 12L, 13L);
+        } finally {
+            allocator.destroy();
+        }
+    }
+
+    // 메모리 카운터로 구간을 나눠주는 예약기 (예약 1회마다 커넥션 1개 필요)
+    private static class FakeReserver extends SequenceBlockReserver {
+
+        private final Semaphore pool;
+        private final AtomicLong nextValue = new AtomicLong(1);
+        private final AtomicLong reservations = new AtomicLong();
+        private final Set<String> callerThreads = ConcurrentHashMap.newKeySet();
+
+        FakeReserver(Semaphore pool) {
+            super(null);
+            this.pool = pool;
+        }
+
+        @Override
+        public long reserve(String name, int size, LongSupplier initialValue) {
+            callerThreads.add(Thread.currentThread().getName());
+            try {
+                if (!pool.tryAcquire(2, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("connection timeout");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            try {
+                reservations.incrementAndGet();
+                return nextValue.getAndAdd(size);
+            } finally {
+                pool.release();
+            }
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.example.demo.domain.post.service;
 
+import com.example.demo.domain.post.entity.Post;
 import com.example.demo.domain.post.repository.PostLikeRepository;
+import com.example.demo.domain.post.repository.PostRepository;
+import com.example.demo.domain.user.entity.User;
+import com.example.demo.domain.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class PostLikeConcurrencyTest {
@@ -21,6 +32,15 @@ class PostLikeConcurrencyTest {
     private PostLikeRepository postLikeRepository;
     // 테스트 종료 후 DB 상태 확인용
 
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("동시에 좋아요 토글 요청이 들어올 경우 동시성 문제 재현")
     void toggleLike_concurrency_test() throws InterruptedException {
@@ -66,4 +86,54 @@ class PostLikeConcurrencyTest {
         long count = postLikeRepository.countByPostId(postId);
         System.out.println("최종 좋아요 개수 = " + count);
     }
+
+    @Test
+    @DisplayName("멱등 좋아요 : 여러 사용자가 같은 게시글에 동시에 PUT 해도 좋아요 행 수와 like_count 가 일치")
+    void like_concurrentUsersOnSamePost_countsMatch() throws Exception {
+        // [GIVEN] 커밋된 게시글 1개 + 사용자 10명 (각 스레드가 자기 트랜잭션에서 읽을 수 있도록 테스트 트랜잭션 없음)
+        int userCount = 10;
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .username("likeconc" + i)
+                    .password("encoded")
+                    .nickname("동시좋아요" + i)
+                    .email("likeconc" + i + "@example.com")
+                    .build()).getId());
+        }
+        Long postId = postRepository.save(Post.builder()
+                .title("동시 좋아요")
+                .content("내용")
+                .author(userRepository.findById(userIds.get(0)).orElseThrow())
+                .displayNumber(990_001L)
+                .build()).getId();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(userCount);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            // [WHEN] 사용자마다 PUT 2번 (재시도/중복 클릭)을 동시에 실행
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long userId : userIds) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    postLikeService.like(postId, userId);
+                    postLikeService.like(postId, userId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            // [THEN] 좋아요 행 = 사용자 수 = like_count
+            assertThat(postLikeRepository.countByPostId(postId)).isEqualTo(userCount);
+            assertThat(postLikeService.getLikeCount(postId)).isEqualTo(userCount);
+        } finally {
+            executorService.shutdownNow();
+            jdbcTemplate.update("delete from post_likes where post_id = ?", postId);
+            jdbcTemplate.update("delete from posts where id = ?", postId);
+            userIds.forEach(id -> jdbcTemplate.update("delete from users where id = ?", id));
+        }
+    }
 }
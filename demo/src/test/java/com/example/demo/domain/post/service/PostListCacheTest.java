@@ -0,0 +1,112 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.dto.PostListResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    PostListCache 단위 테스트 (DB 대신 호출 횟수를 세는 loader)
+    - 앞쪽 페이지 + 기본 정렬만 캐시, 그 외 요청은 매번 loader 실행
+    - 무효화 후에는 다시 조회, 조회 도중 무효화되면 그 결과는 저장하지 않음
+    - TTL 이 지나면 다시 조회
+*/
+class PostListCacheTest {
+
+    @Test
+    @DisplayName("목록 캐시 : 앞쪽 페이지 + 기본 정렬은 두 번째 조회부터 적중, 뒤쪽 페이지/다른 정렬은 매번 조회")
+    void cachesOnlyLeadingPagesWithDefaultSort() {
+        // [GIVEN] 앞쪽 3 페이지, size 50 이하만 캐시
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PostListCache cache = newCache(registry, 5_000L);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<PostListResponseDto>> loader = counting(loads);
+
+        // [WHEN & THEN] 0번 페이지 기본 정렬 -> 두 번째부터 적중
+        cache.get(PageRequest.of(0, 10), loader);
+        cache.get(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")), loader);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(registry.get("post.list.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+
+        // [WHEN & THEN] 뒤쪽 페이지 / 큰 size / 다른 정렬은 캐시하지 않음
+        cache.get(PageRequest.of(3, 10), loader);
+        cache.get(PageRequest.of(3, 10), loader);
+        cache.get(PageRequest.of(0, 51), loader);
+        cache.get(PageRequest.of(0, 51), loader);
+        cache.get(PageRequest.of(0, 10, Sort.by("title")), loader);
+        cache.get(PageRequest.of(0, 10, Sort.by("title")), loader);
+        assertThat(loads.get()).isEqualTo(7);
+        assertThat(registry.get("post.list.cache.size").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("목록 캐시 : 무효화 후에는 다시 조회하고, 조회 도중 무효화된 결과는 저장하지 않음")
+    void invalidate_dropsEntries_andSkipsStaleLoad() {
+        // [GIVEN]
+        PostListCache cache = newCache(new SimpleMeterRegistry(), 5_000L);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<PostListResponseDto>> loader = counting(loads);
+        cache.get(PageRequest.of(0, 10), loader);
+
+        // [WHEN] 무효화 후 조회
+        cache.invalidate();
+        cache.get(PageRequest.of(0, 10), loader);
+
+        // [THEN]
+        assertThat(loads.get()).isEqualTo(2);
+
+        // [WHEN] 조회 도중 다른 요청이 게시글을 바꿔 무효화
+        cache.invalidate();
+        cache.get(PageRequest.of(0, 10), () -> {
+            loads.incrementAndGet();
+            cache.invalidate();
+            return List.of();
+        });
+
+        // [THEN] 변경 전 데이터는 저장되지 않아 다음 조회도 DB 조회
+        cache.get(PageRequest.of(0, 10), loader);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("목록 캐시 : TTL 이 지난 항목은 다시 조회")
+    void expiredEntry_isReloaded() throws InterruptedException {
+        // [GIVEN] TTL 20ms
+        PostListCache cache = newCache(new SimpleMeterRegistry(), 20L);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<PostListResponseDto>> loader = counting(loads);
+        cache.get(PageRequest.of(0, 10), loader);
+
+        // [WHEN]
+        Thread.sleep(50L);
+        cache.get(PageRequest.of(0, 10), loader);
+
+        // [THEN]
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private static PostListCache newCache(SimpleMeterRegistry registry, long ttlMillis) {
+        PostListCache cache = new PostListCache(registry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxPages", 3);
+        ReflectionTestUtils.setField(cache, "maxPageSize", 50);
+        ReflectionTestUtils.setField(cache, "ttlMillis", ttlMillis);
+        return cache;
+    }
+
+    private static Supplier<List<PostListResponseDto>> counting(AtomicInteger loads) {
+        return () -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.demo.domain.post.service;
+
+import com.example.demo.domain.post.dto.PostDetailResponseDto;
+import com.example.demo.domain.post.dto.PostListResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    PostRedisCache 단위 테스트 (Redis 대신 메모리 Map 으로 get / set / increment 만 흉내내는 RedisTemplate)
+    - 상세는 JSON 으로 저장 후 두 번째 조회부터 loader 없이 반환
+    - 버전 키 증가(무효화) 후에는 새 키를 보므로 다시 조회
+    - 목록은 앞쪽 페이지 + 기본 정렬만 캐시
+    - Redis 장애 시 예외 없이 loader 결과 반환
+*/
+class PostRedisCacheTest {
+
+    @Test
+    @DisplayName("Redis 캐시 : 상세는 두 번째 조회부터 적중하고, 무효화(버전 증가) 후에는 다시 조회")
+    void detail_cachedUntilVersionBump() {
+        // [GIVEN]
+        FakeRedisTemplate redis = new FakeRedisTemplate();
+        PostRedisCache cache = newCache(redis);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<PostDetailResponseDto> loader = () -> {
+            loads.incrementAndGet();
+            return PostDetailResponseDto.builder().id(1L).title("제목").views(3).likeCount(2L).build();
+        };
+
+        // [WHEN]
+        cache.getDetail(1L, loader);
+        PostDetailResponseDto cached = cache.getDetail(1L, loader);
+
+        // [THEN] JSON 으로 저장된 값을 그대로 복원
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cached.getTitle()).isEqualTo("제목");
+        assertThat(cached.getViews()).isEqualTo(3);
+        assertThat(cached.getLikeCount()).isEqualTo(2L);
+        assertThat(cache.findDetail(1L)).isNotNull();
+        assertThat(redis.values).containsKey("cache:post:detail:1:v0");
+
+        // [WHEN] 트랜잭션 밖이므로 즉시 버전 증가
+        cache.evictPostAfterCommit(1L);
+
+        // [THEN] 새 버전 키에는 값이 없음 -> 다시 조회
+        assertThat(cache.findDetail(1L)).isNull();
+        cache.getDetail(1L, loader);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(redis.values).containsKey("cache:post:detail:1:v1");
+    }
+
+    @Test
+    @DisplayName("Redis 캐시 : 목록은 앞쪽 페이지만 캐시하고 목록 버전 증가 후 다시 조회")
+    void list_cachesLeadingPagesOnly() {
+        // [GIVEN] 앞쪽 3 페이지만 캐시
+        PostRedisCache cache = newCache(new FakeRedisTemplate());
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<List<PostListResponseDto>> loader = () -> {
+            loads.incrementAndGet();
+            return List.of();
+        };
+
+        // [WHEN & THEN] 0번 페이지 -> 두 번째부터 적중, 3번 페이지 -> 매번 조회
+        cache.getList(PageRequest.of(0, 10), loader);
+        cache.getList(PageRequest.of(0, 10), loader);
+        cache.getList(PageRequest.of(3, 10), loader);
+        cache.getList(PageRequest.of(3, 10), loader);
+        assertThat(loads.get()).isEqualTo(3);
+
+        // [WHEN & THEN] 목록 무효화 후 다시 조회
+        cache.evictListsAfterCommit();
+        cache.getList(PageRequest.of(0, 10), loader);
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Redis 캐시 : Redis 장애 시 예외 없이 매번 loader(DB) 결과 반환")
+    void redisFailure_fallsBackToLoader() {
+        // [GIVEN]
+        FakeRedisTemplate redis = new FakeRedisTemplate();
+        redis.failing.set(true);
+        PostRedisCache cache = newCache(redis);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<PostDetailResponseDto> loader = () -> {
+            loads.incrementAndGet();
+            return PostDetailResponseDto.builder().id(1L).title("제목").build();
+        };
+
+        // [WHEN]
+        PostDetailResponseDto first = cache.getDetail(1L, loader);
+        PostDetailResponseDto second = cache.getDetail(1L, loader);
+        cache.evictPostAfterCommit(1L);
+
+        // [THEN]
+        assertThat(first.getTitle()).isEqualTo("제목");
+        assertThat(second.getTitle()).isEqualTo("제목");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.findDetail(1L)).isNull();
+    }
+
+    private static PostRedisCache newCache(FakeRedisTemplate redis) {
+        PostRedisCache cache = new PostRedisCache(redis, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "detailTtlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "listTtlSeconds", 10L);
+        ReflectionTestUtils.setField(cache, "listMaxPages", 3);
+        return cache;
+    }
+
+    // opsForValue 의 get / set(key, value, ttl) / increment 만 메모리 Map 으로 처리 (TTL 은 무시)
+    private static class FakeRedisTemplate extends RedisTemplate<String, String> {
+
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final AtomicBoolean failing = new AtomicBoolean(false);
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValueOperations<String, String> opsForValue() {
+            return (ValueOperations<String, String>) Proxy.newProxyInstance(
+                    ValueOperations.class.getClassLoader(),
+                    new Class<?>[]{ValueOperations.class},
+                    (proxy, method, args) -> {
+                        if (failing.get()) {
+                            throw new IllegalStateException("simulated redis failure");
+                        }
+                        String key = (String) args[0];
+                        return switch (method.getName()) {
+                            case "get" -> values.get(key);
+                            case "set" -> {
+                                values.put(key, (String) args[1]);
+                                yield null;
+                            }
+                            case "increment" -> Long.valueOf(values.merge(key, "1",
+                                    (old, one) -> String.valueOf(Long.parseLong(old) + 1)));
+                            default -> throw new UnsupportedOperationException(method.getName());
+                        };
+                    });
+        }
+    }
+}
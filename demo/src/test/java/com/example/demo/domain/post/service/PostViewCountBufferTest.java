@@ -0,0 +1,132 @@
+package com.example.demo.domain.post.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    PostViewCountBuffer 단위 테스트 (DB 대신 UPDATE 인자를 합산하는 JdbcTemplate)
+    - 증가 중에 flush 가 계속 돌아도 증가분 유실/중복 없음
+    - UPDATE 실패분은 다음 flush 에서 다시 반영
+*/
+class PostViewCountBufferTest {
+
+    @Test
+    @DisplayName("조회수 버퍼 : 동시 증가 중 flush 가 반복돼도 반영된 합계가 증가 횟수와 같다")
+    void concurrentIncrement_withFlush_losesNothing() throws Exception {
+        // [GIVEN] 인기 게시글 1개 + 일반 게시글 여러 개에 증가하는 스레드 8개
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        PostViewCountBuffer buffer = new PostViewCountBuffer(jdbc);
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // [WHEN] 증가하는 동안 다른 스레드가 flush 반복 (유휴 항목 제거 포함)
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        buffer.increment((i % 2 == 0) ? 1L : 100L + (seed * 7 + i) % 50);
+                    }
+                    return null;
+                }));
+            }
+            Thread flusher = new Thread(() -> {
+                while (running.get()) {
+                    buffer.flush();
+                }
+            });
+            flusher.start();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            flusher.join(5_000L);
+        } finally {
+            pool.shutdownNow();
+        }
+        buffer.flush();
+
+        // [THEN] 반영 합계 = 전체 증가 횟수, 남은 증가분 없음
+        assertThat(jdbc.total()).isEqualTo((long) threads * perThread);
+        assertThat(jdbc.views(1L)).isEqualTo((long) threads * perThread / 2);
+        assertThat(buffer.getPending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("조회수 버퍼 : UPDATE 가 실패한 증가분은 버퍼로 돌아가 다음 flush 에서 반영")
+    void failedFlush_isRetried() {
+        // [GIVEN] 첫 UPDATE 만 실패
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        PostViewCountBuffer buffer = new PostViewCountBuffer(jdbc);
+        buffer.increment(7L);
+        buffer.increment(7L);
+        jdbc.failNext.set(true);
+
+        // [WHEN]
+        buffer.flush();
+
+        // [THEN] 반영 안 됨, 화면용 미반영분은 유지
+        assertThat(jdbc.total()).isZero();
+        assertThat(buffer.getPending(7L)).isEqualTo(2L);
+
+        // [WHEN] 다음 flush
+        buffer.flush();
+
+        // [THEN]
+        assertThat(jdbc.views(7L)).isEqualTo(2L);
+        assertThat(buffer.getPending(7L)).isZero();
+    }
+
+    /*
+        update posts set views = views + case id when ? then ? ... 의 인자 (id, 증가분) 쌍을 게시글별로 합산
+    */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+
+        private final Map<Long, AtomicLong> views = new ConcurrentHashMap<>();
+        private final AtomicBoolean failNext = new AtomicBoolean(false);
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (failNext.compareAndSet(true, false)) {
+                throw new IllegalStateException("simulated failure");
+            }
+            int pairs = args.length / 3;
+            for (int i = 0; i < pairs; i++) {
+                Long postId = (Long) args[i * 2];
+                long delta = (Long) args[i * 2 + 1];
+                views.computeIfAbsent(postId, id -> new AtomicLong()).addAndGet(delta);
+            }
+            return pairs;
+        }
+
+        long views(Long postId) {
+            AtomicLong value = views.get(postId);
+            return (value != null) ? value.get() : 0L;
+        }
+
+        long total() {
+            return views.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.demo.domain.user.service;
+
+import com.example.demo.domain.user.dto.UserLoginRequestDto;
+import com.example.demo.domain.user.dto.UserSignupRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    LastLoginRecorder 통합 테스트
+    - 클래스 단위 @Transactional 을 쓰지 않음
+        >> 트랜잭션 안에서는 로그인 응답용 엔티티 값(updateLastLoginAt)만 보고도 통과해 DB 반영 여부를 확인할 수 없음
+    - 로그인 직후에는 DB 에 없고, flush() 후에 last_login_at 이 저장되는지 JDBC 로 직접 조회
+    - 주기 flush 는 꺼서 테스트의 flush() 호출만 반영되도록 함
+*/
+@SpringBootTest(properties = "app.auth.last-login.flush-enabled=false")
+@ActiveProfiles("test")
+class LastLoginRecorderTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @AfterEach
+    void tearDown() {
+        if (userId != null) {
+            jdbcTemplate.update("delete from users where id = ?", userId);
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 로그인 시각 : 로그인 후 flush 하면 last_login_at 이 DB 에 저장")
+    void login_thenFlush_persistsLastLoginAt() {
+        // [GIVEN] 커밋된 회원
+        userId = userService.register(UserSignupRequestDto.builder()
+                .username("lastlogin1")
+                .password("LoginPassword1")
+                .nickname("마지막로그인")
+                .email("lastlogin1@example.com")
+                .build()).getId();
+
+        // [WHEN] 로그인
+        userService.login(UserLoginRequestDto.builder()
+                .username("lastlogin1")
+                .password("LoginPassword1")
+                .build());
+
+        // [THEN] flush 전에는 DB 에 반영되지 않음 (write-behind)
+        assertThat(lastLoginAt(userId)).isNull();
+
+        // [WHEN] flush
+        lastLoginRecorder.flush();
+
+        // [THEN] DB 에 저장됨
+        assertThat(lastLoginAt(userId)).isNotNull();
+    }
+
+    private Timestamp lastLoginAt(Long id) {
+        return jdbcTemplate.queryForObject("select last_login_at from users where id = ?", Timestamp.class, id);
+    }
+}
@@ -167,7 +167,8 @@ public class UserServiceTest {
         //[THEN] 로그인 결과 검증
         assertThat(response.getUsername()).isEqualTo(rawUsername.toLowerCase());
 
-        // 실제 DB에서 다시 꺼내서 마지막 로그인 시간 갱신확인하려면
+        // 마지막 로그인 시간 갱신 확인 (같은 트랜잭션의 엔티티 값)
+        // DB 반영은 write-behind(LastLoginRecorder) -> 실제 저장 여부는 LastLoginRecorderTest 에서 flush 후 확인
         User found = userRepository.findByUsername("loginUser1")
                 .orElseThrow(() -> new IllegalStateException("로그인 유저를 찾지 못했습니다."));
 
@@ -0,0 +1,45 @@
+package com.example.demo.global.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    ByteRange (HTTP Range 헤더 해석) 단위 테스트
+    - 단일 구간 3가지 형식, 파일 끝을 넘는 끝 위치 보정
+    - 여러 구간/잘못된 형식 -> null (전체 응답), 파일 밖 시작 위치 -> UNSATISFIABLE (416)
+*/
+public class ByteRangeTest {
+
+    @Test
+    @DisplayName("Range 해석 : 시작-끝 / 시작- / -마지막N 형식")
+    void parse_singleRange() {
+        // [GIVEN] 1000 byte 파일
+        long length = 1000L;
+
+        // [WHEN / THEN]
+        assertThat(ByteRange.parse("bytes=0-99", length)).isEqualTo(new ByteRange(0, 99));
+        assertThat(ByteRange.parse("bytes=900-", length)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.parse("bytes=-100", length)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.parse("bytes=500-5000", length)).isEqualTo(new ByteRange(500, 999)); // 끝 위치 보정
+        assertThat(ByteRange.parse("bytes=-5000", length)).isEqualTo(new ByteRange(0, 999));
+        assertThat(ByteRange.parse("bytes=0-99", length).length()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("Range 해석 : 지원하지 않는 형식은 null(전체 응답), 파일 밖 시작 위치는 416")
+    void parse_ignoredOrUnsatisfiable() {
+        // [GIVEN]
+        long length = 1000L;
+
+        // [WHEN / THEN]
+        assertThat(ByteRange.parse(null, length)).isNull();
+        assertThat(ByteRange.parse("items=0-1", length)).isNull();
+        assertThat(ByteRange.parse("bytes=0-1,5-6", length)).isNull();
+        assertThat(ByteRange.parse("bytes=abc-", length)).isNull();
+        assertThat(ByteRange.parse("bytes=200-100", length)).isNull();
+        assertThat(ByteRange.parse("bytes=1000-", length)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=-0", length)).isSameAs(ByteRange.UNSATISFIABLE);
+    }
+}
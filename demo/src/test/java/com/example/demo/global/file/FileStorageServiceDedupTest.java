@@ -0,0 +1,116 @@
+package com.example.demo.global.file;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    FileStorageService 내용 주소 저장 테스트 (로컬 저장소, H2)
+    - 같은 내용 2번 업로드 -> 같은 key, 파일 1개, 참조 수 2
+    - 참조 반납 -> 마지막 참조일 때만 파일/행 삭제
+    - 참조 증가는 DB 종류와 무관한 UPDATE / INSERT 한 가지 경로 (운영과 같은 SQL)
+*/
+@SpringBootTest
+@ActiveProfiles("test")
+class FileStorageServiceDedupTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("app.file.upload-dir", uploadDir::toString);
+        registry.add("app.s3.bucket", () -> "");
+    }
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private StoredFileService storedFileService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("내용 주소 저장 : 같은 사진은 한 번만 저장되고 마지막 참조가 반납될 때 삭제")
+    void sameContent_storedOnce_deletedWithLastReference() throws IOException {
+        // [GIVEN] 이름만 다른 같은 내용의 파일 2개
+        byte[] content = "same-photo-bytes".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile first = new MockMultipartFile("image", "a.JPG", "image/jpeg", content);
+        MockMultipartFile second = new MockMultipartFile("image", "b.jpg", "image/jpeg", content);
+
+        // [WHEN]
+        String firstKey = fileStorageService.save(first);
+        String secondKey = fileStorageService.save(second);
+
+        // [THEN] 같은 key, 실제 파일 1개, 참조 수 2
+        assertThat(firstKey).isEqualTo(secondKey).matches("posts/[0-9a-f]{64}\\.jpg");
+        assertThat(storedFiles()).containsExactly(uploadDir.resolve(firstKey));
+        assertThat(refCount(firstKey)).isEqualTo(2L);
+
+        // [WHEN] 첫 번째 반납 -> 파일 유지
+        fileStorageService.release(firstKey, List.of());
+
+        // [THEN]
+        assertThat(Files.exists(uploadDir.resolve(firstKey))).isTrue();
+        assertThat(refCount(firstKey)).isEqualTo(1L);
+
+        // [WHEN] 마지막 반납 -> 파일/행 삭제
+        fileStorageService.release(firstKey, List.of());
+
+        // [THEN]
+        assertThat(Files.exists(uploadDir.resolve(firstKey))).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from stored_files where storage_key = ?", Long.class, firstKey)).isZero();
+    }
+
+    @Test
+    @DisplayName("참조 증가 : 행이 없으면 refCount 1 로 생성(true), 있으면 참조만 +1(false)")
+    void retain_createsThenIncrements() {
+        // [GIVEN]
+        String key = "posts/" + "ab".repeat(32) + ".png";
+
+        // [WHEN]
+        boolean created = storedFileService.retain(key, 10L);
+        boolean createdAgain = storedFileService.retain(key, 10L);
+
+        // [THEN]
+        assertThat(created).isTrue();
+        assertThat(createdAgain).isFalse();
+        assertThat(refCount(key)).isEqualTo(2L);
+
+        // 정리 (파일은 만들지 않았으므로 삭제 작업 없음)
+        storedFileService.release(key, () -> { });
+        storedFileService.release(key, () -> { });
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from stored_files where storage_key = ?", Long.class, key)).isZero();
+    }
+
+    private List<Path> storedFiles() throws IOException {
+        try (Stream<Path> files = Files.list(uploadDir.resolve("posts"))) {
+            return files.toList(); // 임시 파일은 저장 후 정리됨
+        }
+    }
+
+    private long refCount(String key) {
+        return jdbcTemplate.queryForObject(
+                "select ref_count from stored_files where storage_key = ?", Long.class, key);
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.demo.global.file;
+
+import com.example.demo.global.exception.ImageTooLargeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    ImageResizeService 단위 테스트 (S3/디스크 원본 대신 메모리 PNG 를 돌려주는 FileStorageService)
+    - 같은 크기 동시 요청 -> 원본 읽기/디코딩 1번, 나머지는 결과 공유
+    - 디스크 캐시 상한 -> 오래 안 쓴 결과부터 삭제
+    - 요청 크기는 크기 구간으로 올림 -> 값만 바꾼 요청도 같은 캐시 사용
+    - 픽셀 상한을 넘는 원본은 디코딩하지 않음
+    - 원본이 지워지면 캐시된 결과물도 내보내지 않음
+*/
+public class ImageResizeServiceTest {
+
+    @TempDir
+    Path cacheDir;
+
+    @Test
+    @DisplayName("리사이즈 : 같은 결과물 동시 요청은 디코딩 1번으로 합쳐지고 이후 요청은 캐시 적중")
+    void concurrentRequests_coalesce() throws Exception {
+        // [GIVEN] 원본 읽기를 붙잡아 두는 저장소
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger reads = new AtomicInteger();
+        FileStorageService storage = new FileStorageService(null, null, null) {
+            @Override
+            public byte[] read(String storedPath) {
+                reads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return png(400, 300);
+            }
+
+            @Override
+            public boolean exists(String storedPath) {
+                return true;
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ImageResizeService service = newService(storage, registry, 10_000_000L);
+
+        // [WHEN] 같은 크기 4건 동시 요청, 나머지 3건이 합류한 뒤 원본 읽기 해제
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<ImageResizeService.Rendition>> results = new ArrayList<>();
+        byte[] first;
+        try {
+            for (int i = 0; i < 4; i++) {
+                results.add(pool.submit(() -> service.resize("abc.png", 100, null, null)));
+            }
+            long deadline = System.currentTimeMillis() + 5_000L;
+            while (coalesced(registry) < 3 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5L);
+            }
+            release.countDown();
+
+            // [THEN] 모두 같은 결과, 원본 읽기 1번
+            first = results.get(0).get(5, TimeUnit.SECONDS).bytes();
+            for (Future<ImageResizeService.Rendition> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).bytes()).isEqualTo(first);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(coalesced(registry)).isEqualTo(3.0);
+        assertThat(ImageIO.read(new ByteArrayInputStream(first)).getWidth()).isEqualTo(100);
+
+        // [THEN] 이후 요청은 디스크 캐시 적중
+        service.resize("abc.png", 100, null, null);
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(registry.get("image.resize.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("image.resize.cache.hit.ratio").gauge().value()).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("리사이즈 : 디스크 캐시가 상한을 넘으면 가장 오래 안 쓴 결과부터 삭제")
+    void diskCache_evictsLeastRecentlyUsed() {
+        // [GIVEN] 결과물 2개 정도만 들어가는 상한
+        AtomicInteger reads = new AtomicInteger();
+        byte[] original = png(400, 300);
+        FileStorageService storage = new FileStorageService(null, null, null) {
+            @Override
+            public byte[] read(String storedPath) {
+                reads.incrementAndGet();
+                return original;
+            }
+
+            @Override
+            public boolean exists(String storedPath) {
+                return true;
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        int renditionSize = newService(storage, new SimpleMeterRegistry(), 10_000_000L, new int[0])
+                .resize("abc.png", 120, null, null).bytes().length;
+        ImageResizeService service = newService(storage, registry, renditionSize * 2L + renditionSize / 2, new int[0]);
+        reads.set(0);
+
+        // [WHEN] 120(이전 실행 캐시 적중) -> 121 -> 120 사용 -> 122 저장 (121 이 가장 오래 안 씀)
+        service.resize("abc.png", 120, null, null);
+        service.resize("abc.png", 121, null, null);
+        service.resize("abc.png", 120, null, null);
+        service.resize("abc.png", 122, null, null);
+
+        // [THEN] 120 은 남고 121 은 삭제되어 다시 디코딩
+        assertThat(registry.get("image.resize.cache.entries").gauge().value()).isEqualTo(2.0);
+        int before = reads.get();
+        service.resize("abc.png", 120, null, null);
+        assertThat(reads.get()).isEqualTo(before);
+        service.resize("abc.png", 121, null, null);
+        assertThat(reads.get()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("리사이즈 : 요청 크기는 크기 구간으로 올려 같은 구간 요청은 캐시 1개를 공유")
+    void dimensions_snapToBuckets() {
+        // [GIVEN]
+        AtomicInteger reads = new AtomicInteger();
+        byte[] original = png(400, 300);
+        FileStorageService storage = new FileStorageService(null, null, null) {
+            @Override
+            public byte[] read(String storedPath) {
+                reads.incrementAndGet();
+                return original;
+            }
+
+            @Override
+            public boolean exists(String storedPath) {
+                return true;
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ImageResizeService service = newService(storage, registry, 10_000_000L);
+
+        // [WHEN] 101 ~ 160 은 모두 160 구간, q 81 ~ 87 은 모두 85
+        byte[] first = service.resize("abc.jpg", 101, null, 84).bytes();
+        service.resize("abc.jpg", 150, null, 86);
+        service.resize("abc.jpg", 160, null, 85);
+
+        // [THEN] 디코딩 1번, 결과 폭은 구간 크기
+        assertThat(reads.get()).isEqualTo(1);
+        assertThat(registry.get("image.resize.cache.entries").gauge().value()).isEqualTo(1.0);
+        assertThat(ImageIO.read(new ByteArrayInputStream(first)).getWidth()).isEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("리사이즈 : 원본이 반납(삭제)되면 캐시된 결과물도 내보내지 않고 캐시에서 삭제")
+    void releasedOriginal_isNotServedFromCache() {
+        // [GIVEN] 결과물이 캐시된 뒤 원본이 삭제되는 저장소
+        AtomicBoolean released = new AtomicBoolean(false);
+        byte[] original = png(400, 300);
+        FileStorageService storage = new FileStorageService(null, null, null) {
+            @Override
+            public byte[] read(String storedPath) {
+                return original;
+            }
+
+            @Override
+            public boolean exists(String storedPath) {
+                return !released.get();
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ImageResizeService service = newService(storage, registry, 10_000_000L);
+        service.resize("abc.png", 100, null, null);
+
+        // [WHEN] 다른 게시글이 더 이상 참조하지 않아 원본 삭제
+        released.set(true);
+
+        // [THEN] 캐시 적중이어도 404, 캐시에서도 제거
+        assertThatThrownBy(() -> service.resize("abc.png", 100, null, null))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThat(registry.get("image.resize.cache.entries").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("리사이즈 : 픽셀 상한을 넘는 원본은 디코딩하지 않고 ImageTooLargeException")
+    void oversizedOriginal_isRejectedBeforeDecode() {
+        // [GIVEN] 400 x 300 = 120,000 픽셀 원본, 상한 100,000 픽셀
+        byte[] original = png(400, 300);
+        FileStorageService storage = new FileStorageService(null, null, null) {
+            @Override
+            public byte[] read(String storedPath) {
+                return original;
+            }
+        };
+        ImageResizeService service = new ImageResizeService(storage, new SimpleMeterRegistry(), cacheDir.toString(),
+                10_000_000L, 2000, 85, 2, 2_000L, new int[0], 100_000L);
+
+        // [WHEN & THEN]
+        assertThatThrownBy(() -> service.resize("abc.png", 100, null, null))
+                .isInstanceOf(ImageTooLargeException.class);
+    }
+
+    private ImageResizeService newService(FileStorageService storage, SimpleMeterRegistry registry, long maxBytes) {
+        return newService(storage, registry, maxBytes, new int[]{100, 160, 240, 320});
+    }
+
+    private ImageResizeService newService(FileStorageService storage, SimpleMeterRegistry registry, long maxBytes, int[] sizeBuckets) {
+        return new ImageResizeService(storage, registry, cacheDir.toString(), maxBytes, 2000, 85, 2, 2_000L,
+                sizeBuckets, 40_000_000L);
+    }
+
+    private static double coalesced(SimpleMeterRegistry registry) {
+        return registry.get("image.resize.requests").tag("result", "coalesced").counter().count();
+    }
+
+    private static byte[] png(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 31 + y * 17) & 0xFFFFFF);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.global.file;
+
+import com.example.demo.support.InMemoryS3Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    S3MultipartUploader 테스트 (실제 S3 대신 프로세스 내 InMemoryS3Client)
+    - 조각 일시 실패 -> 해당 조각만 재시도 후 완료
+    - 조각 최종 실패 -> AbortMultipartUpload, 객체 미생성
+    - 벤치마크 : 조각 크기별 처리량 (요청당 고정 지연 + 연결당 대역폭을 흉내낸 스텁 기준)
+        - 시간은 환경에 따라 달라지므로 결과만 출력하고, 검증은 업로드된 내용 일치 여부로 한다.
+        - @Tag("benchmark") : 기본 test 에서 제외, ./gradlew benchmark 로 실행
+*/
+public class S3MultipartUploaderTest {
+
+    private static final long MB = 1024L * 1024;
+    private static final String BUCKET = "photo-bucket";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("S3 멀티파트 : 조각 일시 실패는 그 조각만 재시도하고, 최종 실패는 업로드를 중단(Abort)")
+    void retriesPart_thenAbortsOnFinalFailure() throws IOException {
+        // [GIVEN] 12MB 파일 -> 5MB 조각 3개
+        Path file = randomFile(12 * MB);
+        InMemoryS3Client s3 = new InMemoryS3Client(0L, 0L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        S3MultipartUploader uploader = new S3MultipartUploader(s3, registry, 5 * MB, 5 * MB, 2, 4, 3, 1L);
+
+        // [WHEN] 2번 조각 첫 시도만 503
+        AtomicBoolean failedOnce = new AtomicBoolean(false);
+        s3.failPart(partNumber -> partNumber == 2 && failedOnce.compareAndSet(false, true));
+        uploader.upload(BUCKET, "posts/retry.jpg", file, "image/jpeg");
+
+        // [THEN] 내용 일치, 재시도 1회
+        assertThat(s3.object(BUCKET, "posts/retry.jpg")).isEqualTo(Files.readAllBytes(file));
+        assertThat(registry.get("s3.upload.part.retries").counter().count()).isEqualTo(1.0);
+        assertThat(s3.pendingUploads()).isZero();
+
+        // [WHEN] 2번 조각이 계속 503
+        s3.failPart(partNumber -> partNumber == 2);
+
+        // [THEN] 예외 + Abort, 객체 없음
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "posts/fail.jpg", file, "image/jpeg"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("멀티파트 업로드 실패");
+        assertThat(s3.abortCount()).isEqualTo(1);
+        assertThat(s3.object(BUCKET, "posts/fail.jpg")).isNull();
+        assertThat(s3.pendingUploads()).isZero();
+        assertThat(registry.get("s3.upload").tag("mode", "multipart").tag("result", "failed").timer().count())
+                .isEqualTo(1L);
+
+        uploader.destroy();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("S3 멀티파트 : 조각 크기별 처리량 벤치마크 (단일 putObject 대비)")
+    void throughputByPartSize_benchmark() throws IOException {
+        // [GIVEN] 48MB 파일, 요청당 20ms + 연결당 50MB/s 스텁, 조각 업로드 스레드 4개
+        long size = 48 * MB;
+        Path file = randomFile(size);
+        byte[] expected = Files.readAllBytes(file);
+        InMemoryS3Client s3 = new InMemoryS3Client(20L, 50 * MB);
+
+        // [WHEN] 단일 putObject (threshold > 파일 크기) 와 조각 크기 5 / 8 / 16MB 비교
+        long[][] cases = {
+                {Long.MAX_VALUE, 5 * MB}, // 단일 업로드
+                {5 * MB, 5 * MB},
+                {5 * MB, 8 * MB},
+                {5 * MB, 16 * MB},
+        };
+        for (long[] c : cases) {
+            S3MultipartUploader uploader = new S3MultipartUploader(
+                    s3, new SimpleMeterRegistry(), c[0], c[1], 4, 16, 3, 1L);
+            String key = "posts/bench-" + c[1] + "-" + c[0] + ".jpg";
+
+            int requestsBefore = s3.requestCount();
+            long start = System.nanoTime();
+            uploader.upload(BUCKET, key, file, "image/jpeg");
+            long nanos = System.nanoTime() - start;
+            uploader.destroy();
+
+            // [THEN] 내용 일치 + 결과 출력
+            assertThat(s3.object(BUCKET, key)).isEqualTo(expected);
+            String label = (c[0] == Long.MAX_VALUE) ? "single putObject" : "part " + (c[1] / MB) + "MB";
+            System.out.printf("[S3 업로드 벤치마크] %-16s : %6.1f ms, %6.1f MB/s, requests=%d%n",
+                    label,
+                    nanos / 1_000_000.0,
+                    (size / (double) MB) / (nanos / 1_000_000_000.0),
+                    s3.requestCount() - requestsBefore);
+        }
+    }
+
+    private Path randomFile(long size) throws IOException {
+        byte[] bytes = new byte[(int) size];
+        new Random(42).nextBytes(bytes);
+        Path file = Files.createTempFile(tempDir, "upload-", ".bin");
+        Files.write(file, bytes);
+        return file;
+    }
+}
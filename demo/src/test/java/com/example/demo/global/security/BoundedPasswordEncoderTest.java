@@ -0,0 +1,138 @@
+package com.example.demo.global.security;
+
+import com.example.demo.global.exception.LoginOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    BoundedPasswordEncoder 단위 테스트 (BCrypt 대신 검증을 붙잡아 둘 수 있는 PasswordEncoder)
+    - 검증 결과는 위임 결과 그대로
+    - 풀 + 대기열이 가득 차면 기다리지 않고 즉시 거절
+    - 대기 + 검증이 timeout 을 넘기면 거절
+*/
+class BoundedPasswordEncoderTest {
+
+    @Test
+    @DisplayName("비밀번호 검증 : 전용 풀에서 위임 결과를 그대로 반환하고 검증 시간을 기록")
+    void matches_delegatesOnDedicatedPool() {
+        // [GIVEN]
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BlockingEncoder delegate = new BlockingEncoder(new CountDownLatch(0));
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, registry, 1, 1, 2_000L);
+
+        try {
+            // [WHEN & THEN]
+            assertThat(encoder.matches("pw", "pw")).isTrue();
+            assertThat(encoder.matches("pw", "other")).isFalse();
+            assertThat(delegate.threadName).startsWith("login-hash-");
+            assertThat(registry.get("auth.password.hash").tag("op", "matches").timer().count()).isEqualTo(2L);
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 : 풀(1) + 대기열(1)이 가득 차면 세 번째 요청은 기다리지 않고 LoginOverloadedException")
+    void matches_rejectsImmediatelyWhenSaturated() throws Exception {
+        // [GIVEN] 첫 검증을 붙잡아 두는 위임 encoder
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEncoder delegate = new BlockingEncoder(release);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, registry, 1, 1, 5_000L);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+
+        try {
+            // [WHEN] 1건 실행 중 + 1건 대기열
+            Future<Boolean> running = callers.submit(() -> encoder.matches("pw", "pw"));
+            waitUntil(() -> delegate.started.get() == 1);
+            Future<Boolean> queued = callers.submit(() -> encoder.matches("pw", "pw"));
+            waitUntil(() -> registry.get("auth.login.queue.size").gauge().value() == 1.0);
+
+            // [THEN] 세 번째는 즉시 거절
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> encoder.matches("pw", "pw"))
+                    .isInstanceOf(LoginOverloadedException.class);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000L);
+            assertThat(registry.get("auth.login.rejected").counter().count()).isEqualTo(1.0);
+
+            // [THEN] 붙잡아 둔 검증을 풀면 앞선 2건은 정상 처리
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 : 대기 + 검증이 timeout 을 넘기면 LoginOverloadedException")
+    void matches_timesOut() {
+        // [GIVEN] 풀리지 않는 검증, timeout 100ms
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CountDownLatch release = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(
+                new BlockingEncoder(release), registry, 1, 1, 100L);
+
+        try {
+            // [WHEN & THEN]
+            assertThatThrownBy(() -> encoder.matches("pw", "pw"))
+                    .isInstanceOf(LoginOverloadedException.class);
+            assertThat(registry.get("auth.login.rejected").counter().count()).isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000L;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5L);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    // release 가 열릴 때까지 검증을 붙잡아 두는 encoder (평문 비교)
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+        private final AtomicInteger started = new AtomicInteger();
+        private volatile String threadName;
+
+        private BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.incrementAndGet();
+            threadName = Thread.currentThread().getName();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.global.security.jwt;
+
+import com.example.demo.domain.user.entity.User;
+import com.example.demo.global.security.CustomUserDetails;
+import com.example.demo.global.security.jwt.properties.JwtProperties;
+import com.example.demo.global.security.jwt.service.JwtService;
+import com.example.demo.global.security.jwt.token.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    JwtService.verify 마이크로 벤치마크 (스프링 컨텍스트 없이 실행)
+    - 기존 필터 경로 : validateToken + getJti + getUsername
+        >> 호출마다 서명 키 생성 + 파서 생성 + 서명 검증 (요청당 3회)
+    - 변경 필터 경로 : verify 1회 (캐시된 키/파서, 서명 검증 1회)
+    - 시간은 환경에 따라 달라지므로 결과만 출력하고, 검증은 두 경로의 결과 일치 여부로 한다.
+    - @Tag("benchmark") : 기본 test 에서 제외, ./gradlew benchmark 로 실행
+*/
+@Tag("benchmark")
+public class JwtServiceVerifyBenchmarkTest {
+
+    private static final String SECRET = "benchmark-secret-key-at-least-32-bytes-long!!";
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    @DisplayName("JWT 검증 : verify 1회 파싱이 기존 3회 파싱 경로와 같은 결과를 반환")
+    void verify_parseOnce_benchmark() {
+        // [GIVEN] JwtService + Access 토큰 준비
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setAccessTokenExpMinutes(15);
+        JwtService jwtService = new JwtService(properties);
+
+        User user = User.builder()
+                .username("benchuser")
+                .password("encoded")
+                .email("bench@test.com")
+                .nickname("bench")
+                .build();
+        String token = jwtService.generateAccessToken(new CustomUserDetails(user));
+
+        // [WHEN] 워밍업 후 두 경로를 같은 횟수만큼 실행
+        for (int i = 0; i < WARMUP; i++) {
+            legacyFilterPath(token);
+            verifyFilterPath(jwtService, token);
+        }
+
+        long legacyStart = System.nanoTime();
+        String legacyResult = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacyResult = legacyFilterPath(token);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        long verifyStart = System.nanoTime();
+        String verifyResult = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            verifyResult = verifyFilterPath(jwtService, token);
+        }
+        long verifyNanos = System.nanoTime() - verifyStart;
+
+        System.out.printf("[JWT BENCH] legacy(3 parses)=%d ns/op, verify(1 parse)=%d ns/op%n",
+                legacyNanos / ITERATIONS, verifyNanos / ITERATIONS);
+
+        // [THEN] 두 경로 모두 같은 jti/username 을 읽어야 함
+        assertThat(verifyResult).isEqualTo(legacyResult);
+        assertThat(verifyResult).endsWith(":benchuser");
+        assertThat(jwtService.verify("invalid.token.value")).isNull();
+    }
+
+    // 변경 전 필터 흐름 재현 : 호출마다 키/파서 생성 + 3회 검증
+    private static String legacyFilterPath(String token) {
+        if (parseLegacy(token) == null) {
+            return null;
+        }
+        String jti = parseLegacy(token).get(VerifiedToken.CLAIM_JTI, String.class);
+        String username = parseLegacy(token).getSubject();
+        return jti + ":" + username;
+    }
+
+    private static Claims parseLegacy(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    // 변경 후 필터 흐름 : verify 1회
+    private static String verifyFilterPath(JwtService jwtService, String token) {
+        VerifiedToken verified = jwtService.verify(token);
+        if (verified == null) {
+            return null;
+        }
+        return verified.getJti() + ":" + verified.getUsername();
+    }
+}
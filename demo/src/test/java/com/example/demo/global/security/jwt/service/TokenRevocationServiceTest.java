@@ -0,0 +1,92 @@
+package com.example.demo.global.security.jwt.service;
+
+import com.example.demo.global.security.jwt.properties.JwtProperties;
+import com.example.demo.global.security.jwt.store.InMemoryRevocationEpochStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    TokenRevocationService 단위 테스트 (Redis 대신 실패를 흉내낼 수 있는 메모리 저장소)
+    - 저장소 기록이 실패해도 epoch 는 버려지지 않고 다음 주기 갱신에서 다시 기록
+    - 첫 전체 로드가 성공하기 전에는 모든 토큰을 무효로 판단 (fail closed)
+*/
+class TokenRevocationServiceTest {
+
+    @Test
+    @DisplayName("토큰 무효화 : 저장소 기록이 실패한 epoch 는 다음 갱신에서 저장소에 닿을 때까지 재시도")
+    void failedWrite_isRetriedOnRefresh() {
+        // [GIVEN] 첫 기록은 실패하는 저장소
+        FlakyEpochStore store = new FlakyEpochStore();
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessTokenExpMinutes(30);
+        TokenRevocationService service = new TokenRevocationService(store, properties);
+        store.failing.set(true);
+
+        // [WHEN]
+        service.revokeAll(1L);
+
+        // [THEN] 저장소에는 없지만 현재 노드는 즉시 차단
+        assertThat(store.findEpochs()).isEmpty();
+        assertThat(service.isRevoked(1L, Instant.now().minusSeconds(1))).isTrue();
+
+        // [WHEN] 저장소 복구 후 주기 갱신
+        store.failing.set(false);
+        service.refresh();
+
+        // [THEN] 다른 노드가 읽을 수 있도록 저장소에 기록됨
+        assertThat(store.findEpochs()).containsKey(1L);
+    }
+
+    @Test
+    @DisplayName("토큰 무효화 : 기동 시 저장소 로드가 실패하면 첫 로드가 성공할 때까지 모든 토큰을 무효로 판단")
+    void failedInitialLoad_rejectsTokensUntilLoaded() {
+        // [GIVEN] 기동 시점에 조회가 실패하는 저장소
+        FlakyEpochStore store = new FlakyEpochStore();
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessTokenExpMinutes(30);
+        TokenRevocationService service = new TokenRevocationService(store, properties);
+        store.failingReads.set(true);
+
+        // [WHEN]
+        service.loadOnStartup();
+
+        // [THEN] 사본이 비어 있어도 통과시키지 않음
+        assertThat(service.isRevoked(1L, Instant.now())).isTrue();
+
+        // [WHEN] 저장소 복구 후 주기 갱신
+        store.failingReads.set(false);
+        service.refresh();
+
+        // [THEN] 무효화 기록이 없는 사용자는 정상 판단
+        assertThat(service.isRevoked(1L, Instant.now())).isFalse();
+    }
+
+    // failing / failingReads 가 true 인 동안 기록 / 조회 실패 (Redis 장애 흉내)
+    private static class FlakyEpochStore extends InMemoryRevocationEpochStore {
+
+        private final AtomicBoolean failing = new AtomicBoolean(false);
+        private final AtomicBoolean failingReads = new AtomicBoolean(false);
+
+        @Override
+        public void saveEpoch(Long userId, long epochMillis) {
+            if (failing.get()) {
+                throw new IllegalStateException("simulated failure");
+            }
+            super.saveEpoch(userId, epochMillis);
+        }
+
+        @Override
+        public Map<Long, Long> findEpochs() {
+            if (failingReads.get()) {
+                throw new IllegalStateException("simulated failure");
+            }
+            return super.findEpochs();
+        }
+    }
+}
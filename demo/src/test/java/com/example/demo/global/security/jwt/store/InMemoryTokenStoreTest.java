@@ -0,0 +1,125 @@
+package com.example.demo.global.security.jwt.store;
+
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RefreshSession;
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RotationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    InMemoryTokenStore 단위 테스트 (스프링 컨텍스트 / Redis 없이 실행)
+    - 시각은 AtomicLong 시계로 직접 진행
+    - RedisTokenStore 의 Lua 스크립트와 같은 규칙(회전/재사용 감지/기기 수 제한)을 따르는지 확인
+    - 타이밍 휠 진행(expire) 후 만료 항목이 메모리에서 제거되는지 확인
+*/
+public class InMemoryTokenStoreTest {
+
+    private static final long TICK_MILLIS = 1_000L;
+
+    private AtomicLong now;
+    private InMemoryTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_700_000_000_000L);
+        store = new InMemoryTokenStore(now::get, TICK_MILLIS);
+    }
+
+    @Test
+    @DisplayName("Refresh 회전 : 저장된 해시와 같으면 ROTATED, 이전 해시 재사용은 REUSE_DETECTED")
+    void rotate_thenReuse() {
+        // [GIVEN]
+        store.saveRefreshSession(1L, "device-a", "hash-1", Duration.ofDays(14), 5);
+
+        // [WHEN]
+        RotationResult first = store.rotateRefreshSession(1L, "device-a", "hash-1", "hash-2", Duration.ofDays(14));
+        RotationResult reused = store.rotateRefreshSession(1L, "device-a", "hash-1", "hash-3", Duration.ofDays(14));
+
+        // [THEN]
+        assertThat(first).isEqualTo(RotationResult.ROTATED);
+        assertThat(reused).isEqualTo(RotationResult.REUSE_DETECTED);
+        assertThat(store.rotateRefreshSession(1L, "device-b", "hash-2", "hash-3", Duration.ofDays(14)))
+                .isEqualTo(RotationResult.MISSING);
+    }
+
+    @Test
+    @DisplayName("기기 수 제한 : 초과 시 마지막 발급이 가장 오래된 기기부터 제거")
+    void save_evictsLeastRecentlyIssuedDevice() {
+        // [GIVEN] 최대 2대, device-a 가 가장 오래 사용하지 않은 기기
+        store.saveRefreshSession(1L, "device-a", "hash-a", Duration.ofDays(14), 2);
+        now.addAndGet(1_000L);
+        store.saveRefreshSession(1L, "device-b", "hash-b", Duration.ofDays(14), 2);
+
+        // [WHEN]
+        now.addAndGet(1_000L);
+        int evicted = store.saveRefreshSession(1L, "device-c", "hash-c", Duration.ofDays(14), 2);
+
+        // [THEN]
+        assertThat(evicted).isEqualTo(1);
+        assertThat(store.findRefreshSessions(1L))
+                .extracting(RefreshSession::deviceId)
+                .containsExactlyInAnyOrder("device-b", "device-c");
+    }
+
+    @Test
+    @DisplayName("만료 : TTL 이 지나면 조회/회전에서 보이지 않고, 휠 진행 후 메모리에서 제거")
+    void expire_removesEntriesAfterTtl() {
+        // [GIVEN]
+        store.saveRefreshSession(1L, "device-a", "hash-1", Duration.ofMinutes(5), 5);
+        store.blacklist("jti-1", Duration.ofSeconds(30));
+        assertThat(store.isBlacklisted("jti-1")).isTrue();
+        assertThat(store.scheduledCount()).isEqualTo(2);
+
+        // [WHEN] 블랙리스트만 만료되는 시점
+        now.addAndGet(Duration.ofSeconds(31).toMillis());
+        store.expire();
+
+        // [THEN]
+        assertThat(store.isBlacklisted("jti-1")).isFalse();
+        assertThat(store.findRefreshSessions(1L)).hasSize(1);
+        assertThat(store.scheduledCount()).isEqualTo(1);
+
+        // [WHEN] Refresh 도 만료 (level 0 범위를 넘는 TTL -> 상위 단계에서 cascade)
+        now.addAndGet(Duration.ofMinutes(5).toMillis());
+        List<RefreshSession> beforeSweep = store.findRefreshSessions(1L);
+        store.expire();
+
+        // [THEN]
+        assertThat(beforeSweep).isEmpty();
+        assertThat(store.rotateRefreshSession(1L, "device-a", "hash-1", "hash-2", Duration.ofMinutes(5)))
+                .isEqualTo(RotationResult.MISSING);
+        assertThat(store.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("타이밍 휠 : 최상위 단계 범위를 넘는 만료도 정확한 tick 에 만료")
+    void timingWheel_farDeadline() {
+        // [GIVEN]
+        long start = 0L;
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1L, start);
+        long far = (1L << 24) + 12_345L; // 64^4 tick 초과
+        wheel.schedule("near", 70L);
+        wheel.schedule("far", far);
+
+        List<String> expired = new ArrayList<>();
+
+        // [WHEN / THEN]
+        wheel.advance(69L, expired::add);
+        assertThat(expired).isEmpty();
+        wheel.advance(70L, expired::add);
+        assertThat(expired).containsExactly("near");
+
+        wheel.advance(far - 1, expired::add);
+        assertThat(expired).containsExactly("near");
+        wheel.advance(far, expired::add);
+        assertThat(expired).containsExactly("near", "far");
+        assertThat(wheel.size()).isZero();
+    }
+}
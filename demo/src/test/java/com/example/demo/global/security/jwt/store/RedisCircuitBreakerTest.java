@@ -0,0 +1,88 @@
+package com.example.demo.global.security.jwt.store;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    RedisCircuitBreaker 단위 테스트 (Redis 없이 실패하는 Supplier 로 확인)
+    - 연속 실패 -> OPEN -> Redis 호출 없이 fallback
+    - open-duration 경과 -> 시험 호출 1건 성공 -> CLOSED
+    - 상태 전환 / fallback 횟수가 지표로 남는지 확인
+*/
+public class RedisCircuitBreakerTest {
+
+    @Test
+    @DisplayName("서킷 브레이커 : 연속 실패 시 OPEN, OPEN 동안 호출 생략 후 시험 호출 성공 시 CLOSED")
+    void opensAfterFailures_thenRecovers() throws InterruptedException {
+        // [GIVEN] 실패 2회면 OPEN, OPEN 유지 50ms
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedisCircuitBreaker breaker = new RedisCircuitBreaker("test", registry, 1_000L, 2, 50L);
+        AtomicInteger redisCalls = new AtomicInteger();
+
+        // [WHEN] 실패 2회
+        for (int i = 0; i < 2; i++) {
+            boolean result = breaker.execute("isBlacklisted", () -> {
+                redisCalls.incrementAndGet();
+                throw new IllegalStateException("redis down");
+            }, () -> true);
+            assertThat(result).isTrue(); // fallback 결과
+        }
+
+        // [THEN] OPEN : 호출 자체를 하지 않고 fallback
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        boolean skipped = breaker.execute("isBlacklisted", () -> {
+            redisCalls.incrementAndGet();
+            return false;
+        }, () -> true);
+        assertThat(skipped).isTrue();
+        assertThat(redisCalls.get()).isEqualTo(2);
+
+        // [WHEN] open-duration 경과 후 시험 호출 성공
+        Thread.sleep(80L);
+        boolean trial = breaker.execute("isBlacklisted", () -> {
+            redisCalls.incrementAndGet();
+            return false;
+        }, () -> true);
+
+        // [THEN]
+        assertThat(trial).isFalse();
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.CLOSED);
+        assertThat(registry.get("redis.circuit.fallback").tag("op", "isBlacklisted").counter().count())
+                .isEqualTo(3.0);
+        assertThat(registry.get("redis.circuit.transitions").tag("to", "OPEN").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("redis.circuit.state").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 : 지연 예산 초과 호출은 결과를 쓰되 실패로 집계")
+    void slowCallsCountAsFailures() {
+        // [GIVEN] 지연 예산 0ms, 실패 1회면 OPEN
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RedisCircuitBreaker breaker = new RedisCircuitBreaker("test", registry, 0L, 1, 60_000L);
+
+        // [WHEN]
+        String result = breaker.execute("findRefreshSessions", () -> {
+            busyWait(2_000_000L);
+            return "value";
+        }, () -> "fallback");
+
+        // [THEN]
+        assertThat(result).isEqualTo("value");
+        assertThat(breaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(registry.get("redis.circuit.failures").tag("type", "slow").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static void busyWait(long nanos) {
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < nanos) {
+            Thread.onSpinWait();
+        }
+    }
+}
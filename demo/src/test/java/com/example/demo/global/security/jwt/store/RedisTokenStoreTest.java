@@ -0,0 +1,322 @@
+package com.example.demo.global.security.jwt.store;
+
+import com.example.demo.global.exception.TokenStoreUnavailableException;
+import com.example.demo.global.security.jwt.service.RefreshTokenService.RotationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+    RedisTokenStore 단위 테스트 (Redis 서버 대신 메모리 키 저장소 + Pub/Sub 버스를 흉내내는 RedisTemplate)
+    - 노드 2개(A, B)가 같은 가짜 Redis 를 공유
+    - 블랙리스트 near-cache
+        - 동기화 후에는 다른 노드의 등록을 채널 메시지로 받아 Redis 조회 없이 판단
+        - 빈 순번(메시지 유실)이 한 주기 넘게 채워지지 않으면 동기화 깨짐 -> SCAN 으로 다시 채움
+        - 채널이 조용하면(하트비트 없음) Redis EXISTS 조회로 복귀
+    - Refresh 기기 세션 저장 (Lua 스크립트) : 인자 순서, 최대 기기 수 하한 1, 제거된 기기 수 반환
+    - Refresh 회전 (Lua CAS 스크립트)
+        - 스크립트 인자 순서(KEYS / ARGV)와 반환 코드 -> RotationResult 변환
+        - 스크립트 실행 실패 시 fail-closed (TokenStoreUnavailableException)
+        - 스크립트 자체의 회전/재사용 규칙은 같은 규칙의 InMemoryTokenStoreTest 에서 확인 (Redis 서버 필요 X)
+*/
+class RedisTokenStoreTest {
+
+    private static final long HEARTBEAT_MS = 100L;
+
+    @Test
+    @DisplayName("near-cache : 동기화 후 다른 노드의 블랙리스트 등록은 채널 메시지로 반영되어 Redis 조회 없이 차단")
+    void nearCache_receivesOtherNodeEvents() {
+        // [GIVEN] 두 노드 구독 + 첫 주기에서 SCAN 으로 동기화
+        FakeRedis redis = new FakeRedis();
+        Node a = new Node(redis);
+        Node b = new Node(redis);
+        syncBoth(a, b);
+
+        // [WHEN]
+        a.store.blacklist("jti-1", Duration.ofMinutes(5));
+
+        // [THEN]
+        assertThat(b.store.isBlacklisted("jti-1")).isTrue();
+        assertThat(b.store.isBlacklisted("jti-unknown")).isFalse();
+        assertThat(redis.hasKeyCalls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("near-cache : 놓친 메시지(빈 순번)가 한 주기 넘게 채워지지 않으면 SCAN 으로 다시 채워 놓친 등록도 차단")
+    void nearCache_lostEvent_reseedsFromScan() throws InterruptedException {
+        // [GIVEN]
+        FakeRedis redis = new FakeRedis();
+        Node a = new Node(redis);
+        Node b = new Node(redis);
+        syncBoth(a, b);
+        int scansBefore = redis.scanCalls.get();
+
+        // [WHEN] B 에 전달되지 않은 등록 이후 A 의 하트비트만 도착 -> B 는 빈 순번을 봄
+        b.container.muted.set(true);
+        a.store.blacklist("jti-lost", Duration.ofMinutes(5));
+        b.container.muted.set(false);
+        a.store.heartbeat();
+
+        // [WHEN] 한 주기 넘게 빈 순번이 채워지지 않은 뒤 B 의 주기 작업
+        Thread.sleep(HEARTBEAT_MS + HEARTBEAT_MS / 2);
+        b.store.heartbeat();
+
+        // [THEN] 동기화 깨짐 -> SCAN 재시드로 놓친 jti 도 메모리에서 차단
+        assertThat(redis.scanCalls.get()).isGreaterThan(scansBefore);
+        int hasKeyBefore = redis.hasKeyCalls.get();
+        assertThat(b.store.isBlacklisted("jti-lost")).isTrue();
+        assertThat(redis.hasKeyCalls.get()).isEqualTo(hasKeyBefore);
+    }
+
+    @Test
+    @DisplayName("near-cache : 하트비트가 주기 x 3 동안 없으면 Redis EXISTS 조회로 복귀")
+    void nearCache_silentChannel_fallsBackToRedis() throws InterruptedException {
+        // [GIVEN]
+        FakeRedis redis = new FakeRedis();
+        Node a = new Node(redis);
+        Node b = new Node(redis);
+        syncBoth(a, b);
+
+        // [WHEN] B 가 채널 메시지를 받지 못하는 동안 A 가 등록
+        b.container.muted.set(true);
+        a.store.blacklist("jti-silent", Duration.ofMinutes(5));
+        Thread.sleep(HEARTBEAT_MS * 4);
+        b.store.heartbeat();
+
+        // [THEN] 메모리 사본에는 없지만 Redis 조회로 차단
+        assertThat(b.store.isBlacklisted("jti-silent")).isTrue();
+        assertThat(redis.hasKeyCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Refresh 회전 : 스크립트에 KEYS / ARGV 를 정해진 순서로 넘기고 반환 코드 0/1/2 를 결과로 변환")
+    void rotate_passesScriptArguments_andMapsResult() {
+        // [GIVEN] 스크립트 반환 코드 : 2(회전) -> 1(불일치) -> 0(없음)
+        FakeRedis redis = new FakeRedis();
+        RedisTokenStore store = new Node(redis).store;
+        redis.scriptResults.addAll(List.of(2L, 1L, 0L));
+
+        // [WHEN]
+        long before = System.currentTimeMillis();
+        RotationResult rotated = store.rotateRefreshSession(1L, "device-a", "hash-1", "hash-2", Duration.ofDays(14));
+        RotationResult reused = store.rotateRefreshSession(1L, "device-a", "hash-1", "hash-3", Duration.ofDays(14));
+        RotationResult missing = store.rotateRefreshSession(1L, "device-b", "hash-1", "hash-3", Duration.ofDays(14));
+
+        // [THEN]
+        assertThat(rotated).isEqualTo(RotationResult.ROTATED);
+        assertThat(reused).isEqualTo(RotationResult.REUSE_DETECTED);
+        assertThat(missing).isEqualTo(RotationResult.MISSING);
+
+        // [THEN] KEYS[1] = 사용자 Hash, ARGV = deviceId, 보낸 해시, 새 해시, 현재 ms, 새 만료 ms, key TTL ms
+        ScriptCall call = redis.scriptCalls.get(0);
+        assertThat(call.keys()).containsExactly("auth:refresh:1");
+        assertThat(call.args()).hasSize(6);
+        assertThat(call.args()[0]).isEqualTo("device-a");
+        assertThat(call.args()[1]).isEqualTo("hash-1");
+        assertThat(call.args()[2]).isEqualTo("hash-2");
+        long now = Long.parseLong((String) call.args()[3]);
+        assertThat(now).isGreaterThanOrEqualTo(before);
+        assertThat(Long.parseLong((String) call.args()[4])).isEqualTo(now + Duration.ofDays(14).toMillis());
+        assertThat(call.args()[5]).isEqualTo(String.valueOf(Duration.ofDays(14).toMillis()));
+    }
+
+    @Test
+    @DisplayName("Refresh 회전 : 스크립트 실행이 실패하면 불확실한 상태로 진행하지 않고 TokenStoreUnavailableException")
+    void rotate_failsClosedWhenScriptFails() {
+        // [GIVEN]
+        FakeRedis redis = new FakeRedis();
+        RedisTokenStore store = new Node(redis).store;
+        redis.scriptFailing.set(true);
+
+        // [WHEN & THEN]
+        assertThatThrownBy(() -> store.rotateRefreshSession(1L, "device-a", "hash-1", "hash-2", Duration.ofDays(14)))
+                .isInstanceOf(TokenStoreUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("기기 세션 저장 : 스크립트에 ARGV 를 정해진 순서로 넘기고(최대 기기 수 최소 1) 제거된 기기 수를 반환")
+    void save_passesScriptArguments_andReturnsEvicted() {
+        // [GIVEN] 스크립트가 기기 2대를 제거했다고 응답
+        FakeRedis redis = new FakeRedis();
+        RedisTokenStore store = new Node(redis).store;
+        redis.scriptResults.add(2L);
+
+        // [WHEN] 잘못된 최대 기기 수(0)로 저장
+        int evicted = store.saveRefreshSession(7L, "device-a", "hash-a", Duration.ofDays(14), 0);
+
+        // [THEN] KEYS[1] = 사용자 Hash, ARGV = deviceId, 해시, 현재 ms, 만료 ms, 최대 기기 수, key TTL ms
+        assertThat(evicted).isEqualTo(2);
+        ScriptCall call = redis.scriptCalls.get(0);
+        assertThat(call.keys()).containsExactly("auth:refresh:7");
+        assertThat(call.args()).hasSize(6);
+        assertThat(call.args()[0]).isEqualTo("device-a");
+        assertThat(call.args()[1]).isEqualTo("hash-a");
+        long now = Long.parseLong((String) call.args()[2]);
+        assertThat(Long.parseLong((String) call.args()[3])).isEqualTo(now + Duration.ofDays(14).toMillis());
+        assertThat(call.args()[4]).isEqualTo("1");
+        assertThat(call.args()[5]).isEqualTo(String.valueOf(Duration.ofDays(14).toMillis()));
+    }
+
+    // 구독 순서 : 둘 다 구독한 뒤 주기 작업 (먼저 구독한 노드의 첫 메시지를 나중 노드가 못 받아도 재시드 전이라 빈 순번 X)
+    private static void syncBoth(Node a, Node b) {
+        a.store.subscribe();
+        b.store.subscribe();
+        a.store.heartbeat();
+        b.store.heartbeat();
+    }
+
+    // 같은 FakeRedis 를 쓰는 노드 1개
+    private static final class Node {
+        private final FakeListenerContainer container;
+        private final RedisTokenStore store;
+
+        private Node(FakeRedis redis) {
+            this.container = new FakeListenerContainer();
+            redis.containers.add(container);
+            this.store = new RedisTokenStore(redis, container, new SimpleMeterRegistry(),
+                    1_000L, 5, 5_000L, RedisTokenStore.BlacklistFallback.LOCAL);
+            ReflectionTestUtils.setField(store, "nearCacheEnabled", true);
+            ReflectionTestUtils.setField(store, "heartbeatIntervalMs", HEARTBEAT_MS);
+        }
+    }
+
+    // 구독 등록만 보관, muted 면 메시지를 받지 못함 (채널 끊김 / 유실 흉내)
+    private static final class FakeListenerContainer extends RedisMessageListenerContainer {
+        private final List<MessageListener> listeners = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean muted = new AtomicBoolean(false);
+
+        @Override
+        public void addMessageListener(MessageListener listener, Topic topic) {
+            listeners.add(listener);
+        }
+
+        private void deliver(byte[] channel, byte[] body) {
+            if (muted.get()) {
+                return;
+            }
+            listeners.forEach(listener -> listener.onMessage(new DefaultMessage(channel, body), null));
+        }
+    }
+
+    /*
+        키 저장소 (key -> 만료 ms) + 발행 시 모든 컨테이너에 바로 전달
+        - opsForValue().set / hasKey / scan / getExpire / convertAndSend(publish) 만 처리
+     */
+    private static final class FakeRedis extends StringRedisTemplate {
+        private final Map<String, Long> keys = new ConcurrentHashMap<>();
+        private final List<FakeListenerContainer> containers = new CopyOnWriteArrayList<>();
+        private final AtomicInteger hasKeyCalls = new AtomicInteger();
+        private final AtomicInteger scanCalls = new AtomicInteger();
+        private final Deque<Long> scriptResults = new ArrayDeque<>();
+        private final List<ScriptCall> scriptCalls = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean scriptFailing = new AtomicBoolean(false);
+
+        // Lua 스크립트는 실행하지 않고 인자만 기록, 미리 넣어 둔 반환값을 순서대로 돌려줌
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            if (scriptFailing.get()) {
+                throw new IllegalStateException("simulated redis failure");
+            }
+            scriptCalls.add(new ScriptCall(keys, args));
+            return (T) scriptResults.poll();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValueOperations<String, String> opsForValue() {
+            return (ValueOperations<String, String>) Proxy.newProxyInstance(
+                    ValueOperations.class.getClassLoader(),
+                    new Class<?>[]{ValueOperations.class},
+                    (proxy, method, args) -> {
+                        if ("set".equals(method.getName()) && args.length == 3 && args[2] instanceof Duration ttl) {
+                            keys.put((String) args[0], System.currentTimeMillis() + ttl.toMillis());
+                            return null;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        @Override
+        public Boolean hasKey(String key) {
+            hasKeyCalls.incrementAndGet();
+            Long expiresAt = keys.get(key);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        }
+
+        @Override
+        public Long getExpire(String key, TimeUnit timeUnit) {
+            Long expiresAt = keys.get(key);
+            return (expiresAt != null) ? timeUnit.convert(expiresAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS) : -2L;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Cursor<String> scan(ScanOptions options) {
+            scanCalls.incrementAndGet();
+            String prefix = options.getPattern().replace("*", "");
+            Iterator<String> matched = keys.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .toList()
+                    .iterator();
+            return (Cursor<String>) Proxy.newProxyInstance(
+                    Cursor.class.getClassLoader(),
+                    new Class<?>[]{Cursor.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "hasNext" -> matched.hasNext();
+                        case "next" -> matched.next();
+                        case "close" -> null;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        // convertAndSend 는 연결의 publish 로 실행됨 -> publish 만 처리하는 연결로 콜백 실행
+        @Override
+        public <T> T execute(RedisCallback<T> action, boolean exposeConnection) {
+            RedisConnection connection = (RedisConnection) Proxy.newProxyInstance(
+                    RedisConnection.class.getClassLoader(),
+                    new Class<?>[]{RedisConnection.class},
+                    (proxy, method, args) -> {
+                        if ("publish".equals(method.getName())) {
+                            byte[] channel = (byte[]) args[0];
+                            byte[] body = (byte[]) args[1];
+                            containers.forEach(container -> container.deliver(channel, body));
+                            return (long) containers.size();
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+            return action.doInRedis(connection);
+        }
+    }
+
+    private record ScriptCall(List<String> keys, Object[] args) {
+    }
+}
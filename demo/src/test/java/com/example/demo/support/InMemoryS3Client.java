@@ -0,0 +1,193 @@
+package com.example.demo.support;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/*
+    InMemoryS3Client
+    - 테스트/벤치마크용 프로세스 내 S3 대역 (네트워크, 실제 버킷 없이 S3Client 인터페이스만 구현)
+    - 지원 : putObject / createMultipartUpload / uploadPart / completeMultipartUpload / abortMultipartUpload
+    - S3 규칙 일부 재현
+        - 마지막 조각을 제외한 조각은 5MB 이상 (Complete 시 검사, 위반 시 400)
+        - Complete 의 조각 목록 ETag 가 업로드된 조각과 다르면 400
+    - 전송 비용 흉내 : 요청 1건당 고정 지연(requestLatencyMs) + 크기 / 연결 1개 대역폭(bytesPerSecond)
+    - 장애 주입 : failPart(조각 번호 -> 실패 여부) 가 true 인 조각 요청은 503
+*/
+public class InMemoryS3Client implements S3Client {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final long requestLatencyMs;
+    private final long bytesPerSecond;
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger abortCount = new AtomicInteger();
+    private volatile IntPredicate failPart = partNumber -> false;
+
+    public InMemoryS3Client(long requestLatencyMs, long bytesPerSecond) {
+        this.requestLatencyMs = requestLatencyMs;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    public void failPart(IntPredicate failPart) {
+        this.failPart = failPart;
+    }
+
+    public byte[] object(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public int abortCount() {
+        return abortCount.get();
+    }
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        byte[] bytes = transfer(body);
+        objects.put(request.bucket() + "/" + request.key(), bytes);
+        return PutObjectResponse.builder().eTag(etag(bytes)).build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        simulate(0);
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        Map<Integer, byte[]> parts = uploads.get(request.uploadId());
+        if (parts == null) {
+            throw error(404, "NoSuchUpload");
+        }
+        if (failPart.test(request.partNumber())) {
+            simulate(0);
+            throw error(503, "SlowDown");
+        }
+        byte[] bytes = transfer(body);
+        parts.put(request.partNumber(), bytes);
+        return UploadPartResponse.builder().eTag(etag(bytes)).build();
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        simulate(0);
+        Map<Integer, byte[]> parts = uploads.get(request.uploadId());
+        if (parts == null) {
+            throw error(404, "NoSuchUpload");
+        }
+
+        ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+        List<CompletedPart> completed = request.multipartUpload().parts();
+        for (int i = 0; i < completed.size(); i++) {
+            CompletedPart part = completed.get(i);
+            byte[] bytes = parts.get(part.partNumber());
+            if (bytes == null || !etag(bytes).equals(part.eTag())) {
+                throw error(400, "InvalidPart");
+            }
+            if (i < completed.size() - 1 && bytes.length < MIN_PART_SIZE) {
+                throw error(400, "EntityTooSmall");
+            }
+            assembled.writeBytes(bytes);
+        }
+        uploads.remove(request.uploadId());
+        objects.put(request.bucket() + "/" + request.key(), assembled.toByteArray());
+        return CompleteMultipartUploadResponse.builder().eTag(etag(assembled.toByteArray())).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        simulate(0);
+        abortCount.incrementAndGet();
+        uploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private byte[] transfer(RequestBody body) {
+        byte[] bytes;
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            bytes = in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        simulate(bytes.length);
+        return bytes;
+    }
+
+    // 요청 1건의 전송 시간 흉내 (고정 지연 + 크기 / 대역폭)
+    private void simulate(long bytes) {
+        requestCount.incrementAndGet();
+        long nanos = requestLatencyMs * 1_000_000L
+                + (bytesPerSecond > 0 ? bytes * 1_000_000_000L / bytesPerSecond : 0L);
+        try {
+            Thread.sleep(nanos / 1_000_000L, (int) (nanos % 1_000_000L));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SdkClientException.create("interrupted");
+        }
+    }
+
+    // 실제 S3 와 같이 단일 객체/조각 ETag = 내용의 MD5
+    private static String etag(byte[] bytes) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(bytes)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static S3Exception error(int status, String code) {
+        return (S3Exception) S3Exception.builder()
+                .statusCode(status)
+                .message(code)
+                .build();
+    }
+}